@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>Runs the selected benchmarks with the GC profiler attached, so every result reports ops/s next
+ * to the allocation rate ({@code gc.alloc.rate.norm}), and writes the results to {@code
+ * trans4j-benchmarks.json}. Any regular JMH command line option can be passed to override these
+ * defaults, e.g. {@code java -jar benchmarks.jar TranslationServiceBenchmark -p
+ * implementation=simple}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command line options
+   * @throws RunnerException if a benchmark fails to run
+   * @throws CommandLineOptionException if the command line options cannot be parsed
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    Options options =
+        new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("trans4j-benchmarks.json")
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import io.github.oiltea.trans4j.core.Translate;
+import lombok.Getter;
+
+/**
+ * Benchmark payload carrying ten {@link Translate} fields.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Getter
+public class Dto10 {
+
+  private long id = 1L;
+
+  private String name = "trans4j";
+
+  private String code1 = "1";
+
+  @Translate(key = "dict-1", from = "code1")
+  private String label1;
+
+  private String code2 = "2";
+
+  @Translate(key = "dict-2", from = "code2")
+  private String label2;
+
+  private String code3 = "3";
+
+  @Translate(key = "dict-3", from = "code3")
+  private String label3;
+
+  private String code4 = "4";
+
+  @Translate(key = "dict-4", from = "code4")
+  private String label4;
+
+  private String code5 = "5";
+
+  @Translate(key = "dict-5", from = "code5")
+  private String label5;
+
+  private String code6 = "6";
+
+  @Translate(key = "dict-6", from = "code6")
+  private String label6;
+
+  private String code7 = "7";
+
+  @Translate(key = "dict-7", from = "code7")
+  private String label7;
+
+  private String code8 = "8";
+
+  @Translate(key = "dict-0", from = "code8")
+  private String label8;
+
+  private String code9 = "9";
+
+  @Translate(key = "dict-1", from = "code9")
+  private String label9;
+
+  private String code10 = "10";
+
+  @Translate(key = "dict-2", from = "code10")
+  private String label10;
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import io.github.oiltea.trans4j.core.Translate;
+import lombok.Getter;
+
+/**
+ * Benchmark payload carrying fifty {@link Translate} fields.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Getter
+public class Dto50 {
+
+  private long id = 1L;
+
+  private String name = "trans4j";
+
+  private String code1 = "1";
+
+  @Translate(key = "dict-1", from = "code1")
+  private String label1;
+
+  private String code2 = "2";
+
+  @Translate(key = "dict-2", from = "code2")
+  private String label2;
+
+  private String code3 = "3";
+
+  @Translate(key = "dict-3", from = "code3")
+  private String label3;
+
+  private String code4 = "4";
+
+  @Translate(key = "dict-4", from = "code4")
+  private String label4;
+
+  private String code5 = "5";
+
+  @Translate(key = "dict-5", from = "code5")
+  private String label5;
+
+  private String code6 = "6";
+
+  @Translate(key = "dict-6", from = "code6")
+  private String label6;
+
+  private String code7 = "7";
+
+  @Translate(key = "dict-7", from = "code7")
+  private String label7;
+
+  private String code8 = "8";
+
+  @Translate(key = "dict-0", from = "code8")
+  private String label8;
+
+  private String code9 = "9";
+
+  @Translate(key = "dict-1", from = "code9")
+  private String label9;
+
+  private String code10 = "10";
+
+  @Translate(key = "dict-2", from = "code10")
+  private String label10;
+
+  private String code11 = "11";
+
+  @Translate(key = "dict-3", from = "code11")
+  private String label11;
+
+  private String code12 = "12";
+
+  @Translate(key = "dict-4", from = "code12")
+  private String label12;
+
+  private String code13 = "13";
+
+  @Translate(key = "dict-5", from = "code13")
+  private String label13;
+
+  private String code14 = "14";
+
+  @Translate(key = "dict-6", from = "code14")
+  private String label14;
+
+  private String code15 = "15";
+
+  @Translate(key = "dict-7", from = "code15")
+  private String label15;
+
+  private String code16 = "0";
+
+  @Translate(key = "dict-0", from = "code16")
+  private String label16;
+
+  private String code17 = "1";
+
+  @Translate(key = "dict-1", from = "code17")
+  private String label17;
+
+  private String code18 = "2";
+
+  @Translate(key = "dict-2", from = "code18")
+  private String label18;
+
+  private String code19 = "3";
+
+  @Translate(key = "dict-3", from = "code19")
+  private String label19;
+
+  private String code20 = "4";
+
+  @Translate(key = "dict-4", from = "code20")
+  private String label20;
+
+  private String code21 = "5";
+
+  @Translate(key = "dict-5", from = "code21")
+  private String label21;
+
+  private String code22 = "6";
+
+  @Translate(key = "dict-6", from = "code22")
+  private String label22;
+
+  private String code23 = "7";
+
+  @Translate(key = "dict-7", from = "code23")
+  private String label23;
+
+  private String code24 = "8";
+
+  @Translate(key = "dict-0", from = "code24")
+  private String label24;
+
+  private String code25 = "9";
+
+  @Translate(key = "dict-1", from = "code25")
+  private String label25;
+
+  private String code26 = "10";
+
+  @Translate(key = "dict-2", from = "code26")
+  private String label26;
+
+  private String code27 = "11";
+
+  @Translate(key = "dict-3", from = "code27")
+  private String label27;
+
+  private String code28 = "12";
+
+  @Translate(key = "dict-4", from = "code28")
+  private String label28;
+
+  private String code29 = "13";
+
+  @Translate(key = "dict-5", from = "code29")
+  private String label29;
+
+  private String code30 = "14";
+
+  @Translate(key = "dict-6", from = "code30")
+  private String label30;
+
+  private String code31 = "15";
+
+  @Translate(key = "dict-7", from = "code31")
+  private String label31;
+
+  private String code32 = "0";
+
+  @Translate(key = "dict-0", from = "code32")
+  private String label32;
+
+  private String code33 = "1";
+
+  @Translate(key = "dict-1", from = "code33")
+  private String label33;
+
+  private String code34 = "2";
+
+  @Translate(key = "dict-2", from = "code34")
+  private String label34;
+
+  private String code35 = "3";
+
+  @Translate(key = "dict-3", from = "code35")
+  private String label35;
+
+  private String code36 = "4";
+
+  @Translate(key = "dict-4", from = "code36")
+  private String label36;
+
+  private String code37 = "5";
+
+  @Translate(key = "dict-5", from = "code37")
+  private String label37;
+
+  private String code38 = "6";
+
+  @Translate(key = "dict-6", from = "code38")
+  private String label38;
+
+  private String code39 = "7";
+
+  @Translate(key = "dict-7", from = "code39")
+  private String label39;
+
+  private String code40 = "8";
+
+  @Translate(key = "dict-0", from = "code40")
+  private String label40;
+
+  private String code41 = "9";
+
+  @Translate(key = "dict-1", from = "code41")
+  private String label41;
+
+  private String code42 = "10";
+
+  @Translate(key = "dict-2", from = "code42")
+  private String label42;
+
+  private String code43 = "11";
+
+  @Translate(key = "dict-3", from = "code43")
+  private String label43;
+
+  private String code44 = "12";
+
+  @Translate(key = "dict-4", from = "code44")
+  private String label44;
+
+  private String code45 = "13";
+
+  @Translate(key = "dict-5", from = "code45")
+  private String label45;
+
+  private String code46 = "14";
+
+  @Translate(key = "dict-6", from = "code46")
+  private String label46;
+
+  private String code47 = "15";
+
+  @Translate(key = "dict-7", from = "code47")
+  private String label47;
+
+  private String code48 = "0";
+
+  @Translate(key = "dict-0", from = "code48")
+  private String label48;
+
+  private String code49 = "1";
+
+  @Translate(key = "dict-1", from = "code49")
+  private String label49;
+
+  private String code50 = "2";
+
+  @Translate(key = "dict-2", from = "code50")
+  private String label50;
+}
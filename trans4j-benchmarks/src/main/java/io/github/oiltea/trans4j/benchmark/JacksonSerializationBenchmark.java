@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.oiltea.trans4j.core.SimpleTranslationService;
+import io.github.oiltea.trans4j.core.TranslationService;
+import io.github.oiltea.trans4j.jackson.TranslationJackson2Module;
+import io.github.oiltea.trans4j.jackson.TranslationJackson3Module;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures end-to-end {@code ObjectMapper.writeValueAsString} through {@link
+ * TranslationJackson2Module} and {@link TranslationJackson3Module}.
+ *
+ * <p>Both mappers share a warmed {@link SimpleTranslationService}, so the results reflect the cost
+ * of the property writers rather than dictionary loading.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+  @Param({"0", "1", "10", "50"})
+  public int translatedFields;
+
+  private com.fasterxml.jackson.databind.ObjectMapper jackson2;
+
+  private tools.jackson.databind.ObjectMapper jackson3;
+
+  private Object dto;
+
+  /** Builds both mappers around a shared, pre-loaded translation service. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    TranslationService service = new SimpleTranslationService(new SyntheticTranslationProvider(16));
+    jackson2 =
+        com.fasterxml.jackson.databind.json.JsonMapper.builder()
+            .addModule(new TranslationJackson2Module(service))
+            .build();
+    jackson3 =
+        tools.jackson.databind.json.JsonMapper.builder()
+            .addModule(new TranslationJackson3Module(service))
+            .build();
+    dto = createDto();
+  }
+
+  @Benchmark
+  public String jackson2() throws JsonProcessingException {
+    return jackson2.writeValueAsString(dto);
+  }
+
+  @Benchmark
+  public String jackson3() {
+    return jackson3.writeValueAsString(dto);
+  }
+
+  private Object createDto() {
+    switch (translatedFields) {
+      case 0:
+        return new Dto0();
+      case 1:
+        return new Dto1();
+      case 10:
+        return new Dto10();
+      case 50:
+        return new Dto50();
+      default:
+        throw new IllegalArgumentException("Unsupported field count: " + translatedFields);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Translation provider that serves generated dictionaries of a fixed size.
+ *
+ * <p>Each dictionary maps the codes {@code "0"} to {@code size - 1} to a label. Dictionaries are
+ * built once per key and then returned as is, so the provider itself costs next to nothing and the
+ * benchmarks measure the overhead of the translation service in front of it.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class SyntheticTranslationProvider implements TranslationProvider {
+
+  private final int size;
+
+  private final Map<String, Map<String, String>> dictionaries = new ConcurrentHashMap<>();
+
+  public SyntheticTranslationProvider(int size) {
+    this.size = size;
+  }
+
+  @Override
+  public Map<String, String> get(@NonNull String key) {
+    return dictionaries.computeIfAbsent(key, this::build);
+  }
+
+  private Map<String, String> build(String key) {
+    Map<String, String> map = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      map.put(Integer.toString(i), key + "-label-" + i);
+    }
+    return Collections.unmodifiableMap(map);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.benchmark;
+
+import io.github.oiltea.trans4j.cache.CaffeineTranslationService;
+import io.github.oiltea.trans4j.cache.RedisTranslationService;
+import io.github.oiltea.trans4j.core.DefaultTranslationService;
+import io.github.oiltea.trans4j.core.SimpleTranslationService;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Measures {@link TranslationService#translate(String, String)} for every built-in implementation.
+ *
+ * <p>The {@code redis} implementation connects to the server given by the {@code
+ * trans4j.benchmark.redis.host} and {@code trans4j.benchmark.redis.port} system properties
+ * (defaults to {@code localhost:6379}).
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationServiceBenchmark {
+
+  private static final int LOOKUPS = 4096;
+
+  @Param({"default", "simple", "caffeine", "redis"})
+  public String implementation;
+
+  @Param({"16", "1024", "65536"})
+  public int dictionarySize;
+
+  @Param({"1", "64"})
+  public int keyCardinality;
+
+  private TranslationService service;
+
+  private LettuceConnectionFactory connectionFactory;
+
+  private String[] keys;
+
+  private String[] values;
+
+  /** Creates the service under test and the pseudo-random lookup sequence. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    service = createService(new SyntheticTranslationProvider(dictionarySize));
+
+    SplittableRandom random = new SplittableRandom(42);
+    keys = new String[LOOKUPS];
+    values = new String[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      keys[i] = "dict-" + random.nextInt(keyCardinality);
+      values[i] = Integer.toString(random.nextInt(dictionarySize));
+    }
+  }
+
+  /** Releases the Redis connection, if one was opened. */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (connectionFactory != null) {
+      connectionFactory.destroy();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String translateOneThread(Cursor cursor) {
+    return translate(cursor);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String translateFourThreads(Cursor cursor) {
+    return translate(cursor);
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String translateMaxThreads(Cursor cursor) {
+    return translate(cursor);
+  }
+
+  private String translate(Cursor cursor) {
+    int i = cursor.next();
+    return service.translate(keys[i], values[i]);
+  }
+
+  private TranslationService createService(TranslationProvider provider) {
+    switch (implementation) {
+      case "default":
+        return new DefaultTranslationService(provider);
+      case "simple":
+        return new SimpleTranslationService(provider);
+      case "caffeine":
+        return new CaffeineTranslationService(provider, "maximumSize=1000");
+      case "redis":
+        return redisTranslationService(provider);
+      default:
+        throw new IllegalArgumentException("Unknown implementation: " + implementation);
+    }
+  }
+
+  private TranslationService redisTranslationService(TranslationProvider provider) {
+    String host = System.getProperty("trans4j.benchmark.redis.host", "localhost");
+    int port = Integer.getInteger("trans4j.benchmark.redis.port", 6379);
+    connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+
+    StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+    for (int i = 0; i < keyCardinality; i++) {
+      redisTemplate.delete("trans4j:dict-" + i);
+    }
+    return new RedisTranslationService(provider, redisTemplate, Duration.ofMinutes(10));
+  }
+
+  /** Per-thread position in the shared lookup sequence. */
+  @State(Scope.Thread)
+  public static class Cursor {
+
+    private int index;
+
+    int next() {
+      index = (index + 1) & (LOOKUPS - 1);
+      return index;
+    }
+  }
+}
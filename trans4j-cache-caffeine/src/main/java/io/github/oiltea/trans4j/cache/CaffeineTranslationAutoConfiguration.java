@@ -16,18 +16,36 @@
 
 package io.github.oiltea.trans4j.cache;
 
+import io.github.oiltea.trans4j.core.LocalizedTranslationService;
+import io.github.oiltea.trans4j.core.NegativeCache;
 import io.github.oiltea.trans4j.core.TranslationCacheProperties;
+import io.github.oiltea.trans4j.core.TranslationListener;
+import io.github.oiltea.trans4j.core.TranslationLoader;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import io.github.oiltea.trans4j.core.TranslationService;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.ClassUtils;
 
 /**
  * Caffeine-based translation auto-configuration class.
  *
+ * <p>Loads and refreshes run on the {@link Executor} bean named {@value #EXECUTOR_BEAN_NAME} if one
+ * is defined, and on the common fork-join pool otherwise. When Micrometer is available and metrics
+ * are enabled, Caffeine statistics are recorded and bound to the meter registry under the cache
+ * name {@value #CACHE_NAME}.
+ *
  * @author Oiltea
  * @since 1.0.0
  */
@@ -36,11 +54,85 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnProperty(prefix = "trans4j.cache", name = "type", havingValue = "caffeine")
 public class CaffeineTranslationAutoConfiguration {
 
+  /** Name of the optional executor bean used for loading and refreshing dictionaries. */
+  public static final String EXECUTOR_BEAN_NAME = TranslationLoader.EXECUTOR_BEAN_NAME;
+
+  /** Name under which the Caffeine cache statistics are reported. */
+  public static final String CACHE_NAME = "trans4j";
+
+  private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+
   @Bean
   @ConditionalOnBean(TranslationProvider.class)
   TranslationService caffeineTranslationService(
-      TranslationProvider provider, TranslationCacheProperties props) {
+      TranslationProvider provider,
+      TranslationCacheProperties props,
+      @Qualifier(EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor,
+      ObjectProvider<TranslationListener> listener) {
     log.debug("Register CaffeineTranslationService");
-    return new CaffeineTranslationService(provider, props.getCaffeine().getSpec());
+    TranslationCacheProperties.Caffeine caffeine = props.getCaffeine();
+    TranslationListener translationListener = listener.getIfUnique(() -> TranslationListener.NOOP);
+    Executor cacheExecutor = executor.getIfAvailable(ForkJoinPool::commonPool);
+    boolean recordStats =
+        props.getMetrics().isEnabled()
+            && ClassUtils.isPresent(METER_REGISTRY_CLASS, getClass().getClassLoader());
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        TranslationListener.observe(provider, translationListener),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> {
+          CaffeineTranslationService service =
+              new CaffeineTranslationService(
+                  partitionProvider,
+                  caffeine.getSpec(),
+                  caffeine.getRefreshAfterWrite(),
+                  cacheExecutor,
+                  recordStats);
+          service.setListener(translationListener);
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
+  }
+
+  /**
+   * Configuration class binding the Caffeine cache statistics to Micrometer.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = METER_REGISTRY_CLASS)
+  @ConditionalOnProperty(
+      prefix = "trans4j.cache.metrics",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  static class MetricsConfiguration {
+
+    @Bean
+    MeterBinder trans4jCaffeineCacheMetrics(ObjectProvider<TranslationService> translationService) {
+      return registry -> {
+        TranslationService service = translationService.getIfUnique();
+        if (service instanceof CaffeineTranslationService caffeine) {
+          CaffeineCacheMetrics.monitor(registry, caffeine.getCache(), CACHE_NAME);
+        } else if (service instanceof LocalizedTranslationService localized) {
+          localized
+              .getPartitions()
+              .forEach(
+                  (locale, partition) -> {
+                    if (partition instanceof CaffeineTranslationService caffeine) {
+                      CaffeineCacheMetrics.monitor(
+                          registry,
+                          caffeine.getCache(),
+                          CACHE_NAME,
+                          "locale",
+                          locale.toLanguageTag());
+                    }
+                  });
+        }
+      };
+    }
   }
 }
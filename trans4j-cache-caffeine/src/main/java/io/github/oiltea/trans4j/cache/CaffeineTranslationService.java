@@ -16,25 +16,62 @@
 
 package io.github.oiltea.trans4j.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationDictionary;
+import io.github.oiltea.trans4j.core.TranslationListener;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import io.github.oiltea.trans4j.core.TranslationService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Setter;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Caffeine-based translation service implementation that provides caching functionality for
  * translations.
  *
+ * <p>Dictionaries are held in an {@link AsyncLoadingCache} whose loader also supports bulk loads.
+ * With {@code refreshAfterWrite} configured, stale dictionaries are reloaded asynchronously on the
+ * configured executor while readers keep getting the current value, so only the very first load of
+ * a key waits for the provider. Caffeine does not cache absent values, so keys the provider has no
+ * dictionary for are remembered in a separate {@link NegativeCache} with its own time-to-live.
+ *
  * @author Oiltea
  * @since 1.0.0
  */
 public class CaffeineTranslationService implements TranslationService {
 
-  private final TranslationProvider provider;
+  private final AsyncLoadingCache<String, TranslationDictionary> cache;
+
+  private final LoadingCache<String, TranslationDictionary> view;
+
+  private final DictionaryLoader loader;
+
+  /** Generation of each invalidated key, added to {@link #epoch} to detect stale reloads. */
+  private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+  /** Generation of all keys, bumped by {@link #invalidateAll()}. */
+  private final AtomicLong epoch = new AtomicLong();
 
-  private final Cache<String, Map<String, String>> cache;
+  /** Listener notified of cache hits, misses and missing translations. */
+  @Setter private TranslationListener listener = TranslationListener.NOOP;
+
+  /** Cache remembering the keys the provider has no dictionary for. */
+  @Setter private NegativeCache negativeCache = NegativeCache.disabled();
 
   /**
    * Creates a new CaffeineTranslationService with the specified translation provider and cache
@@ -48,17 +85,224 @@ public class CaffeineTranslationService implements TranslationService {
    * @param spec the cache specification string used to configure the Caffeine cache
    * @see com.github.benmanes.caffeine.cache.Caffeine#from(String)
    */
-  public CaffeineTranslationService(TranslationProvider provider, String spec) {
-    this.provider = provider;
-    this.cache = Caffeine.from(spec).build();
+  public CaffeineTranslationService(TranslationProvider provider, @Nullable String spec) {
+    this(provider, spec, null, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a new CaffeineTranslationService that refreshes dictionaries asynchronously.
+   *
+   * @param provider the translation provider to be used for translation operations
+   * @param spec the cache specification string, may be null
+   * @param refreshAfterWrite the age after which a dictionary is reloaded in the background, or
+   *     null to rely on the specification only; must not be combined with a {@code
+   *     refreshAfterWrite} entry in the specification
+   * @param executor the executor running loads and refreshes
+   * @since 1.1.0
+   */
+  public CaffeineTranslationService(
+      TranslationProvider provider,
+      @Nullable String spec,
+      @Nullable Duration refreshAfterWrite,
+      @NonNull Executor executor) {
+    this(provider, spec, refreshAfterWrite, executor, false);
+  }
+
+  /**
+   * Creates a new CaffeineTranslationService that may record Caffeine statistics.
+   *
+   * @param provider the translation provider to be used for translation operations
+   * @param spec the cache specification string, may be null
+   * @param refreshAfterWrite the age after which a dictionary is reloaded in the background, or
+   *     null to rely on the specification only
+   * @param executor the executor running loads and refreshes
+   * @param recordStats whether to record the statistics exposed by {@link #getCache()}, in addition
+   *     to a {@code recordStats} entry in the specification
+   * @since 1.1.0
+   */
+  public CaffeineTranslationService(
+      TranslationProvider provider,
+      @Nullable String spec,
+      @Nullable Duration refreshAfterWrite,
+      @NonNull Executor executor,
+      boolean recordStats) {
+    Caffeine<Object, Object> builder = spec == null ? Caffeine.newBuilder() : Caffeine.from(spec);
+    if (refreshAfterWrite != null) {
+      builder.refreshAfterWrite(refreshAfterWrite);
+    }
+    if (recordStats) {
+      builder.recordStats();
+    }
+    this.loader = new DictionaryLoader(provider);
+    this.cache = builder.executor(executor).buildAsync(loader);
+    this.view = cache.synchronous();
   }
 
   @Override
   public String doTranslate(@NonNull String key, @NonNull String value) {
-    Map<String, String> map = cache.get(key, provider::get);
-    if (map == null) {
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.get(value));
+  }
+
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value) {
+    if (value == null) {
       return null;
     }
-    return map.get(value);
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.getValue(value));
+  }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    TranslationDictionary dictionary = getDictionary(key);
+    Map<String, String> translations =
+        dictionary == null ? new HashMap<>() : dictionary.getAll(values);
+    listener.onTranslateAll(key, values, translations);
+    return translations;
+  }
+
+  @Override
+  public void preload(@NonNull String key) {
+    getDictionary(key);
+  }
+
+  /** Loads all missing dictionaries with one bulk provider call. */
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    List<String> missing = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      if (key != null && !negativeCache.contains(key)) {
+        missing.add(key);
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+    Map<String, TranslationDictionary> loaded = view.getAll(missing);
+    for (String key : missing) {
+      if (!loaded.containsKey(key)) {
+        negativeCache.add(key);
+      }
+    }
+  }
+
+  @Override
+  public void invalidate(@NonNull String key) {
+    generations.merge(key, 1L, Long::sum);
+    view.invalidate(key);
+    negativeCache.remove(key);
+  }
+
+  @Override
+  public void invalidateAll() {
+    epoch.incrementAndGet();
+    view.invalidateAll();
+    negativeCache.clear();
+  }
+
+  /**
+   * Loads the dictionary on the calling thread, replacing the cached one once loaded, unless the
+   * key is invalidated or reloaded again meanwhile.
+   */
+  @Override
+  public void reload(@NonNull String key) {
+    long generation = generations.merge(key, 1L, Long::sum) + epoch.get();
+    TranslationDictionary dictionary = loader.load(key);
+    if (dictionary == null) {
+      if (generation(key) == generation) {
+        view.invalidate(key);
+        negativeCache.add(key);
+      }
+      return;
+    }
+    // Compared within the map's lock on the key: invalidations bump the generation before
+    // removing the key, so a stale dictionary is either rejected here or removed afterwards.
+    TranslationDictionary stored =
+        view.asMap()
+            .compute(key, (k, current) -> generation(k) == generation ? dictionary : current);
+    if (stored == dictionary) {
+      negativeCache.remove(key);
+    }
+  }
+
+  @Override
+  public long estimatedSize() {
+    return view.estimatedSize();
+  }
+
+  /**
+   * Returns the underlying cache, for example to bind its statistics to a metrics registry.
+   *
+   * @return the synchronous view of the dictionary cache
+   * @since 1.1.0
+   */
+  public LoadingCache<String, TranslationDictionary> getCache() {
+    return view;
+  }
+
+  private @Nullable TranslationDictionary getDictionary(String key) {
+    if (listener != TranslationListener.NOOP) {
+      // Peek without touching statistics, expiry or refresh so that Caffeine's own view is intact.
+      if (view.policy().getIfPresentQuietly(key) == null) {
+        listener.onMiss(key);
+      } else {
+        listener.onHit(key);
+      }
+    }
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+    TranslationDictionary dictionary = view.get(key);
+    if (dictionary == null) {
+      negativeCache.add(key);
+    }
+    return dictionary;
+  }
+
+  private long generation(String key) {
+    return epoch.get() + generations.getOrDefault(key, 0L);
+  }
+
+  private @Nullable String reportMissing(String key, @Nullable String translation) {
+    if (translation == null) {
+      listener.onMissingTranslation(key);
+    }
+    return translation;
+  }
+
+  /**
+   * Cache loader that turns provider results into {@link TranslationDictionary dictionaries}.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  static final class DictionaryLoader implements CacheLoader<String, TranslationDictionary> {
+
+    private final TranslationProvider provider;
+
+    DictionaryLoader(TranslationProvider provider) {
+      this.provider = provider;
+    }
+
+    @Override
+    public @Nullable TranslationDictionary load(String key) {
+      return TranslationDictionary.of(provider.get(key));
+    }
+
+    @Override
+    public Map<String, TranslationDictionary> loadAll(Set<? extends String> keys) {
+      Map<String, TranslationDictionary> result = new HashMap<>(keys.size() * 2);
+      provider
+          .getAll(List.copyOf(keys))
+          .forEach(
+              (key, map) -> {
+                TranslationDictionary dictionary = TranslationDictionary.of(map);
+                if (dictionary != null) {
+                  result.put(key, dictionary);
+                }
+              });
+      return result;
+    }
   }
 }
@@ -21,8 +21,23 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationListener;
 import io.github.oiltea.trans4j.core.TranslationProvider;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,6 +71,66 @@ class CaffeineTranslationServiceTest {
     verify(provider, times(1)).get("gender");
   }
 
+  @Test
+  void should_load_again_after_invalidate() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "male")).thenReturn(Map.of("1", "man"));
+    when(provider.get("status")).thenReturn(Map.of("1", "active"));
+    service.translate("gender", "1");
+    service.translate("status", "1");
+
+    service.invalidate("gender");
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+
+    service.invalidateAll();
+    service.translate("status", "1");
+    verify(provider, times(2)).get("status");
+  }
+
+  @Test
+  void should_replace_dictionary_on_reload() {
+    when(provider.get("gender"))
+        .thenReturn(Map.of("1", "male"))
+        .thenReturn(Map.of("1", "man"))
+        .thenReturn(null);
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+    service.translate("gender", "1");
+
+    service.reload("gender");
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+
+    service.reload("gender");
+    assertNull(service.translate("gender", "1"));
+    verify(provider, times(3)).get("gender");
+  }
+
+  @Test
+  void should_discard_reload_started_before_invalidate() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(provider.get("gender"))
+        .thenAnswer(
+            invocation -> {
+              loading.countDown();
+              release.await();
+              return Map.of("1", "Stale");
+            })
+        .thenReturn(Map.of("1", "Edited"));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> reload = executor.submit(() -> service.reload("gender"));
+      Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+      service.invalidate("gender");
+      release.countDown();
+      reload.get(5, TimeUnit.SECONDS);
+
+      Assertions.assertEquals("Edited", service.translate("gender", "1"));
+      verify(provider, times(2)).get("gender");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void should_return_null_when_value_not_found() {
     when(provider.get("gender")).thenReturn(Map.of("1", "male"));
@@ -68,4 +143,108 @@ class CaffeineTranslationServiceTest {
     assertNull(service.translate("status", "1"));
     verify(provider, times(1)).get("status");
   }
+
+  @Test
+  void should_remember_absent_dictionary() {
+    when(provider.get("status")).thenReturn(null);
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+    assertNull(service.translate("status", "1"));
+    assertNull(service.translate("status", "2"));
+
+    verify(provider, times(1)).get("status");
+  }
+
+  @Test
+  void should_translate_all_with_single_load() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "male", "2", "female"));
+
+    Assertions.assertEquals(
+        Map.of("1", "male", "2", "female"), service.translateAll("gender", List.of("1", "2", "3")));
+    service.translateAll("gender", List.of("1"));
+
+    verify(provider, times(1)).get("gender");
+  }
+
+  @Test
+  void should_serve_stale_dictionary_while_refreshing() throws InterruptedException {
+    when(provider.get("gender")).thenReturn(Map.of("1", "male"), Map.of("1", "man"));
+    Queue<Runnable> refreshes = new ArrayDeque<>();
+    AtomicBoolean loaded = new AtomicBoolean();
+    Executor executor =
+        task -> {
+          if (loaded.getAndSet(true)) {
+            refreshes.add(task);
+          } else {
+            task.run();
+          }
+        };
+    CaffeineTranslationService refreshing =
+        new CaffeineTranslationService(provider, null, Duration.ofMillis(10), executor);
+
+    Assertions.assertEquals("male", refreshing.translate("gender", "1"));
+    Thread.sleep(30);
+    Assertions.assertEquals("male", refreshing.translate("gender", "1"));
+    Assertions.assertFalse(refreshes.isEmpty());
+    while (!refreshes.isEmpty()) {
+      refreshes.remove().run();
+    }
+    Assertions.assertEquals("man", refreshing.translate("gender", "1"));
+    verify(provider, times(2)).get("gender");
+  }
+
+  @Test
+  void should_load_all_keys_in_bulk() {
+    when(provider.getAll(Mockito.anyCollection()))
+        .thenReturn(Map.of("gender", Map.of("1", "male")));
+
+    Map<String, ?> result =
+        new CaffeineTranslationService.DictionaryLoader(provider)
+            .loadAll(Set.of("gender", "status"));
+
+    Assertions.assertEquals(Set.of("gender"), result.keySet());
+    verify(provider, Mockito.never()).get(Mockito.anyString());
+  }
+
+  @Test
+  void should_preload_missing_keys_with_one_bulk_call() {
+    when(provider.getAll(Mockito.anyCollection()))
+        .thenReturn(Map.of("gender", Map.of("1", "male"), "status", Map.of("1", "active")));
+
+    service.preloadAll(List.of("gender", "status"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Assertions.assertEquals("active", service.translate("status", "1"));
+    verify(provider, times(1)).getAll(Mockito.anyCollection());
+    verify(provider, Mockito.never()).get(Mockito.anyString());
+  }
+
+  @Test
+  void should_skip_null_and_absent_keys_when_preloading() {
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+    when(provider.getAll(Mockito.anyCollection())).thenReturn(Map.of());
+    service.preloadAll(List.of("region"));
+
+    service.preloadAll(Arrays.asList(null, "region"));
+
+    verify(provider, times(1)).getAll(Mockito.anyCollection());
+  }
+
+  @Test
+  void should_report_hits_and_misses_and_record_stats() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    TranslationListener listener = Mockito.mock(TranslationListener.class);
+    CaffeineTranslationService recording =
+        new CaffeineTranslationService(provider, null, null, Runnable::run, true);
+    recording.setListener(listener);
+
+    recording.translate("gender", "1");
+    recording.translate("gender", "2");
+
+    verify(listener).onMiss("gender");
+    verify(listener).onHit("gender");
+    verify(listener).onMissingTranslation("gender");
+    Assertions.assertEquals(1, recording.getCache().stats().hitCount());
+    Assertions.assertEquals(1, recording.estimatedSize());
+  }
 }
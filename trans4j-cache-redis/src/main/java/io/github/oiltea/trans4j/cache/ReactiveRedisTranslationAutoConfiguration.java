@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.ReactiveLocalizedTranslationService;
+import io.github.oiltea.trans4j.core.ReactiveTranslationService;
+import io.github.oiltea.trans4j.core.TranslationCacheProperties;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+/**
+ * Reactive Redis-based translation auto-configuration class.
+ *
+ * <p>Registers a {@link ReactiveRedisTranslationService} when Project Reactor is on the classpath
+ * and Spring Boot provides a {@link ReactiveStringRedisTemplate}. With locales enabled, each
+ * supported locale gets its own partition with the same Redis keys as the blocking service.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(
+    name = "org.springframework.boot.data.redis.autoconfigure.DataRedisReactiveAutoConfiguration")
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+@ConditionalOnProperty(prefix = "trans4j.cache", name = "type", havingValue = "redis")
+public class ReactiveRedisTranslationAutoConfiguration {
+
+  @Bean
+  @ConditionalOnBean({TranslationProvider.class, ReactiveStringRedisTemplate.class})
+  ReactiveTranslationService reactiveRedisTranslationService(
+      TranslationProvider provider,
+      ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+      TranslationCacheProperties props) {
+    log.debug("Register ReactiveRedisTranslationService");
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    return ReactiveLocalizedTranslationService.of(
+        props.getLocales(),
+        provider,
+        (locale, partitionProvider) -> {
+          ReactiveRedisTranslationService service =
+              new ReactiveRedisTranslationService(
+                  partitionProvider, reactiveStringRedisTemplate, props.getRedis().getTimeToLive());
+          service.setNamespace(locale == null ? null : locale.toLanguageTag());
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.ReactiveTranslationService;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Setter;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking Redis-based translation service backed by a {@link ReactiveStringRedisTemplate}.
+ *
+ * <p>It shares the hash layout of {@link RedisTranslationService}, so both can serve the same
+ * cache. Since {@link TranslationProvider} is blocking, dictionaries missing from Redis are loaded
+ * on a separate scheduler, and concurrent misses for the same key share a single load.
+ *
+ * <p>With a {@link NegativeCache}, absent dictionaries and codes missing from a freshly populated
+ * hash are remembered as in {@link RedisTranslationService}, so repeated lookups of bad data reach
+ * neither Redis nor the provider until the negative entry expires.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class ReactiveRedisTranslationService implements ReactiveTranslationService {
+
+  private final TranslationProvider provider;
+  private final ReactiveStringRedisTemplate redisTemplate;
+  private final @Nullable Duration ttl;
+  private final Scheduler scheduler;
+  private final Map<String, Mono<Map<String, String>>> populating = new ConcurrentHashMap<>();
+  private String keyPrefix = RedisTranslationService.PREFIX;
+
+  /** Cache remembering absent dictionaries and codes missing from their hash. */
+  @Setter private NegativeCache negativeCache = NegativeCache.disabled();
+
+  /**
+   * Constructs a ReactiveRedisTranslationService loading dictionaries on the bounded elastic
+   * scheduler.
+   *
+   * @param provider the translation provider used to fetch translations when not cached
+   * @param redisTemplate the reactive Redis template for cache operations
+   * @param ttl the time-to-live duration for cached translations, or {@code null} to keep them
+   */
+  public ReactiveRedisTranslationService(
+      TranslationProvider provider,
+      ReactiveStringRedisTemplate redisTemplate,
+      @Nullable Duration ttl) {
+    this(provider, redisTemplate, ttl, Schedulers.boundedElastic());
+  }
+
+  /**
+   * Constructs a ReactiveRedisTranslationService.
+   *
+   * @param provider the translation provider used to fetch translations when not cached
+   * @param redisTemplate the reactive Redis template for cache operations
+   * @param ttl the time-to-live duration for cached translations, or {@code null} to keep them
+   * @param scheduler the scheduler the provider is called on
+   */
+  public ReactiveRedisTranslationService(
+      TranslationProvider provider,
+      ReactiveStringRedisTemplate redisTemplate,
+      @Nullable Duration ttl,
+      Scheduler scheduler) {
+    this.provider = provider;
+    this.redisTemplate = redisTemplate;
+    this.ttl = ttl;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Mono<String> translate(@NonNull String key, @Nullable String value) {
+    if (value == null || isAbsent(key, value)) {
+      return Mono.empty();
+    }
+    ReactiveHashOperations<String, String, String> ops = redisTemplate.opsForHash();
+    return ops.get(cacheKey(key), value)
+        .switchIfEmpty(
+            Mono.defer(
+                () ->
+                    populate(key)
+                        .mapNotNull(
+                            map -> {
+                              String translation = map.get(value);
+                              if (translation == null) {
+                                negativeCache.add(RedisTranslationService.codeEntry(key, value));
+                              }
+                              return translation;
+                            })));
+  }
+
+  /**
+   * Translates all values with a single {@code HMGET}.
+   *
+   * <p>If any value is missing from the cached hash, the dictionary is loaded from the provider
+   * once, written back to Redis and used to resolve the remaining values.
+   */
+  @Override
+  public Mono<Map<String, String>> translateAll(@NonNull String key, Collection<String> values) {
+    Set<String> distinct = new LinkedHashSet<>(values);
+    distinct.remove(null);
+    if (negativeCache.isEnabled()) {
+      distinct.removeIf(value -> isAbsent(key, value));
+    }
+    if (distinct.isEmpty()) {
+      return Mono.just(new HashMap<>());
+    }
+
+    List<String> fields = new ArrayList<>(distinct);
+    ReactiveHashOperations<String, String, String> ops = redisTemplate.opsForHash();
+    return ops.multiGet(cacheKey(key), fields)
+        .defaultIfEmpty(List.of())
+        .flatMap(
+            cached -> {
+              Map<String, String> result = new HashMap<>(fields.size() * 2);
+              List<String> missing = new ArrayList<>();
+              for (int i = 0; i < fields.size(); i++) {
+                String val = i < cached.size() ? cached.get(i) : null;
+                if (val == null) {
+                  missing.add(fields.get(i));
+                } else {
+                  result.put(fields.get(i), val);
+                }
+              }
+              if (missing.isEmpty()) {
+                return Mono.just(result);
+              }
+              return populate(key)
+                  .map(
+                      map -> {
+                        Map<String, String> loaded = TranslationService.lookupAll(map, missing);
+                        for (String value : missing) {
+                          if (!loaded.containsKey(value)) {
+                            negativeCache.add(RedisTranslationService.codeEntry(key, value));
+                          }
+                        }
+                        result.putAll(loaded);
+                        return result;
+                      })
+                  .defaultIfEmpty(result);
+            });
+  }
+
+  /**
+   * Sets the namespace of the Redis keys, which become {@code trans4j@<namespace>:<key>}.
+   *
+   * @param namespace the namespace, or {@code null} for the shared {@code trans4j:<key>} keys
+   * @see RedisTranslationService#setNamespace(String)
+   */
+  public void setNamespace(@Nullable String namespace) {
+    this.keyPrefix = RedisTranslationService.keyPrefix(namespace);
+  }
+
+  /**
+   * Returns the Redis key of the hash holding the dictionary for the given translation key.
+   *
+   * @param key the translation key
+   * @return the Redis hash key
+   */
+  protected String cacheKey(String key) {
+    return keyPrefix + key;
+  }
+
+  private Mono<Map<String, String>> populate(String key) {
+    if (negativeCache.contains(key)) {
+      return Mono.empty();
+    }
+    return populating.computeIfAbsent(
+        key,
+        k ->
+            Mono.fromCallable(() -> provider.get(k))
+                .subscribeOn(scheduler)
+                .flatMap(
+                    map ->
+                        store(k, map)
+                            .then(Mono.fromRunnable(() -> negativeCache.remove(k)))
+                            .thenReturn(map))
+                .switchIfEmpty(Mono.fromRunnable(() -> negativeCache.add(k)))
+                .doFinally(signal -> populating.remove(k))
+                .cache());
+  }
+
+  /**
+   * Writes a dictionary to its hash like {@link RedisTranslationService}: empty dictionaries with a
+   * marker field, large ones in chunks under a temporary key renamed once complete.
+   */
+  private Mono<Void> store(String key, Map<String, String> map) {
+    String cacheKey = cacheKey(key);
+    if (map.size() <= RedisScripts.CHUNK_SIZE) {
+      return redisTemplate
+          .execute(RedisScripts.POPULATE, List.of(cacheKey), RedisScripts.populateArgs(map, ttl))
+          .then();
+    }
+    String building = cacheKey + RedisTranslationService.BUILDING_SUFFIX + UUID.randomUUID();
+    return Flux.fromIterable(RedisScripts.appendArgs(map))
+        .concatMap(args -> redisTemplate.execute(RedisScripts.APPEND, List.of(building), args))
+        .thenMany(
+            redisTemplate.execute(
+                RedisScripts.COMMIT,
+                List.of(building, cacheKey),
+                List.of(RedisScripts.ttlArg(ttl))))
+        .then();
+  }
+
+  private boolean isAbsent(String key, String value) {
+    return negativeCache.isEnabled()
+        && (negativeCache.contains(key)
+            || negativeCache.contains(RedisTranslationService.codeEntry(key, value)));
+  }
+}
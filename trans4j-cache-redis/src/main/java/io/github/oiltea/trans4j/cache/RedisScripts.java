@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Lua scripts shared by the Redis translation services.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class RedisScripts {
+
+  /**
+   * Field written to the hash of an empty dictionary, so that an empty dictionary is told apart
+   * from a missing one. Readers of whole hashes drop it.
+   */
+  static final String EMPTY_FIELD = "\u0000";
+
+  /**
+   * Number of entries written per command. Larger dictionaries are built in several commands, so
+   * that Redis keeps serving other clients while they are written.
+   */
+  static final int CHUNK_SIZE = 1000;
+
+  /** Time-to-live of a hash being built in chunks, renewed by every chunk. */
+  private static final String BUILDING_TTL_MILLIS = "60000";
+
+  /**
+   * Replaces the hash in {@code KEYS[1]} with the field/value pairs from {@code ARGV[2..]} and
+   * expires it after {@code ARGV[1]} milliseconds unless that is {@code 0}.
+   */
+  static final RedisScript<Long> POPULATE =
+      new DefaultRedisScript<>(
+          """
+          redis.call('DEL', KEYS[1])
+          redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+          local ttl = tonumber(ARGV[1])
+          if ttl > 0 then
+            redis.call('PEXPIRE', KEYS[1], ttl)
+          end
+          return 1
+          """,
+          Long.class);
+
+  /**
+   * Adds the field/value pairs from {@code ARGV[2..]} to the hash being built in {@code KEYS[1]}
+   * and expires it after {@code ARGV[1]} milliseconds, so that an abandoned build is dropped.
+   */
+  static final RedisScript<Long> APPEND =
+      new DefaultRedisScript<>(
+          """
+          redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+          redis.call('PEXPIRE', KEYS[1], ARGV[1])
+          return 1
+          """,
+          Long.class);
+
+  /**
+   * Renames the hash built in {@code KEYS[1]} to {@code KEYS[2]}, replacing it, and expires it
+   * after {@code ARGV[1]} milliseconds unless that is {@code 0}. Does nothing if the built hash was
+   * deleted meanwhile.
+   */
+  static final RedisScript<Long> COMMIT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+          end
+          redis.call('RENAME', KEYS[1], KEYS[2])
+          local ttl = tonumber(ARGV[1])
+          if ttl > 0 then
+            redis.call('PEXPIRE', KEYS[2], ttl)
+          else
+            redis.call('PERSIST', KEYS[2])
+          end
+          return 1
+          """,
+          Long.class);
+
+  /** Deletes the lock in {@code KEYS[1]} only if it still holds the token {@code ARGV[1]}. */
+  static final RedisScript<Long> UNLOCK =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private RedisScripts() {}
+
+  /**
+   * Builds the arguments of {@link #POPULATE} for a dictionary of at most {@link #CHUNK_SIZE}
+   * entries.
+   *
+   * @param map the dictionary to write
+   * @param ttl the time-to-live duration of the hash, or {@code null} to keep it
+   * @return the script arguments
+   */
+  static List<String> populateArgs(Map<String, String> map, @Nullable Duration ttl) {
+    List<String> args = new ArrayList<>(map.size() * 2 + 3);
+    args.add(ttlArg(ttl));
+    if (map.isEmpty()) {
+      args.add(EMPTY_FIELD);
+      args.add("");
+    }
+    map.forEach(
+        (field, value) -> {
+          args.add(field);
+          args.add(value);
+        });
+    return args;
+  }
+
+  /**
+   * Builds the arguments of the {@link #APPEND} calls writing a dictionary of more than {@link
+   * #CHUNK_SIZE} entries.
+   *
+   * @param map the dictionary to write
+   * @return the script arguments of each chunk
+   */
+  static List<List<String>> appendArgs(Map<String, String> map) {
+    List<List<String>> chunks = new ArrayList<>(map.size() / CHUNK_SIZE + 1);
+    List<String> args = null;
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      if (args == null || args.size() > CHUNK_SIZE * 2) {
+        args = new ArrayList<>(CHUNK_SIZE * 2 + 1);
+        args.add(BUILDING_TTL_MILLIS);
+        chunks.add(args);
+      }
+      args.add(entry.getKey());
+      args.add(entry.getValue());
+    }
+    return chunks;
+  }
+
+  /**
+   * Returns the time-to-live argument of {@link #POPULATE} and {@link #COMMIT}.
+   *
+   * @param ttl the time-to-live duration of the hash, or {@code null} to keep it
+   * @return the time-to-live in milliseconds, {@code 0} to keep the hash
+   */
+  static String ttlArg(@Nullable Duration ttl) {
+    return ttl == null ? "0" : Long.toString(ttl.toMillis());
+  }
+
+  /**
+   * Removes the marker of an empty dictionary from a hash read with {@code HGETALL}.
+   *
+   * @param hash the fields of the hash
+   * @return the dictionary
+   */
+  static Map<String, String> withoutEmptyField(Map<String, String> hash) {
+    if (!hash.containsKey(EMPTY_FIELD)) {
+      return hash;
+    }
+    Map<String, String> map = new HashMap<>(hash);
+    map.remove(EMPTY_FIELD);
+    return map;
+  }
+}
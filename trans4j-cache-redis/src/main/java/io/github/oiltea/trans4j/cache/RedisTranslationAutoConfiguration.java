@@ -16,15 +16,20 @@
 
 package io.github.oiltea.trans4j.cache;
 
+import io.github.oiltea.trans4j.core.LocalizedTranslationService;
+import io.github.oiltea.trans4j.core.NegativeCache;
 import io.github.oiltea.trans4j.core.TranslationCacheProperties;
+import io.github.oiltea.trans4j.core.TranslationListener;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import io.github.oiltea.trans4j.core.TranslationService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -52,9 +57,28 @@ public class RedisTranslationAutoConfiguration {
   TranslationService redisTranslationService(
       TranslationProvider provider,
       StringRedisTemplate stringRedisTemplate,
-      TranslationCacheProperties props) {
+      TranslationCacheProperties props,
+      ObjectProvider<TranslationListener> listener) {
     log.debug("Register RedisTranslationService");
-    return new RedisTranslationService(
-        provider, stringRedisTemplate, props.getRedis().getTimeToLive());
+    TranslationListener translationListener = listener.getIfUnique(() -> TranslationListener.NOOP);
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        TranslationListener.observe(provider, translationListener),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> {
+          RedisTranslationService service =
+              new RedisTranslationService(
+                  partitionProvider,
+                  stringRedisTemplate,
+                  props.getRedis().getTimeToLive(),
+                  props.getRedis().getLockTimeout(),
+                  props.getRedis().getSnapshotTimeToLive());
+          service.setNamespace(locale == null ? null : locale.toLanguageTag());
+          service.setListener(translationListener);
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
   }
 }
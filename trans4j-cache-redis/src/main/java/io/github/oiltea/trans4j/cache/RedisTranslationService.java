@@ -16,29 +16,88 @@
 
 package io.github.oiltea.trans4j.cache;
 
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationDictionary;
+import io.github.oiltea.trans4j.core.TranslationListener;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import io.github.oiltea.trans4j.core.TranslationService;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * Redis-based translation service implementation that provides caching functionality for
  * translations.
  *
+ * <p>With a {@link NegativeCache}, this node remembers the keys the provider has no dictionary for
+ * and the codes missing from a freshly populated hash, so that repeated lookups of bad data reach
+ * neither Redis nor the provider until the negative entry expires.
+ *
  * @author Oiltea
  * @since 1.0.0
  */
 public class RedisTranslationService implements TranslationService {
 
-  private static final String PREFIX = "trans4j:";
+  static final String PREFIX = "trans4j:";
+  private static final String NAMESPACE_PREFIX = "trans4j@";
+  private static final String LOCK_SUFFIX = ":lock";
+  private static final String ABSENT_SUFFIX = ":absent";
+  static final String BUILDING_SUFFIX = ":building:";
+  private static final long MIN_LOCK_POLL_MILLIS = 2;
+  private static final long MAX_LOCK_POLL_MILLIS = 50;
+  private static final char CODE_SEPARATOR = '\u0000';
 
   private final TranslationProvider provider;
   private final StringRedisTemplate redisTemplate;
-  private final Duration ttl;
+  private final @Nullable Duration ttl;
+  private final @Nullable Duration lockTimeout;
+  private final long snapshotTtlNanos;
+  private final Map<String, CompletableFuture<Map<String, String>>> populating =
+      new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<TranslationDictionary>> fetching =
+      new ConcurrentHashMap<>();
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+  /** Generation of each invalidated key, added to {@link #epoch} to detect stale loads. */
+  private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+  /** Generation of all keys, bumped by {@link #invalidateAll()}. */
+  private final AtomicLong epoch = new AtomicLong();
+
+  private String keyPrefix = PREFIX;
+
+  /** Listener notified of cache hits, misses, missing translations and Redis round trips. */
+  @Getter(AccessLevel.PROTECTED)
+  @Setter
+  private TranslationListener listener = TranslationListener.NOOP;
+
+  /** Cache remembering absent dictionaries and codes missing from their hash. */
+  @Getter(AccessLevel.PROTECTED)
+  @Setter
+  private NegativeCache negativeCache = NegativeCache.disabled();
 
   /**
    * Constructs a RedisTranslationService with the specified translation provider, Redis template,
@@ -47,34 +106,623 @@ public class RedisTranslationService implements TranslationService {
    *
    * @param provider the translation provider used to fetch translations when not cached
    * @param redisTemplate the Redis template for cache operations
-   * @param ttl the time-to-live duration for cached translations
+   * @param ttl the time-to-live duration for cached translations, or {@code null} to keep them
    */
   public RedisTranslationService(
-      TranslationProvider provider, StringRedisTemplate redisTemplate, Duration ttl) {
+      TranslationProvider provider, StringRedisTemplate redisTemplate, @Nullable Duration ttl) {
+    this(provider, redisTemplate, ttl, null, null);
+  }
+
+  /**
+   * Constructs a RedisTranslationService that coordinates dictionary loading across nodes and may
+   * serve lookups from local snapshots.
+   *
+   * <p>With a snapshot time-to-live, the whole hash of a key is fetched with a single {@code
+   * HGETALL} and lookups are answered from that local copy until it is older than the given
+   * duration. Without one, every lookup is a Redis call.
+   *
+   * @param provider the translation provider used to fetch translations when not cached
+   * @param redisTemplate the Redis template for cache operations
+   * @param ttl the time-to-live duration for cached translations, or {@code null} to keep them
+   * @param lockTimeout how long a node may hold the loading lock of a key, or {@code null} to load
+   *     without a distributed lock
+   * @param snapshotTtl how long a local snapshot of a hash may be used, or {@code null} to query
+   *     Redis for every lookup
+   * @since 1.1.0
+   */
+  public RedisTranslationService(
+      TranslationProvider provider,
+      StringRedisTemplate redisTemplate,
+      @Nullable Duration ttl,
+      @Nullable Duration lockTimeout,
+      @Nullable Duration snapshotTtl) {
     this.provider = provider;
     this.redisTemplate = redisTemplate;
     this.ttl = ttl;
+    this.lockTimeout = lockTimeout;
+    this.snapshotTtlNanos = snapshotTtl == null ? 0 : snapshotTtl.toNanos();
   }
 
   @Nullable
   @Override
   public String doTranslate(@NonNull String key, @NonNull String value) {
-    String cacheKey = PREFIX + key;
+    if (snapshotTtlNanos > 0) {
+      TranslationDictionary snapshot = getSnapshot(key);
+      return reportMissing(key, snapshot == null ? null : snapshot.get(value));
+    }
+
+    if (isAbsent(key, value)) {
+      return reportMissing(key, null);
+    }
+
+    String cacheKey = cacheKey(key);
 
     HashOperations<String, String, String> ops = redisTemplate.opsForHash();
 
-    String val = ops.get(cacheKey, value);
+    String val = remote("HGET", () -> ops.get(cacheKey, value));
     if (val != null) {
+      listener.onHit(key);
       return val;
     }
 
+    listener.onMiss(key);
+    Map<String, String> map = populate(key);
+    String translation = map == null ? null : map.get(value);
+    if (map != null && translation == null) {
+      negativeCache.add(codeEntry(key, value));
+    }
+    return reportMissing(key, translation);
+  }
+
+  @Nullable
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value) {
+    if (snapshotTtlNanos > 0 && value != null) {
+      TranslationDictionary snapshot = getSnapshot(key);
+      return reportMissing(key, snapshot == null ? null : snapshot.getValue(value));
+    }
+    return TranslationService.super.translateValue(key, value);
+  }
+
+  /**
+   * Translates all values with a single {@code HMGET}, or from the local snapshot when enabled.
+   *
+   * <p>If any value is missing from the cached hash, the dictionary is loaded from the provider
+   * once, written back to Redis and used to resolve the remaining values.
+   */
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    if (snapshotTtlNanos > 0) {
+      TranslationDictionary snapshot = getSnapshot(key);
+      Map<String, String> translations =
+          snapshot == null ? new HashMap<>() : snapshot.getAll(values);
+      listener.onTranslateAll(key, values, translations);
+      return translations;
+    }
+
+    Set<String> distinct = new LinkedHashSet<>(values);
+    distinct.remove(null);
+    if (negativeCache.isEnabled()) {
+      distinct.removeIf(value -> isAbsent(key, value));
+    }
+    Map<String, String> result = new HashMap<>(distinct.size() * 2);
+    if (distinct.isEmpty()) {
+      listener.onTranslateAll(key, values, result);
+      return result;
+    }
+
+    String cacheKey = cacheKey(key);
+    HashOperations<String, String, String> ops = redisTemplate.opsForHash();
+
+    List<String> fields = new ArrayList<>(distinct);
+    List<String> cached = remote("HMGET", () -> ops.multiGet(cacheKey, fields));
+    List<String> missing = new ArrayList<>();
+    for (int i = 0; i < fields.size(); i++) {
+      String val = cached == null ? null : cached.get(i);
+      if (val == null) {
+        missing.add(fields.get(i));
+      } else {
+        result.put(fields.get(i), val);
+      }
+    }
+    if (missing.isEmpty()) {
+      listener.onHit(key);
+      return result;
+    }
+
+    listener.onMiss(key);
+    Map<String, String> map = populate(key);
+    if (map != null) {
+      for (String value : missing) {
+        String translation = map.get(value);
+        if (translation == null) {
+          negativeCache.add(codeEntry(key, value));
+        } else {
+          result.put(value, translation);
+        }
+      }
+    }
+    listener.onTranslateAll(key, values, result);
+    return result;
+  }
+
+  /**
+   * Populates the Redis hash of the given key unless it already exists, and fetches the local
+   * snapshot when snapshots are enabled.
+   */
+  @Override
+  public void preload(@NonNull String key) {
+    if (snapshotTtlNanos > 0) {
+      getSnapshot(key);
+    } else if (!Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey(key)))) {
+      populate(key);
+    }
+  }
+
+  /**
+   * Populates the missing Redis hashes of the given keys with one bulk provider call, and fetches
+   * the local snapshots when snapshots are enabled.
+   *
+   * <p>The hashes are checked with one pipelined {@code EXISTS} per key. Missing keys are loaded
+   * like {@link #populate(String)} does: keys already loading in this JVM, or locked by another
+   * node when a lock timeout is configured, are left to that load.
+   */
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    List<String> candidates = new ArrayList<>(keys.size());
+    for (String key : new LinkedHashSet<>(keys)) {
+      if (key != null && !negativeCache.contains(key)) {
+        candidates.add(key);
+      }
+    }
+    if (!candidates.isEmpty()) {
+      List<Object> exists =
+          remote(
+              "EXISTS",
+              () ->
+                  redisTemplate.executePipelined(
+                      (RedisCallback<Object>)
+                          connection -> {
+                            for (String key : candidates) {
+                              connection
+                                  .keyCommands()
+                                  .exists(cacheKey(key).getBytes(StandardCharsets.UTF_8));
+                            }
+                            return null;
+                          }));
+      List<String> missing = new ArrayList<>(candidates.size());
+      for (int i = 0; i < candidates.size(); i++) {
+        if (!Boolean.TRUE.equals(exists.get(i))) {
+          missing.add(candidates.get(i));
+        }
+      }
+      if (!missing.isEmpty()) {
+        populateAll(missing);
+      }
+    }
+    if (snapshotTtlNanos > 0) {
+      for (String key : keys) {
+        getSnapshot(key);
+      }
+    }
+  }
+
+  /**
+   * Returns the Redis key of the hash holding the dictionary for the given translation key.
+   *
+   * @param key the translation key
+   * @return the Redis hash key
+   * @since 1.1.0
+   */
+  protected String cacheKey(String key) {
+    return keyPrefix + key;
+  }
+
+  /**
+   * Sets the namespace of the Redis keys, which become {@code trans4j@<namespace>:<key>}.
+   *
+   * <p>Used to give each locale partition of a {@link
+   * io.github.oiltea.trans4j.core.LocalizedTranslationService} its own hashes. Must be set before
+   * the service is used. Namespaced keys do not start with the shared {@code trans4j:} prefix, so
+   * invalidating all keys of one partition leaves the others alone.
+   *
+   * @param namespace the namespace, or {@code null} for the shared {@code trans4j:<key>} keys
+   * @since 1.1.0
+   */
+  public void setNamespace(@Nullable String namespace) {
+    this.keyPrefix = keyPrefix(namespace);
+  }
+
+  static String keyPrefix(@Nullable String namespace) {
+    return namespace == null || namespace.isEmpty() ? PREFIX : NAMESPACE_PREFIX + namespace + ':';
+  }
+
+  /**
+   * Loads the dictionary from the provider and writes it to the Redis hash.
+   *
+   * <p>Concurrent calls for the same key within this JVM share a single load. When a lock timeout
+   * is configured, nodes also coordinate through a Redis lock: the node holding it loads the
+   * dictionary while the others wait until it releases the lock, polling with a growing interval.
+   * When the provider has no dictionary, the holder leaves a short-lived absence marker so that the
+   * waiters return at once instead of loading it again. Keys the provider has no dictionary for are
+   * remembered in the negative cache. A dictionary loaded before the key is invalidated or reloaded
+   * is not written to Redis.
+   *
+   * @param key the translation key
+   * @return the loaded dictionary, or {@code null} if the provider has none
+   * @since 1.1.0
+   */
+  protected @Nullable Map<String, String> populate(String key) {
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+    long generation = generation(key);
+    Map<String, String> map =
+        singleFlight(
+            populating,
+            key,
+            () -> lockTimeout == null ? load(key, generation) : loadLocked(key, generation));
+    if (map == null && generation(key) == generation) {
+      negativeCache.add(key);
+    }
+    return map;
+  }
+
+  /**
+   * Loads the dictionaries of the given keys with one bulk provider call and writes them to Redis,
+   * sharing the single-flight loads and the distributed locks of {@link #populate(String)}.
+   */
+  private void populateAll(List<String> keys) {
+    String token = UUID.randomUUID().toString();
+    List<String> locked = new ArrayList<>();
+    Map<String, CompletableFuture<Map<String, String>>> owned = new LinkedHashMap<>();
+    Map<String, Long> started = new HashMap<>();
+    try {
+      for (String key : keys) {
+        String lockKey = cacheKey(key) + LOCK_SUFFIX;
+        if (lockTimeout != null
+            && !Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTimeout))) {
+          continue;
+        }
+        if (lockTimeout != null) {
+          locked.add(lockKey);
+        }
+        CompletableFuture<Map<String, String>> loading = new CompletableFuture<>();
+        if (populating.putIfAbsent(key, loading) == null) {
+          owned.put(key, loading);
+          started.put(key, generation(key));
+        }
+      }
+      if (owned.isEmpty()) {
+        return;
+      }
+      Map<String, Map<String, String>> loaded;
+      try {
+        loaded = provider.getAll(new ArrayList<>(owned.keySet()));
+        owned.forEach(
+            (key, loading) -> {
+              Map<String, String> map = loaded.get(key);
+              if (map != null) {
+                store(key, map, started.get(key));
+              } else if (generation(key) == started.get(key)) {
+                if (lockTimeout != null) {
+                  redisTemplate.opsForValue().set(cacheKey(key) + ABSENT_SUFFIX, "", lockTimeout);
+                }
+                negativeCache.add(key);
+              }
+            });
+      } catch (RuntimeException | Error e) {
+        owned.values().forEach(loading -> loading.completeExceptionally(e));
+        throw e;
+      }
+      owned.forEach((key, loading) -> loading.complete(loaded.get(key)));
+    } finally {
+      owned.forEach(populating::remove);
+      for (String lockKey : locked) {
+        redisTemplate.execute(RedisScripts.UNLOCK, List.of(lockKey), token);
+      }
+    }
+  }
+
+  /**
+   * Reads the whole Redis hash of the given key, populating it from the provider when absent.
+   *
+   * @param key the translation key
+   * @return the dictionary, or {@code null} if neither Redis nor the provider has one
+   * @since 1.1.0
+   */
+  protected @Nullable Map<String, String> fetchAll(String key) {
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+    Map<String, String> map =
+        remote("HGETALL", () -> redisTemplate.<String, String>opsForHash().entries(cacheKey(key)));
+    return map.isEmpty() ? populate(key) : RedisScripts.withoutEmptyField(map);
+  }
+
+  /**
+   * Runs a Redis command, reporting its duration to the listener.
+   *
+   * @param command the name of the command, such as {@code HGET}
+   * @param call the call sending the command
+   * @param <T> the type of the reply
+   * @return the reply
+   * @since 1.1.0
+   */
+  protected <T> T remote(String command, Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      listener.onRemoteCall(command, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Reports a missing translation to the listener.
+   *
+   * @param key the translation key
+   * @param translation the translation found, may be null
+   * @return the given translation
+   * @since 1.1.0
+   */
+  protected @Nullable String reportMissing(String key, @Nullable String translation) {
+    if (translation == null) {
+      listener.onMissingTranslation(key);
+    }
+    return translation;
+  }
+
+  /**
+   * Called after this service has written the dictionary of the given key to Redis.
+   *
+   * @param key the translation key
+   * @since 1.1.0
+   */
+  protected void afterPopulate(String key) {}
+
+  private @Nullable Map<String, String> load(String key, long generation) {
+    Map<String, String> map = provider.get(key);
+    if (map != null) {
+      store(key, map, generation);
+    }
+    return map;
+  }
+
+  /**
+   * Writes a dictionary to its hash unless the key has been invalidated or reloaded since the
+   * dictionary was loaded. Empty dictionaries are written with a marker field, and large ones are
+   * built in chunks under a temporary key renamed once complete.
+   */
+  private void store(String key, Map<String, String> map, long generation) {
+    if (generation(key) != generation) {
+      return;
+    }
+    String cacheKey = cacheKey(key);
+    if (map.size() <= RedisScripts.CHUNK_SIZE) {
+      remote(
+          "EVAL",
+          () ->
+              redisTemplate.execute(
+                  RedisScripts.POPULATE,
+                  List.of(cacheKey),
+                  RedisScripts.populateArgs(map, ttl).toArray()));
+    } else {
+      String building = cacheKey + BUILDING_SUFFIX + UUID.randomUUID();
+      for (List<String> args : RedisScripts.appendArgs(map)) {
+        remote(
+            "EVAL",
+            () -> redisTemplate.execute(RedisScripts.APPEND, List.of(building), args.toArray()));
+      }
+      remote(
+          "EVAL",
+          () ->
+              redisTemplate.execute(
+                  RedisScripts.COMMIT, List.of(building, cacheKey), RedisScripts.ttlArg(ttl)));
+    }
+    if (generation(key) != generation) {
+      // Invalidated while writing: its delete may have run first, so drop the stale hash here.
+      redisTemplate.delete(cacheKey);
+      return;
+    }
+    negativeCache.remove(key);
+    afterPopulate(key);
+  }
+
+  private @Nullable Map<String, String> loadLocked(String key, long generation) {
+    String lockKey = cacheKey(key) + LOCK_SUFFIX;
+    String token = UUID.randomUUID().toString();
+    String cacheKey = cacheKey(key);
+    String absentKey = cacheKey + ABSENT_SUFFIX;
+    if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTimeout))) {
+      try {
+        Map<String, String> map = load(key, generation);
+        if (map == null) {
+          redisTemplate.opsForValue().set(absentKey, "", lockTimeout);
+        }
+        return map;
+      } finally {
+        redisTemplate.execute(RedisScripts.UNLOCK, List.of(lockKey), token);
+      }
+    }
+
+    // Another node is loading: wait until it is done rather than hitting the provider as well.
+    long deadline = System.nanoTime() + lockTimeout.toNanos();
+    long pause = MIN_LOCK_POLL_MILLIS;
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(pause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey))) {
+        break;
+      }
+      if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(absentKey))) {
+          return null;
+        }
+        break;
+      }
+      pause = Math.min(pause * 2, MAX_LOCK_POLL_MILLIS);
+    }
+    // Without a hash, the holder failed or the lock timed out: load the dictionary here.
+    Map<String, String> map = redisTemplate.<String, String>opsForHash().entries(cacheKey);
+    return map.isEmpty() ? load(key, generation) : RedisScripts.withoutEmptyField(map);
+  }
+
+  private @Nullable TranslationDictionary getSnapshot(String key) {
+    Snapshot snapshot = snapshots.get(key);
+    if (snapshot != null && System.nanoTime() - snapshot.fetchedAt() < snapshotTtlNanos) {
+      listener.onHit(key);
+      return snapshot.dictionary();
+    }
+    listener.onMiss(key);
+    return singleFlight(
+        fetching,
+        key,
+        () -> {
+          long generation = generation(key);
+          TranslationDictionary dictionary = TranslationDictionary.of(fetchAll(key));
+          if (generation(key) != generation) {
+            return dictionary;
+          }
+          if (dictionary == null) {
+            snapshots.remove(key);
+          } else {
+            snapshots.put(key, new Snapshot(dictionary, System.nanoTime()));
+          }
+          return dictionary;
+        });
+  }
+
+  /**
+   * Deletes the Redis hash and forgets the local snapshot and negative entries of the key. Loads
+   * already in flight for the key are detached, and their result is not written back.
+   */
+  @Override
+  public void invalidate(@NonNull String key) {
+    generations.merge(key, 1L, Long::sum);
+    detach(key);
+    redisTemplate.delete(cacheKey(key));
+    forget(key);
+  }
+
+  /**
+   * Deletes all Redis hashes of this service, found with {@code SCAN} so that Redis is not blocked,
+   * and forgets all local snapshots and negative entries. Locks, absence markers and hashes being
+   * built are left to expire or complete.
+   */
+  @Override
+  public void invalidateAll() {
+    epoch.incrementAndGet();
+    populating.clear();
+    fetching.clear();
+    List<String> hashes = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(cacheKey("") + "*").count(1000).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String cacheKey = cursor.next();
+        if (!cacheKey.endsWith(LOCK_SUFFIX)
+            && !cacheKey.endsWith(ABSENT_SUFFIX)
+            && !cacheKey.contains(BUILDING_SUFFIX)) {
+          hashes.add(cacheKey);
+        }
+      }
+    }
+    if (!hashes.isEmpty()) {
+      redisTemplate.delete(hashes);
+    }
+    snapshots.clear();
+    negativeCache.clear();
+  }
+
+  /**
+   * Loads the dictionary from the provider and overwrites the Redis hash, without the window in
+   * which neither Redis nor this node has a copy.
+   */
+  @Override
+  public void reload(@NonNull String key) {
+    long generation = generations.merge(key, 1L, Long::sum) + epoch.get();
+    detach(key);
     Map<String, String> map = provider.get(key);
+    if (generation(key) != generation) {
+      return;
+    }
     if (map == null) {
-      return null;
+      invalidate(key);
+      negativeCache.add(key);
+    } else {
+      forget(key);
+      store(key, map, generation);
     }
-    ops.putAll(cacheKey, map);
-    redisTemplate.expire(cacheKey, ttl);
+  }
+
+  @Override
+  public long estimatedSize() {
+    return snapshotTtlNanos > 0 ? snapshots.size() : -1;
+  }
+
+  private long generation(String key) {
+    return epoch.get() + generations.getOrDefault(key, 0L);
+  }
+
+  /** Lets later lookups of the key start a new load instead of joining a stale one. */
+  private void detach(String key) {
+    populating.remove(key);
+    fetching.remove(key);
+  }
+
+  private void forget(String key) {
+    snapshots.remove(key);
+    negativeCache.remove(key);
+    String codePrefix = codeEntry(key, "");
+    negativeCache.removeIf(entry -> entry.startsWith(codePrefix));
+  }
 
-    return map.get(value);
+  private boolean isAbsent(String key, String value) {
+    return negativeCache.isEnabled()
+        && (negativeCache.contains(key) || negativeCache.contains(codeEntry(key, value)));
   }
+
+  static String codeEntry(String key, String value) {
+    return key + CODE_SEPARATOR + value;
+  }
+
+  private static <T> @Nullable T singleFlight(
+      Map<String, CompletableFuture<T>> inFlight, String key, Supplier<@Nullable T> loader) {
+    CompletableFuture<T> loading = new CompletableFuture<>();
+    CompletableFuture<T> existing = inFlight.putIfAbsent(key, loading);
+    if (existing != null) {
+      return await(existing);
+    }
+    try {
+      T result = loader.get();
+      loading.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, loading);
+    }
+  }
+
+  private static <T> @Nullable T await(CompletableFuture<T> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private record Snapshot(TranslationDictionary dictionary, long fetchedAt) {}
 }
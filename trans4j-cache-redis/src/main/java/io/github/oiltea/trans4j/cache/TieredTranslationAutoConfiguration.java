@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.LocalizedTranslationService;
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationCacheProperties;
+import io.github.oiltea.trans4j.core.TranslationListener;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Tiered translation auto-configuration class.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "trans4j.cache", name = "type", havingValue = "tiered")
+public class TieredTranslationAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(StringRedisTemplate.class)
+  @ConditionalOnBean(RedisConnectionFactory.class)
+  StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+    log.debug("Register StringRedisTemplate for TieredTranslationService");
+    return new StringRedisTemplate(connectionFactory);
+  }
+
+  @Bean
+  @ConditionalOnBean(TranslationProvider.class)
+  TranslationService tieredTranslationService(
+      TranslationProvider provider,
+      StringRedisTemplate stringRedisTemplate,
+      TranslationCacheProperties props,
+      ObjectProvider<TranslationListener> listener) {
+    log.debug("Register TieredTranslationService");
+    TranslationListener translationListener = listener.getIfUnique(() -> TranslationListener.NOOP);
+    TranslationCacheProperties.Tiered tiered = props.getTiered();
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        TranslationListener.observe(provider, translationListener),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> {
+          TieredTranslationService service =
+              new TieredTranslationService(
+                  partitionProvider,
+                  stringRedisTemplate,
+                  props.getRedis().getTimeToLive(),
+                  props.getRedis().getLockTimeout(),
+                  tiered.getChannel(),
+                  tiered.getMaximumSize(),
+                  tiered.getTimeToLive());
+          service.setNamespace(locale == null ? null : locale.toLanguageTag());
+          service.setListener(translationListener);
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
+  }
+
+  @Bean
+  @ConditionalOnBean(name = "tieredTranslationService")
+  RedisMessageListenerContainer trans4jMessageListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      @Qualifier("tieredTranslationService") TranslationService tieredTranslationService,
+      TranslationCacheProperties props) {
+    log.debug("Register invalidation listener for TieredTranslationService");
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    ChannelTopic topic = new ChannelTopic(props.getTiered().getChannel());
+    Collection<TranslationService> services =
+        tieredTranslationService instanceof LocalizedTranslationService localized
+            ? localized.getPartitions().values()
+            : List.of(tieredTranslationService);
+    for (TranslationService service : services) {
+      if (service instanceof TieredTranslationService tiered) {
+        container.addMessageListener(tiered, topic);
+      }
+    }
+    return container;
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.ClockEvictor;
+import io.github.oiltea.trans4j.core.TranslationDictionary;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Two-tier translation service keeping a bounded local copy of the Redis dictionaries.
+ *
+ * <p>Lookups are answered from the local tier. On a local miss the whole Redis hash is read with a
+ * single {@code HGETALL}, falling back to the provider when Redis has no copy. Whenever a node
+ * writes a dictionary to Redis or invalidates one, it publishes the translation key on the
+ * configured channel so that the other nodes drop their local copy. The service must be registered
+ * as a listener of that channel.
+ *
+ * <p>The local tier holds at most the configured number of dictionaries, evicted with the
+ * second-chance policy of {@link ClockEvictor}.
+ *
+ * <p>Messages have the form {@code <instance>:<namespace>:<key>}, so that the locale partitions of
+ * a {@link io.github.oiltea.trans4j.core.LocalizedTranslationService} can share one channel: each
+ * partition only acts on the messages of its own {@linkplain #setNamespace(String) namespace}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class TieredTranslationService extends RedisTranslationService implements MessageListener {
+
+  private static final char SEPARATOR = ':';
+
+  /** Message key asking the other nodes to drop all local dictionaries. */
+  private static final String ALL_KEYS = "";
+
+  private final StringRedisTemplate redisTemplate;
+  private final String channel;
+  private final int maximumSize;
+  private final long localTtlNanos;
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, LocalEntry> local = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  private final ClockEvictor<String> clock = new ClockEvictor<>();
+
+  private String namespace = "";
+
+  /**
+   * Constructs a TieredTranslationService.
+   *
+   * @param provider the translation provider used when Redis has no copy of a dictionary
+   * @param redisTemplate the Redis template for cache operations and invalidation messages
+   * @param ttl the time-to-live duration of the Redis copy, or {@code null} to keep it
+   * @param lockTimeout how long a node may hold the loading lock of a key, or {@code null} to load
+   *     without a distributed lock
+   * @param channel the Redis channel used to broadcast invalidations
+   * @param maximumSize the maximum number of dictionaries kept locally
+   * @param localTtl the time-to-live duration of the local copy, or {@code null} to keep it until
+   *     evicted or invalidated
+   */
+  public TieredTranslationService(
+      TranslationProvider provider,
+      StringRedisTemplate redisTemplate,
+      @Nullable Duration ttl,
+      @Nullable Duration lockTimeout,
+      String channel,
+      int maximumSize,
+      @Nullable Duration localTtl) {
+    super(provider, redisTemplate, ttl, lockTimeout, null);
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    this.redisTemplate = redisTemplate;
+    this.channel = channel;
+    this.maximumSize = maximumSize;
+    this.localTtlNanos = localTtl == null ? Long.MAX_VALUE : localTtl.toNanos();
+  }
+
+  @Nullable
+  @Override
+  public String doTranslate(@NonNull String key, @NonNull String value) {
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.get(value));
+  }
+
+  @Nullable
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value) {
+    if (value == null) {
+      return null;
+    }
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.getValue(value));
+  }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    TranslationDictionary dictionary = getDictionary(key);
+    Map<String, String> translations =
+        dictionary == null ? new HashMap<>() : dictionary.getAll(values);
+    getListener().onTranslateAll(key, values, translations);
+    return translations;
+  }
+
+  @Override
+  public void preload(@NonNull String key) {
+    getDictionary(key);
+  }
+
+  /** Populates the missing Redis hashes in bulk, then fills the local tier. */
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    super.preloadAll(keys);
+    for (String key : keys) {
+      getDictionary(key);
+    }
+  }
+
+  /** Drops the dictionary from Redis and from the local tier of every node. */
+  @Override
+  public void invalidate(@NonNull String key) {
+    super.invalidate(key);
+    evictLocal(key);
+    publish(key);
+  }
+
+  /** Drops all dictionaries from Redis and from the local tier of every node. */
+  @Override
+  public void invalidateAll() {
+    super.invalidateAll();
+    evictAllLocal();
+    publish(ALL_KEYS);
+  }
+
+  /**
+   * Overwrites the Redis hash with the provider data. The other nodes drop their local copy when
+   * the hash is written, and this node once it has been.
+   */
+  @Override
+  public void reload(@NonNull String key) {
+    super.reload(key);
+    generation.incrementAndGet();
+    local.remove(key);
+  }
+
+  /**
+   * Sets the namespace of the Redis keys and of the invalidation messages this service publishes
+   * and acts on. The namespace must not contain {@code ':'}.
+   */
+  @Override
+  public void setNamespace(@Nullable String namespace) {
+    super.setNamespace(namespace);
+    this.namespace = namespace == null ? "" : namespace;
+  }
+
+  /** Drops the local copies named by a message of another node in the same namespace. */
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(SEPARATOR);
+    if (separator < 0 || body.indexOf(SEPARATOR, separator + 1) < 0) {
+      log.warn("Ignoring malformed trans4j invalidation message: {}", body);
+      return;
+    }
+    if (separator == instanceId.length() && body.startsWith(instanceId)) {
+      return;
+    }
+    int keyStart = separator + namespace.length() + 2;
+    if (body.length() < keyStart
+        || body.charAt(keyStart - 1) != SEPARATOR
+        || !body.startsWith(namespace, separator + 1)) {
+      return;
+    }
+    String key = body.substring(keyStart);
+    if (key.equals(ALL_KEYS)) {
+      evictAllLocal();
+    } else {
+      evictLocal(key);
+    }
+  }
+
+  @Override
+  protected void afterPopulate(String key) {
+    publish(key);
+  }
+
+  private @Nullable TranslationDictionary getDictionary(String key) {
+    LocalEntry entry = local.get(key);
+    if (entry != null && !entry.isExpired(localTtlNanos)) {
+      entry.markReferenced();
+      getListener().onHit(key);
+      return entry.dictionary();
+    }
+    getListener().onMiss(key);
+
+    long observed = generation.get();
+    TranslationDictionary dictionary = TranslationDictionary.of(fetchAll(key));
+    if (dictionary == null) {
+      return null;
+    }
+
+    // An invalidation received while loading may concern the data just read, so it is served
+    // to this caller but not kept.
+    if (generation.get() == observed) {
+      LocalEntry loaded = new LocalEntry(dictionary, System.nanoTime());
+      local.put(key, loaded);
+      if (generation.get() != observed) {
+        local.remove(key, loaded);
+      }
+      trim(key);
+    }
+    return dictionary;
+  }
+
+  @Override
+  public long estimatedSize() {
+    return local.size();
+  }
+
+  /** Evicts local dictionaries other than the given one until at most the maximum size remains. */
+  private void trim(String keep) {
+    clock.evict(keep, local::get, () -> local.size() > maximumSize, local::remove);
+  }
+
+  private void evictLocal(String key) {
+    generation.incrementAndGet();
+    local.remove(key);
+    clock.remove(key);
+    getNegativeCache().remove(key);
+  }
+
+  private void evictAllLocal() {
+    generation.incrementAndGet();
+    local.clear();
+    clock.clear();
+    getNegativeCache().clear();
+  }
+
+  private void publish(String key) {
+    redisTemplate.convertAndSend(channel, instanceId + SEPARATOR + namespace + SEPARATOR + key);
+  }
+
+  /** Local dictionary with its load time. */
+  private static final class LocalEntry extends ClockEvictor.Node {
+
+    private final TranslationDictionary dictionary;
+
+    private final long loadedAt;
+
+    LocalEntry(TranslationDictionary dictionary, long loadedAt) {
+      this.dictionary = dictionary;
+      this.loadedAt = loadedAt;
+    }
+
+    TranslationDictionary dictionary() {
+      return dictionary;
+    }
+
+    boolean isExpired(long ttlNanos) {
+      return ttlNanos != Long.MAX_VALUE && System.nanoTime() - loadedAt >= ttlNanos;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuppressWarnings("unchecked")
+class ReactiveRedisTranslationServiceTest {
+  private TranslationProvider provider;
+  private ReactiveStringRedisTemplate redis;
+  private ReactiveHashOperations ops;
+  private ReactiveRedisTranslationService service;
+
+  @BeforeEach
+  void setUp() {
+    provider = Mockito.mock(TranslationProvider.class);
+
+    redis = Mockito.mock(ReactiveStringRedisTemplate.class);
+    ops = Mockito.mock(ReactiveHashOperations.class);
+
+    Mockito.when(redis.opsForHash()).thenReturn(ops);
+    Mockito.when(
+            redis.execute(Mockito.any(RedisScript.class), Mockito.anyList(), Mockito.anyList()))
+        .thenReturn(Flux.just(1L));
+
+    service =
+        new ReactiveRedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Schedulers.immediate());
+  }
+
+  @Test
+  void should_return_from_redis_when_hit() {
+    Mockito.when(ops.get("trans4j:gender", "1")).thenReturn(Mono.just("male"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1").block());
+
+    Mockito.verify(provider, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  void should_load_from_provider_and_populate_redis_when_miss() {
+    Mockito.when(ops.get("trans4j:gender", "1")).thenReturn(Mono.empty());
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1").block());
+
+    Mockito.verify(redis)
+        .execute(
+            Mockito.any(RedisScript.class),
+            Mockito.eq(List.of("trans4j:gender")),
+            Mockito.eq(List.of("600000", "1", "male")));
+  }
+
+  @Test
+  void should_complete_empty_when_provider_returns_null() {
+    Mockito.when(ops.get("trans4j:gender", "1")).thenReturn(Mono.empty());
+    Mockito.when(provider.get("gender")).thenReturn(null);
+
+    Assertions.assertNull(service.translate("gender", "1").block());
+    Assertions.assertNull(service.translate("gender", null).block());
+  }
+
+  @Test
+  void should_translate_all_with_single_hmget() {
+    Mockito.when(ops.multiGet("trans4j:gender", List.of("1", "2")))
+        .thenReturn(Mono.just(Arrays.asList("male", null)));
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male", "2", "female"));
+
+    Map<String, String> result = service.translateAll("gender", List.of("1", "2", "1")).block();
+
+    Assertions.assertEquals(Map.of("1", "male", "2", "female"), result);
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+  }
+
+  @Test
+  void should_remember_absent_dictionaries_and_codes() {
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+    Mockito.when(ops.get(Mockito.anyString(), Mockito.anyString())).thenReturn(Mono.empty());
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    Mockito.when(provider.get("status")).thenReturn(null);
+
+    Assertions.assertNull(service.translate("gender", "9").block());
+    Assertions.assertNull(service.translate("gender", "9").block());
+    Assertions.assertNull(service.translate("status", "1").block());
+    Assertions.assertNull(service.translate("status", "1").block());
+    Assertions.assertEquals(Map.of(), service.translateAll("status", List.of("1", "2")).block());
+
+    Mockito.verify(ops, Mockito.times(1)).get("trans4j:gender", "9");
+    Mockito.verify(ops, Mockito.times(1)).get("trans4j:status", "1");
+    Mockito.verify(ops, Mockito.never()).multiGet(Mockito.any(), Mockito.anyCollection());
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+    Mockito.verify(provider, Mockito.times(1)).get("status");
+  }
+
+  @Test
+  void should_prefix_keys_with_namespace() {
+    service.setNamespace("zh-CN");
+    Mockito.when(ops.get("trans4j@zh-CN:gender", "1")).thenReturn(Mono.just("男"));
+
+    Assertions.assertEquals("男", service.translate("gender", "1").block());
+  }
+}
@@ -16,15 +16,33 @@
 
 package io.github.oiltea.trans4j.cache;
 
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.TranslationListener;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @SuppressWarnings("unchecked")
 class RedisTranslationServiceTest {
@@ -54,8 +72,8 @@ class RedisTranslationServiceTest {
     Assertions.assertEquals("male", result);
 
     Mockito.verify(provider, Mockito.never()).get(Mockito.any());
-    Mockito.verify(ops, Mockito.never()).putAll(Mockito.any(), Mockito.any());
-    Mockito.verify(redis, Mockito.never()).expire(Mockito.any(), Mockito.any());
+    Mockito.verify(redis, Mockito.never())
+        .execute(Mockito.any(RedisScript.class), Mockito.anyList(), Mockito.any(Object[].class));
   }
 
   @Test
@@ -68,8 +86,46 @@ class RedisTranslationServiceTest {
     Assertions.assertEquals("male", result);
 
     Mockito.verify(provider, Mockito.times(1)).get("gender");
-    Mockito.verify(ops).putAll("trans4j:gender", Map.of("1", "male", "2", "female"));
-    Mockito.verify(redis).expire(Mockito.eq("trans4j:gender"), Mockito.any(Duration.class));
+    Assertions.assertEquals(
+        List.of("600000", "1", "male", "2", "female"), sortedPopulateArgs("trans4j:gender"));
+  }
+
+  @Test
+  void should_write_and_read_empty_dictionary_as_present() {
+    Mockito.when(provider.get("gender")).thenReturn(Map.of());
+    Mockito.when(ops.entries("trans4j:gender"))
+        .thenReturn(Map.of())
+        .thenReturn(Map.of(RedisScripts.EMPTY_FIELD, ""));
+
+    Assertions.assertEquals(Map.of(), service.fetchAll("gender"));
+    Assertions.assertEquals(Map.of(), service.fetchAll("gender"));
+
+    Assertions.assertEquals(
+        List.of("600000", RedisScripts.EMPTY_FIELD, ""), sortedPopulateArgs("trans4j:gender"));
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+  }
+
+  @Test
+  void should_build_large_dictionaries_in_chunks() {
+    Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < RedisScripts.CHUNK_SIZE * 2 + 1; i++) {
+      map.put(Integer.toString(i), "label" + i);
+    }
+    Mockito.when(provider.get("region")).thenReturn(map);
+
+    service.reload("region");
+
+    ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(redis, Mockito.times(4))
+        .execute(Mockito.any(RedisScript.class), keys.capture(), Mockito.any(Object[].class));
+    String building = keys.getAllValues().get(0).get(0);
+    Assertions.assertTrue(building.startsWith("trans4j:region:building:"));
+    Assertions.assertEquals(List.of(building, "trans4j:region"), keys.getAllValues().get(3));
+    Mockito.verify(redis, Mockito.times(3))
+        .execute(
+            Mockito.eq(RedisScripts.APPEND),
+            Mockito.eq(List.of(building)),
+            Mockito.any(Object[].class));
   }
 
   @Test
@@ -82,6 +138,91 @@ class RedisTranslationServiceTest {
     Assertions.assertNull(result);
   }
 
+  @Test
+  void should_remember_absent_dictionary() {
+    Mockito.when(provider.get("gender")).thenReturn(null);
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+    Assertions.assertNull(service.translate("gender", "1"));
+    Assertions.assertNull(service.translate("gender", "2"));
+
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+    Mockito.verify(ops, Mockito.times(1)).get(Mockito.anyString(), Mockito.any());
+  }
+
+  @Test
+  void should_not_reload_for_a_code_missing_from_the_hash() {
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+    Assertions.assertNull(service.translate("gender", "9"));
+    Assertions.assertNull(service.translate("gender", "9"));
+    Assertions.assertEquals(Map.of(), service.translateAll("gender", List.of("9")));
+
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+    Mockito.verify(ops, Mockito.times(1)).get("trans4j:gender", "9");
+    Mockito.verify(ops, Mockito.never()).multiGet(Mockito.anyString(), Mockito.anyCollection());
+  }
+
+  @Test
+  void should_forget_missing_codes_when_invalidated() {
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+    Assertions.assertNull(service.translate("gender", "9"));
+
+    service.invalidate("gender");
+    Assertions.assertNull(service.translate("gender", "9"));
+
+    Mockito.verify(redis).delete("trans4j:gender");
+    Mockito.verify(ops, Mockito.times(2)).get("trans4j:gender", "9");
+  }
+
+  @Test
+  void should_delete_all_hashes_but_not_locks_when_invalidated_all() {
+    Cursor<String> cursor = Mockito.mock(Cursor.class);
+    Mockito.when(cursor.hasNext()).thenReturn(true, true, true, true, true, false);
+    Mockito.when(cursor.next())
+        .thenReturn(
+            "trans4j:gender",
+            "trans4j:status:lock",
+            "trans4j:region:absent",
+            "trans4j:region:building:1",
+            "trans4j:status");
+    Mockito.when(redis.scan(Mockito.any(ScanOptions.class))).thenReturn(cursor);
+
+    service.invalidateAll();
+
+    ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+    Mockito.verify(redis).scan(options.capture());
+    Assertions.assertEquals("trans4j:*", options.getValue().getPattern());
+    Mockito.verify(redis).delete(List.of("trans4j:gender", "trans4j:status"));
+    Mockito.verify(cursor).close();
+  }
+
+  @Test
+  void should_keep_namespaced_hashes_apart() {
+    Mockito.when(ops.get("trans4j@fr:gender", "1")).thenReturn("homme");
+    service.setNamespace("fr");
+
+    Assertions.assertEquals("homme", service.translate("gender", "1"));
+    service.invalidate("gender");
+
+    Mockito.verify(redis).delete("trans4j@fr:gender");
+    Mockito.verify(ops, Mockito.never()).get("trans4j:gender", "1");
+  }
+
+  @Test
+  void should_delete_hash_when_reloaded_dictionary_is_absent() {
+    Mockito.when(provider.get("gender")).thenReturn(null);
+    service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+    service.reload("gender");
+    Assertions.assertNull(service.translate("gender", "1"));
+
+    Mockito.verify(redis).delete("trans4j:gender");
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+  }
+
   @Test
   void should_return_null_when_value_not_found() {
     Mockito.when(ops.get("trans4j:gender", "3")).thenReturn(null);
@@ -91,4 +232,310 @@ class RedisTranslationServiceTest {
 
     Assertions.assertNull(result);
   }
+
+  @Test
+  void should_translate_all_with_single_hmget_when_hit() {
+    Mockito.when(ops.multiGet("trans4j:gender", List.of("1", "2")))
+        .thenReturn(Arrays.asList("male", "female"));
+
+    Map<String, String> result = service.translateAll("gender", List.of("1", "2", "1"));
+
+    Assertions.assertEquals(Map.of("1", "male", "2", "female"), result);
+    Mockito.verify(ops, Mockito.times(1)).multiGet(Mockito.any(), Mockito.any());
+    Mockito.verify(ops, Mockito.never()).get(Mockito.any(), Mockito.any());
+    Mockito.verify(provider, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  void should_load_from_provider_once_when_translate_all_misses() {
+    Mockito.when(ops.multiGet("trans4j:gender", List.of("1", "2")))
+        .thenReturn(Arrays.asList("male", null));
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male", "2", "female"));
+
+    Map<String, String> result = service.translateAll("gender", List.of("1", "2"));
+
+    Assertions.assertEquals(Map.of("1", "male", "2", "female"), result);
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+    Assertions.assertEquals(
+        List.of("600000", "1", "male", "2", "female"), sortedPopulateArgs("trans4j:gender"));
+  }
+
+  @Test
+  void should_not_expire_when_ttl_is_null() {
+    service = new RedisTranslationService(provider, redis, null);
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+
+    service.translate("gender", "1");
+
+    Assertions.assertEquals(List.of("0", "1", "male"), sortedPopulateArgs("trans4j:gender"));
+    Mockito.verify(redis, Mockito.never()).expire(Mockito.any(), Mockito.any(Duration.class));
+  }
+
+  @Test
+  void should_load_once_for_concurrent_misses() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.when(provider.get("gender"))
+        .thenAnswer(
+            invocation -> {
+              loading.countDown();
+              release.await();
+              return Map.of("1", "male");
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<String> first = executor.submit(() -> service.translate("gender", "1"));
+      Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+      Future<String> second = executor.submit(() -> service.translate("gender", "1"));
+      Mockito.verify(ops, Mockito.timeout(5000).times(2)).get("trans4j:gender", "1");
+      release.countDown();
+
+      Assertions.assertEquals("male", first.get(5, TimeUnit.SECONDS));
+      Assertions.assertEquals("male", second.get(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+  }
+
+  @Test
+  void should_not_write_a_load_started_before_invalidate() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Mockito.when(provider.get("gender"))
+        .thenAnswer(
+            invocation -> {
+              loading.countDown();
+              release.await();
+              return Map.of("1", "Stale");
+            })
+        .thenReturn(Map.of("1", "Edited"));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> stale = executor.submit(() -> service.translate("gender", "1"));
+      Assertions.assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+      service.invalidate("gender");
+      release.countDown();
+      Assertions.assertEquals("Stale", stale.get(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals("Edited", service.translate("gender", "1"));
+    Assertions.assertEquals(List.of("600000", "1", "Edited"), sortedPopulateArgs("trans4j:gender"));
+  }
+
+  @Test
+  void should_load_and_unlock_when_lock_acquired() {
+    ValueOperations<String, String> values = Mockito.mock(ValueOperations.class);
+    Mockito.when(redis.opsForValue()).thenReturn(values);
+    Mockito.when(
+            values.setIfAbsent(
+                Mockito.eq("trans4j:gender:lock"), Mockito.anyString(), Mockito.any()))
+        .thenReturn(true);
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Duration.ofSeconds(5), null);
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    Mockito.verify(redis)
+        .execute(
+            Mockito.any(RedisScript.class),
+            Mockito.eq(List.of("trans4j:gender:lock")),
+            Mockito.anyString());
+  }
+
+  @Test
+  void should_wait_for_other_node_when_lock_held() {
+    ValueOperations<String, String> values = Mockito.mock(ValueOperations.class);
+    Mockito.when(redis.opsForValue()).thenReturn(values);
+    Mockito.when(values.setIfAbsent(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(false);
+    Mockito.when(redis.hasKey("trans4j:gender")).thenReturn(false).thenReturn(true);
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of("1", "male"));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Duration.ofSeconds(5), null);
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    Mockito.verify(provider, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  void should_mark_absent_dictionary_when_lock_acquired() {
+    ValueOperations<String, String> values = Mockito.mock(ValueOperations.class);
+    Mockito.when(redis.opsForValue()).thenReturn(values);
+    Mockito.when(values.setIfAbsent(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+    Mockito.when(provider.get("gender")).thenReturn(null);
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Duration.ofSeconds(5), null);
+
+    Assertions.assertNull(service.translate("gender", "1"));
+
+    Mockito.verify(values).set("trans4j:gender:absent", "", Duration.ofSeconds(5));
+  }
+
+  @Test
+  void should_stop_waiting_when_other_node_finds_no_dictionary() {
+    ValueOperations<String, String> values = Mockito.mock(ValueOperations.class);
+    Mockito.when(redis.opsForValue()).thenReturn(values);
+    Mockito.when(values.setIfAbsent(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(false);
+    Mockito.when(redis.hasKey("trans4j:gender:lock")).thenReturn(true).thenReturn(false);
+    Mockito.when(redis.hasKey("trans4j:gender:absent")).thenReturn(true);
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Duration.ofMinutes(1), null);
+
+    long start = System.nanoTime();
+    Assertions.assertNull(service.translate("gender", "1"));
+
+    Assertions.assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+    Mockito.verify(redis, Mockito.times(2)).hasKey("trans4j:gender:lock");
+    Mockito.verify(provider, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  void should_serve_lookups_from_snapshot_within_window() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of("1", "male", "2", "female"));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), null, Duration.ofMinutes(1));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Assertions.assertEquals("female", service.translateValue("gender", 2));
+    Assertions.assertEquals(
+        Map.of("1", "male", "2", "female"), service.translateAll("gender", List.of("1", "2", "3")));
+
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j:gender");
+    Mockito.verify(ops, Mockito.never()).get(Mockito.any(), Mockito.any());
+    Mockito.verify(ops, Mockito.never()).multiGet(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void should_fetch_snapshot_again_after_window() {
+    Mockito.when(ops.entries("trans4j:gender"))
+        .thenReturn(Map.of("1", "male"))
+        .thenReturn(Map.of("1", "man"));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), null, Duration.ofNanos(1));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+  }
+
+  @Test
+  void should_populate_snapshot_from_provider_when_hash_missing() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of());
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), null, Duration.ofMinutes(1));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    Mockito.verify(provider, Mockito.times(1)).get("gender");
+    Assertions.assertEquals(List.of("600000", "1", "male"), sortedPopulateArgs("trans4j:gender"));
+  }
+
+  @Test
+  void should_preload_only_missing_hashes() {
+    Mockito.when(redis.hasKey("trans4j:gender")).thenReturn(true);
+    Mockito.when(redis.hasKey("trans4j:status")).thenReturn(false);
+    Mockito.when(provider.get("status")).thenReturn(Map.of("1", "active"));
+
+    service.preload("gender");
+    service.preload("status");
+
+    Mockito.verify(provider, Mockito.never()).get("gender");
+    Assertions.assertEquals(List.of("600000", "1", "active"), sortedPopulateArgs("trans4j:status"));
+  }
+
+  @Test
+  void should_preload_missing_hashes_with_one_bulk_call() {
+    Mockito.when(redis.executePipelined(Mockito.any(RedisCallback.class)))
+        .thenReturn(List.of(true, false));
+    Mockito.when(provider.getAll(List.of("status")))
+        .thenReturn(Map.of("status", Map.of("1", "active")));
+
+    service.preloadAll(List.of("gender", "status"));
+
+    Mockito.verify(redis, Mockito.times(1)).executePipelined(Mockito.any(RedisCallback.class));
+    Mockito.verify(redis, Mockito.never()).hasKey(Mockito.any());
+    Mockito.verify(provider).getAll(List.of("status"));
+    Mockito.verify(provider, Mockito.never()).get(Mockito.anyString());
+    Assertions.assertEquals(List.of("600000", "1", "active"), sortedPopulateArgs("trans4j:status"));
+  }
+
+  @Test
+  void should_lock_and_skip_keys_locked_elsewhere_when_preloading() {
+    ValueOperations<String, String> values = Mockito.mock(ValueOperations.class);
+    Mockito.when(redis.opsForValue()).thenReturn(values);
+    Mockito.when(
+            values.setIfAbsent(Mockito.eq("trans4j:gender:lock"), Mockito.any(), Mockito.any()))
+        .thenReturn(false);
+    Mockito.when(
+            values.setIfAbsent(Mockito.eq("trans4j:status:lock"), Mockito.any(), Mockito.any()))
+        .thenReturn(true);
+    Mockito.when(redis.executePipelined(Mockito.any(RedisCallback.class)))
+        .thenReturn(List.of(false, false));
+    Mockito.when(provider.getAll(List.of("status")))
+        .thenReturn(Map.of("status", Map.of("1", "active")));
+    service =
+        new RedisTranslationService(
+            provider, redis, Duration.ofMinutes(10), Duration.ofSeconds(5), null);
+
+    service.preloadAll(List.of("gender", "status"));
+
+    Mockito.verify(provider).getAll(List.of("status"));
+    Mockito.verify(redis)
+        .execute(
+            Mockito.eq(RedisScripts.UNLOCK),
+            Mockito.eq(List.of("trans4j:status:lock")),
+            Mockito.anyString());
+    Mockito.verify(redis, Mockito.never())
+        .execute(
+            Mockito.eq(RedisScripts.UNLOCK),
+            Mockito.eq(List.of("trans4j:gender:lock")),
+            Mockito.anyString());
+  }
+
+  @Test
+  void should_report_hits_and_redis_round_trips() {
+    TranslationListener listener = Mockito.mock(TranslationListener.class);
+    service.setListener(listener);
+    Mockito.when(ops.get("trans4j:gender", "1")).thenReturn("male");
+
+    service.translate("gender", "1");
+
+    Mockito.verify(listener).onHit("gender");
+    Mockito.verify(listener).onRemoteCall(Mockito.eq("HGET"), Mockito.anyLong());
+    Mockito.verify(listener, Mockito.never()).onMissingTranslation(Mockito.anyString());
+  }
+
+  private List<String> sortedPopulateArgs(String cacheKey) {
+    ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+    Mockito.verify(redis)
+        .execute(Mockito.any(RedisScript.class), Mockito.eq(List.of(cacheKey)), args.capture());
+    List<Object> captured = Arrays.asList(args.getValue());
+    Map<String, String> fields = new TreeMap<>();
+    for (int i = 1; i < captured.size(); i += 2) {
+      fields.put((String) captured.get(i), (String) captured.get(i + 1));
+    }
+    List<String> result = new ArrayList<>();
+    result.add((String) captured.get(0));
+    fields.forEach(
+        (field, value) -> {
+          result.add(field);
+          result.add(value);
+        });
+    return result;
+  }
 }
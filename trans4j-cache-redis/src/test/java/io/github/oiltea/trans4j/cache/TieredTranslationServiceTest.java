@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.cache;
+
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@SuppressWarnings("unchecked")
+class TieredTranslationServiceTest {
+  private static final String CHANNEL = "trans4j:invalidation";
+
+  private TranslationProvider provider;
+  private StringRedisTemplate redis;
+  private HashOperations ops;
+  private TieredTranslationService service;
+
+  @BeforeEach
+  void setUp() {
+    provider = Mockito.mock(TranslationProvider.class);
+
+    redis = Mockito.mock(StringRedisTemplate.class);
+    ops = Mockito.mock(HashOperations.class);
+
+    Mockito.when(redis.opsForHash()).thenReturn(ops);
+
+    service =
+        new TieredTranslationService(
+            provider, redis, Duration.ofMinutes(10), null, CHANNEL, 2, null);
+  }
+
+  @Test
+  void should_read_redis_once_and_serve_locally() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of("1", "male", "2", "female"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Assertions.assertEquals("female", service.translateValue("gender", 2));
+    Assertions.assertEquals(
+        Map.of("1", "male", "2", "female"), service.translateAll("gender", List.of("1", "2")));
+
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j:gender");
+    Mockito.verify(ops, Mockito.never()).get(Mockito.any(), Mockito.any());
+    Mockito.verify(provider, Mockito.never()).get(Mockito.any());
+  }
+
+  @Test
+  void should_populate_redis_and_publish_when_redis_misses() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of());
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    Mockito.verify(redis)
+        .execute(
+            Mockito.any(RedisScript.class),
+            Mockito.eq(List.of("trans4j:gender")),
+            Mockito.eq("600000"),
+            Mockito.eq("1"),
+            Mockito.eq("male"));
+    Mockito.verify(redis).convertAndSend(Mockito.eq(CHANNEL), Mockito.endsWith(":gender"));
+  }
+
+  @Test
+  void should_drop_local_copy_when_other_node_invalidates() {
+    Mockito.when(ops.entries("trans4j:gender"))
+        .thenReturn(Map.of("1", "male"))
+        .thenReturn(Map.of("1", "man"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    service.onMessage(message("other-node::gender"), null);
+
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+    Mockito.verify(ops, Mockito.times(2)).entries("trans4j:gender");
+  }
+
+  @Test
+  void should_ignore_own_invalidation_messages() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of());
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "male"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(redis).convertAndSend(Mockito.eq(CHANNEL), payload.capture());
+    service.onMessage(message(payload.getValue()), null);
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j:gender");
+  }
+
+  @Test
+  void should_drop_all_local_copies_when_other_node_invalidates_all() {
+    Mockito.when(ops.entries("trans4j:gender"))
+        .thenReturn(Map.of("1", "male"))
+        .thenReturn(Map.of("1", "man"));
+
+    Assertions.assertEquals("male", service.translate("gender", "1"));
+
+    service.onMessage(message("other-node::"), null);
+
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+  }
+
+  @Test
+  void should_only_act_on_messages_of_own_namespace() {
+    service.setNamespace("zh-CN");
+    Mockito.when(ops.entries("trans4j@zh-CN:gender")).thenReturn(Map.of("1", "男"));
+
+    Assertions.assertEquals("男", service.translate("gender", "1"));
+    service.onMessage(message("other-node:en:gender"), null);
+    service.onMessage(message("other-node:en:"), null);
+    service.onMessage(message("other-node::gender"), null);
+    Assertions.assertEquals("男", service.translate("gender", "1"));
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j@zh-CN:gender");
+
+    service.onMessage(message("other-node:zh-CN:gender"), null);
+    Assertions.assertEquals("男", service.translate("gender", "1"));
+    Mockito.verify(ops, Mockito.times(2)).entries("trans4j@zh-CN:gender");
+  }
+
+  @Test
+  void should_publish_namespace_with_key() {
+    service.setNamespace("zh-CN");
+    service.invalidate("gender");
+
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(redis).convertAndSend(Mockito.eq(CHANNEL), payload.capture());
+    Assertions.assertTrue(payload.getValue().endsWith(":zh-CN:gender"));
+  }
+
+  @Test
+  void should_overwrite_redis_and_drop_local_copy_when_reloaded() {
+    Mockito.when(ops.entries("trans4j:gender"))
+        .thenReturn(Map.of("1", "male"))
+        .thenReturn(Map.of("1", "man"));
+    Mockito.when(provider.get("gender")).thenReturn(Map.of("1", "man"));
+    service.translate("gender", "1");
+
+    service.reload("gender");
+
+    Mockito.verify(redis)
+        .execute(
+            Mockito.any(RedisScript.class),
+            Mockito.eq(List.of("trans4j:gender")),
+            Mockito.eq("600000"),
+            Mockito.eq("1"),
+            Mockito.eq("man"));
+    Mockito.verify(redis).convertAndSend(Mockito.eq(CHANNEL), Mockito.endsWith(":gender"));
+    Assertions.assertEquals("man", service.translate("gender", "1"));
+  }
+
+  @Test
+  void should_delete_and_publish_when_invalidated() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of("1", "male"));
+    service.translate("gender", "1");
+
+    service.invalidate("gender");
+    service.translate("gender", "1");
+
+    Mockito.verify(redis).delete("trans4j:gender");
+    Mockito.verify(redis).convertAndSend(Mockito.eq(CHANNEL), Mockito.endsWith(":gender"));
+    Mockito.verify(ops, Mockito.times(2)).entries("trans4j:gender");
+  }
+
+  @Test
+  void should_bound_local_tier() {
+    Mockito.when(ops.entries(Mockito.anyString())).thenReturn(Map.of("1", "x"));
+
+    service.translate("a", "1");
+    service.translate("b", "1");
+    service.translate("c", "1");
+    service.translate("c", "1");
+
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j:c");
+    Mockito.verify(ops, Mockito.times(3)).entries(Mockito.anyString());
+  }
+
+  @Test
+  void should_keep_recently_read_dictionaries_locally() {
+    Mockito.when(ops.entries(Mockito.anyString())).thenReturn(Map.of("1", "x"));
+
+    service.translate("a", "1");
+    service.translate("b", "1");
+    service.translate("a", "1");
+    service.translate("c", "1");
+    service.translate("a", "1");
+    service.translate("d", "1");
+    service.translate("a", "1");
+
+    Mockito.verify(ops, Mockito.times(1)).entries("trans4j:a");
+    service.translate("c", "1");
+    Mockito.verify(ops, Mockito.times(2)).entries("trans4j:c");
+  }
+
+  @Test
+  void should_return_null_when_dictionary_missing_everywhere() {
+    Mockito.when(ops.entries("trans4j:gender")).thenReturn(Map.of());
+    Mockito.when(provider.get("gender")).thenReturn(null);
+
+    Assertions.assertNull(service.translate("gender", "1"));
+    Mockito.verify(redis, Mockito.never()).convertAndSend(Mockito.any(), Mockito.any());
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage(
+        CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads and fills the {@link Translate} fields of one bean type without reflection.
+ *
+ * <p>Implementations are generated at compile time by the {@code trans4j-processor} annotation
+ * processor, with direct getter and setter calls and constant translation keys. A translator is
+ * named after the binary name of its bean class, with {@code $} replaced by {@code _} and the
+ * {@value #SUFFIX} suffix, and lives in the same package, so {@link #find(Class)} locates it
+ * without any registry. Properties are addressed by their index in {@link #properties()}.
+ *
+ * <p>Only the annotated fields declared by the bean class and its superclasses at compile time are
+ * covered. Subclasses without annotated fields of their own have no translator.
+ *
+ * @param <T> the bean type
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public interface BeanTranslator<T> {
+
+  /** Suffix appended to the bean class name to form the name of its translator. */
+  String SUFFIX = "_Trans4jTranslator";
+
+  /**
+   * Returns the bean type handled by this translator.
+   *
+   * @return the bean type
+   */
+  Class<T> type();
+
+  /**
+   * Returns the annotated properties of the bean type, in declaration order.
+   *
+   * @return the properties, never null
+   */
+  List<Property> properties();
+
+  /**
+   * Reads the source value of the given property.
+   *
+   * @param bean the bean
+   * @param index the index of the property
+   * @return the source value, may be null
+   */
+  @Nullable Object getSource(T bean, int index);
+
+  /**
+   * Reads the current value of the given annotated property.
+   *
+   * @param bean the bean
+   * @param index the index of the property
+   * @return the value, may be null
+   */
+  @Nullable String getTarget(T bean, int index);
+
+  /**
+   * Writes the value of the given annotated property.
+   *
+   * @param bean the bean
+   * @param index the index of the property
+   * @param value the value to write
+   * @throws UnsupportedOperationException if the property is read-only, see {@link
+   *     #isWritable(int)}
+   */
+  void setTarget(T bean, int index, @Nullable String value);
+
+  /**
+   * Returns whether {@link #setTarget} can write the given property.
+   *
+   * <p>Properties of records, final fields and private fields without a setter are read-only. Code
+   * filling the annotated properties writes those through field access instead.
+   *
+   * @param index the index of the property
+   * @return {@code false} if the property is read-only
+   */
+  default boolean isWritable(int index) {
+    return true;
+  }
+
+  /**
+   * Fills the annotated properties of the bean that do not hold a value yet.
+   *
+   * <p>Each source value is translated with {@link TranslationService#translateValue}, and the
+   * value of the null policy is written when there is no translation. Read-only properties, see
+   * {@link #isWritable(int)}, are left untouched.
+   *
+   * @param bean the bean
+   * @param translationService the service translating the source values
+   */
+  void translate(T bean, TranslationService translationService);
+
+  /**
+   * Returns the index of the property backed by the given field.
+   *
+   * @param name the field name
+   * @return the index, or {@code -1} if the field is not an annotated property
+   */
+  default int indexOf(String name) {
+    List<Property> properties = properties();
+    for (int i = 0; i < properties.size(); i++) {
+      if (properties.get(i).name().equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the generated translator of the given bean type.
+   *
+   * <p>The lookup is done once per type and cached.
+   *
+   * @param type the bean type
+   * @param <T> the bean type
+   * @return the translator, or {@code null} if none was generated for the type
+   */
+  @SuppressWarnings("unchecked")
+  static <T> @Nullable BeanTranslator<T> find(Class<T> type) {
+    return (BeanTranslator<T>) BeanTranslators.find(type);
+  }
+
+  /**
+   * An annotated property of a bean type.
+   *
+   * @param name the name of the annotated field
+   * @param key the translation key
+   * @param from the name of the source field
+   * @param nullValue the value written when there is no translation, as given by the null policy
+   * @param delimiter the delimiter of multi-code sources, see {@link Translate#delimiter()}
+   */
+  record Property(
+      String name, String key, String from, @Nullable String nullValue, String delimiter) {}
+}
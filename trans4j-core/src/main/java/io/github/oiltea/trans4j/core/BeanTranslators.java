@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Locates and caches the generated {@link BeanTranslator} of each bean type.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+final class BeanTranslators {
+
+  private static final ClassValue<Optional<BeanTranslator<?>>> TRANSLATORS =
+      new ClassValue<>() {
+        @Override
+        protected Optional<BeanTranslator<?>> computeValue(Class<?> type) {
+          return Optional.ofNullable(load(type));
+        }
+      };
+
+  private BeanTranslators() {}
+
+  static @Nullable BeanTranslator<?> find(Class<?> type) {
+    return TRANSLATORS.get(type).orElse(null);
+  }
+
+  /**
+   * Returns the name of the translator generated for the given bean type.
+   *
+   * @param type the bean type
+   * @return the fully qualified name of the translator class
+   */
+  static String translatorName(Class<?> type) {
+    String packageName = type.getPackageName();
+    String simpleName =
+        packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+    String name = simpleName.replace('$', '_') + BeanTranslator.SUFFIX;
+    return packageName.isEmpty() ? name : packageName + '.' + name;
+  }
+
+  private static @Nullable BeanTranslator<?> load(Class<?> type) {
+    ClassLoader classLoader = type.getClassLoader();
+    if (classLoader == null || type.isPrimitive() || type.isArray()) {
+      return null;
+    }
+    Class<?> translatorClass;
+    try {
+      translatorClass = Class.forName(translatorName(type), true, classLoader);
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    try {
+      BeanTranslator<?> translator =
+          (BeanTranslator<?>) translatorClass.getDeclaredConstructor().newInstance();
+      if (translator.type() == type) {
+        return translator;
+      }
+      log.warn(
+          "Ignoring {}, which translates {} rather than {}",
+          translatorClass,
+          translator.type(),
+          type);
+    } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+      log.warn("Failed to instantiate {}, falling back to reflection", translatorClass, e);
+    }
+    return null;
+  }
+}
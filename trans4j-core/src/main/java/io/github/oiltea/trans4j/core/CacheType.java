@@ -24,12 +24,26 @@ package io.github.oiltea.trans4j.core;
  */
 public enum CacheType {
 
+  /**
+   * Redis backed caching with a local in-memory tier.
+   *
+   * @since 1.1.0
+   */
+  TIERED,
+
   /** Redis backed caching. */
   REDIS,
 
   /** Caffeine backed caching. */
   CAFFEINE,
 
+  /**
+   * In-memory caching outside the Java heap.
+   *
+   * @since 1.1.0
+   */
+  OFF_HEAP,
+
   /** Simple in-memory caching. */
   SIMPLE,
 
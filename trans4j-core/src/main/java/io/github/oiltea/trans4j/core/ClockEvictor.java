@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Second-chance (clock) eviction policy shared by the caching services.
+ *
+ * <p>The hand goes round the keys in insertion order and keeps its position between evictions. An
+ * entry read since the hand last passed it gets a second chance and is moved behind the hand; keys
+ * no longer cached are dropped from the clock as the hand reaches them. Each key is passed at most
+ * twice per eviction, so eviction costs amortized constant time per stored entry.
+ *
+ * <p>The cached entries stay in the caller's map and extend {@link Node} to carry the reference
+ * bit. All methods are thread-safe.
+ *
+ * @param <K> the type of the keys
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class ClockEvictor<K> {
+
+  /** Keys in clock order, the head being the hand. Guarded by itself. */
+  private final ArrayDeque<K> clock = new ArrayDeque<>();
+
+  /** Keys present in {@link #clock}. Guarded by {@code clock}. */
+  private final Set<K> clocked = new HashSet<>();
+
+  /**
+   * Adds the given key behind the hand, unless it is already on the clock.
+   *
+   * @param key the key of a cached entry
+   */
+  public void add(K key) {
+    synchronized (clock) {
+      if (clocked.add(key)) {
+        clock.addLast(key);
+      }
+    }
+  }
+
+  /**
+   * Adds the given key to the clock, then evicts entries other than it while the cache overflows.
+   *
+   * @param keep the key of the entry just stored, never evicted by this call
+   * @param lookup returns the cached entry of a key, or {@code null} if it is no longer cached
+   * @param overflowing tells whether the cache still holds too much
+   * @param remove removes an entry if it is still the cached one, returning whether it did
+   * @param <E> the type of the cached entries
+   */
+  public <E extends Node> void evict(
+      K keep,
+      Function<? super K, ? extends E> lookup,
+      BooleanSupplier overflowing,
+      BiPredicate<? super K, ? super E> remove) {
+    synchronized (clock) {
+      if (clocked.add(keep)) {
+        clock.addLast(keep);
+      }
+      for (int steps = 2 * clock.size(); steps > 0 && overflowing.getAsBoolean(); steps--) {
+        K key = clock.pollFirst();
+        E entry = lookup.apply(key);
+        if (entry == null) {
+          clocked.remove(key);
+        } else if (key.equals(keep) || entry.clearReferenced() || !remove.test(key, entry)) {
+          clock.addLast(key);
+        } else {
+          clocked.remove(key);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops the given key from the clock.
+   *
+   * @param key the key of an invalidated entry
+   */
+  public void remove(K key) {
+    synchronized (clock) {
+      if (clocked.remove(key)) {
+        clock.remove(key);
+      }
+    }
+  }
+
+  /** Drops all keys from the clock. */
+  public void clear() {
+    synchronized (clock) {
+      clock.clear();
+      clocked.clear();
+    }
+  }
+
+  /**
+   * Cached entry carrying the reference bit of the clock policy.
+   *
+   * @since 1.1.0
+   */
+  public abstract static class Node {
+
+    /** Set by readers and cleared by the hand; a lost update only affects eviction order. */
+    private boolean referenced;
+
+    /** Marks the entry as read since the hand last passed it. */
+    public final void markReferenced() {
+      if (!referenced) {
+        referenced = true;
+      }
+    }
+
+    final boolean clearReferenced() {
+      if (referenced) {
+        referenced = false;
+        return true;
+      }
+      return false;
+    }
+  }
+}
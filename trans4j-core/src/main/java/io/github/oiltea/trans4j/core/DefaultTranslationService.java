@@ -16,6 +16,7 @@
 
 package io.github.oiltea.trans4j.core;
 
+import java.util.Collection;
 import java.util.Map;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -43,4 +44,9 @@ public class DefaultTranslationService implements TranslationService {
     }
     return map.get(value);
   }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    return TranslationService.lookupAll(provider.get(key), values);
+  }
 }
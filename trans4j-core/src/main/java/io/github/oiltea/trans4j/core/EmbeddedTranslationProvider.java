@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation provider serving dictionaries exported at build time.
+ *
+ * <p>Static dictionaries, such as those backed by enums or configuration files, can be exported
+ * during the build by {@link #export(TranslationProvider, Collection, Path)} or {@link
+ * #main(String[])} to the class path resource {@link #RESOURCE}. They are then read once per class
+ * loader and served without calling any provider; keys that were not exported are delegated to the
+ * optional fallback provider.
+ *
+ * <p>In a GraalVM native image the holder of the exported dictionaries is initialized at build
+ * time, see {@code META-INF/native-image/io.github.oiltea/trans4j-core/native-image.properties}.
+ * The dictionaries are therefore stored in the image heap, and neither the resource nor a provider
+ * is read at startup.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class EmbeddedTranslationProvider implements TranslationProvider {
+
+  /** Class path resource holding the exported dictionaries. */
+  public static final String RESOURCE = "META-INF/trans4j/dictionaries.bin";
+
+  /** Magic number of the exported resource, {@code "T4JE"}. */
+  private static final int MAGIC = 0x54344A45;
+
+  /** Version of the resource format, incremented on any layout change. */
+  static final int FORMAT_VERSION = 2;
+
+  private final Map<String, Map<String, String>> dictionaries;
+
+  private final @Nullable TranslationProvider fallback;
+
+  /** Creates a provider serving the exported dictionaries only. */
+  public EmbeddedTranslationProvider() {
+    this(null);
+  }
+
+  /**
+   * Creates a provider serving the exported dictionaries before the fallback provider.
+   *
+   * @param fallback the provider called for keys that were not exported, may be null
+   */
+  public EmbeddedTranslationProvider(@Nullable TranslationProvider fallback) {
+    this(Dictionaries.EXPORTED, fallback);
+  }
+
+  EmbeddedTranslationProvider(
+      Map<String, Map<String, String>> dictionaries, @Nullable TranslationProvider fallback) {
+    this.dictionaries = dictionaries;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Map<String, String> get(@NonNull String key) {
+    Map<String, String> dictionary = dictionaries.get(key);
+    if (dictionary != null || fallback == null) {
+      return dictionary;
+    }
+    return fallback.get(key);
+  }
+
+  /**
+   * Retrieves the dictionary of a key in the given locale.
+   *
+   * <p>The exported dictionaries are those of {@link Locale#ROOT}; other locales are served by the
+   * fallback provider.
+   */
+  @Override
+  public Map<String, String> get(@NonNull String key, @NonNull Locale locale) {
+    if (Locale.ROOT.equals(locale)) {
+      return get(key);
+    }
+    return fallback == null ? null : fallback.get(key, locale);
+  }
+
+  @Override
+  public Map<String, Map<String, String>> getAll(Collection<String> keys) {
+    Map<String, Map<String, String>> result = new HashMap<>(keys.size() * 2);
+    List<String> missing = new ArrayList<>();
+    for (String key : keys) {
+      Map<String, String> dictionary = dictionaries.get(key);
+      if (dictionary != null) {
+        result.put(key, dictionary);
+      } else {
+        missing.add(key);
+      }
+    }
+    if (fallback != null && !missing.isEmpty()) {
+      result.putAll(fallback.getAll(missing));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, Map<String, String>> getAll(Collection<String> keys, @NonNull Locale locale) {
+    if (Locale.ROOT.equals(locale)) {
+      return getAll(keys);
+    }
+    return fallback == null ? new HashMap<>() : fallback.getAll(keys, locale);
+  }
+
+  /**
+   * Returns whether a dictionary was exported for the key.
+   *
+   * @param key the dictionary key
+   * @return {@code true} if the key is served without calling the fallback provider
+   */
+  public boolean contains(@NonNull String key) {
+    return dictionaries.containsKey(key);
+  }
+
+  /**
+   * Exports the dictionaries of a build-time provider.
+   *
+   * <p>The file is written next to its final location first and then moved, so a concurrent build
+   * never reads a partial export.
+   *
+   * @param provider the provider of the static dictionaries
+   * @param keys the keys to export; keys without a dictionary are left out
+   * @param file the file to write, usually {@link #RESOURCE} below the class output directory
+   * @throws IOException if the file cannot be written
+   */
+  public static void export(TranslationProvider provider, Collection<String> keys, Path file)
+      throws IOException {
+    Map<String, Map<String, String>> exported = new LinkedHashMap<>();
+    Map<String, Map<String, String>> loaded = provider.getAll(keys);
+    for (String key : keys) {
+      Map<String, String> dictionary = loaded.get(key);
+      if (dictionary != null) {
+        exported.put(key, dictionary);
+      }
+    }
+    Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        write(exported, out);
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Exports dictionaries from the command line, for example with the {@code exec-maven-plugin}.
+   *
+   * <p>The arguments are the output file, the class name of a provider with a public no-argument
+   * constructor, and the keys to export.
+   *
+   * @param args the output file, the provider class name and the keys
+   * @throws Exception if the provider cannot be created or the file cannot be written
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      throw new IllegalArgumentException(
+          "Usage: EmbeddedTranslationProvider <output file> <provider class> <key>...");
+    }
+    TranslationProvider provider =
+        (TranslationProvider)
+            Class.forName(args[1], true, Thread.currentThread().getContextClassLoader())
+                .getDeclaredConstructor()
+                .newInstance();
+    export(provider, Arrays.asList(args).subList(2, args.length), Path.of(args[0]));
+  }
+
+  /**
+   * Writes dictionaries with each string as its UTF-8 length followed by its bytes, so strings are
+   * not limited to the 64 KiB of {@link DataOutputStream#writeUTF(String)}. Null keys, codes and
+   * labels are left out.
+   */
+  static void write(Map<String, Map<String, String>> dictionaries, OutputStream out)
+      throws IOException {
+    Map<String, Map<String, String>> exported = new LinkedHashMap<>();
+    dictionaries.forEach(
+        (key, dictionary) -> {
+          if (key != null && dictionary != null) {
+            Map<String, String> entries = new LinkedHashMap<>();
+            dictionary.forEach(
+                (code, label) -> {
+                  if (code != null && label != null) {
+                    entries.put(code, label);
+                  }
+                });
+            exported.put(key, entries);
+          }
+        });
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeInt(exported.size());
+    for (Map.Entry<String, Map<String, String>> dictionary : exported.entrySet()) {
+      writeString(data, dictionary.getKey());
+      data.writeInt(dictionary.getValue().size());
+      for (Map.Entry<String, String> entry : dictionary.getValue().entrySet()) {
+        writeString(data, entry.getKey());
+        writeString(data, entry.getValue());
+      }
+    }
+    data.flush();
+  }
+
+  static Map<String, Map<String, String>> read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    if (data.readInt() != MAGIC) {
+      throw new IOException("Not an embedded dictionary resource");
+    }
+    int version = data.readInt();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported embedded dictionary format " + version);
+    }
+    int count = data.readInt();
+    Map<String, Map<String, String>> dictionaries = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      String key = readString(data);
+      int size = data.readInt();
+      Map<String, String> dictionary = new HashMap<>(size * 2);
+      for (int j = 0; j < size; j++) {
+        dictionary.put(readString(data), readString(data));
+      }
+      dictionaries.put(key, Map.copyOf(dictionary));
+    }
+    return Map.copyOf(dictionaries);
+  }
+
+  private static void writeString(DataOutputStream data, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    data.writeInt(bytes.length);
+    data.write(bytes);
+  }
+
+  private static String readString(DataInputStream data) throws IOException {
+    int length = data.readInt();
+    if (length < 0) {
+      throw new IOException("Corrupt embedded dictionary resource");
+    }
+    byte[] bytes = new byte[length];
+    data.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Holder of the exported dictionaries, initialized on first use or at native image build time.
+   *
+   * <p>It only depends on JDK classes, so initializing it at build time does not pull any other
+   * class of the application into the image heap.
+   */
+  static final class Dictionaries {
+
+    static final Map<String, Map<String, String>> EXPORTED = load();
+
+    private Dictionaries() {}
+
+    private static Map<String, Map<String, String>> load() {
+      ClassLoader classLoader = EmbeddedTranslationProvider.class.getClassLoader();
+      try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+        return in == null ? Map.of() : read(in);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+      }
+    }
+  }
+}
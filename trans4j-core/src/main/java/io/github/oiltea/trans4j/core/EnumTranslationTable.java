@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.EnumMap;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link EnumMap}-backed view of a dictionary for one enum type.
+ *
+ * <p>Each constant is mapped once to the translation of its string form, so enum source values are
+ * looked up by ordinal instead of by string.
+ *
+ * @param <E> the enum type
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class EnumTranslationTable<E extends Enum<E>> {
+
+  private final EnumMap<E, String> values;
+
+  private EnumTranslationTable(EnumMap<E, String> values) {
+    this.values = values;
+  }
+
+  /**
+   * Builds the table of an enum type from a dictionary.
+   *
+   * @param type the enum type
+   * @param dictionary looks up the translation of a string code
+   * @param <E> the enum type
+   * @return the table
+   */
+  static <E extends Enum<E>> EnumTranslationTable<E> of(
+      Class<E> type, Function<String, @Nullable String> dictionary) {
+    EnumMap<E, String> values = new EnumMap<>(type);
+    for (E constant : type.getEnumConstants()) {
+      String value = dictionary.apply(constant.toString());
+      if (value != null) {
+        values.put(constant, value);
+      }
+    }
+    return new EnumTranslationTable<>(values);
+  }
+
+  @Nullable String get(E code) {
+    return values.get(code);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open-addressing hash table from {@code int} codes to translations.
+ *
+ * <p>Holds the entries of a dictionary whose codes are canonical decimal integers, so numeric
+ * source values can be looked up without boxing, string conversion or string hashing.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class IntTranslationTable {
+
+  /** Returned by {@link #parse(String)} for codes that are not canonical integers. */
+  static final long NOT_AN_INT = Long.MIN_VALUE;
+
+  private final int[] keys;
+  private final String[] values;
+  private final int mask;
+  private final int size;
+
+  private IntTranslationTable(int[] keys, String[] values, int size) {
+    this.keys = keys;
+    this.values = values;
+    this.mask = keys.length - 1;
+    this.size = size;
+  }
+
+  /**
+   * Builds a table from the integer codes of a dictionary.
+   *
+   * @param map the dictionary
+   * @param labels returns the shared instance of each translation
+   * @return the table, or null if the dictionary has no integer codes
+   */
+  static @Nullable IntTranslationTable of(Map<String, String> map, UnaryOperator<String> labels) {
+    int count = 0;
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      if (entry.getValue() != null && parse(entry.getKey()) != NOT_AN_INT) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return null;
+    }
+    int capacity = Integer.highestOneBit(Math.max(count * 2 - 1, 1)) << 1;
+    int[] keys = new int[capacity];
+    String[] values = new String[capacity];
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      long code = parse(entry.getKey());
+      if (code != NOT_AN_INT && entry.getValue() != null) {
+        int slot = hash((int) code) & (capacity - 1);
+        while (values[slot] != null) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        keys[slot] = (int) code;
+        values[slot] = labels.apply(entry.getValue());
+      }
+    }
+    return new IntTranslationTable(keys, values, count);
+  }
+
+  /**
+   * Returns the translation of an integer code.
+   *
+   * @param code the code
+   * @return the translation, or null if the code is unknown
+   */
+  @Nullable String get(int code) {
+    int slot = hash(code) & mask;
+    String value;
+    while ((value = values[slot]) != null) {
+      if (keys[slot] == code) {
+        return value;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void forEach(BiConsumer<String, String> action) {
+    for (int slot = 0; slot < values.length; slot++) {
+      if (values[slot] != null) {
+        action.accept(Integer.toString(keys[slot]), values[slot]);
+      }
+    }
+  }
+
+  private static int hash(int code) {
+    int h = code * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Parses a code that is the canonical decimal form of an {@code int}, without allocating.
+   *
+   * @param code the code
+   * @return the integer, or {@link #NOT_AN_INT} if the code is not a canonical integer
+   */
+  static long parse(String code) {
+    int length = code.length();
+    if (length == 0 || length > 11) {
+      return NOT_AN_INT;
+    }
+    boolean negative = code.charAt(0) == '-';
+    int start = negative ? 1 : 0;
+    if (start == length || (code.charAt(start) == '0' && (length > start + 1 || negative))) {
+      return NOT_AN_INT;
+    }
+    long value = 0;
+    for (int i = start; i < length; i++) {
+      char c = code.charAt(i);
+      if (c < '0' || c > '9') {
+        return NOT_AN_INT;
+      }
+      value = value * 10 + (c - '0');
+    }
+    value = negative ? -value : value;
+    return value == (int) value ? value : NOT_AN_INT;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * View of a provider serving the dictionaries of one locale, with its fallback chain merged in.
+ *
+ * <p>The fallback chain is resolved once, when the view is created, following the candidate locales
+ * of {@link ResourceBundle.Control}: {@code zh-Hant-TW} falls back to {@code zh-Hant}, {@code zh}
+ * and finally {@link Locale#ROOT}. Each load asks the provider for every locale of the chain, with
+ * one {@link TranslationProvider#getAll(Collection, Locale)} call per locale for batch loads, and
+ * merges the results so that more specific labels win. Translations then look the merged dictionary
+ * up once, without walking the chain again.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ * @see LocalizedTranslationService
+ */
+public final class LocalizedTranslationProvider implements TranslationProvider {
+
+  private static final ResourceBundle.Control CONTROL =
+      ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+  private final TranslationProvider provider;
+
+  private final Locale locale;
+
+  /** The fallback chain, from {@link Locale#ROOT} to the locale itself. */
+  private final List<Locale> chain;
+
+  /**
+   * Creates a view of the provider for the given locale.
+   *
+   * @param provider the locale-aware provider
+   * @param locale the locale of the labels
+   */
+  public LocalizedTranslationProvider(TranslationProvider provider, Locale locale) {
+    this.provider = provider;
+    this.locale = locale;
+    this.chain = fallbackChain(locale);
+  }
+
+  /**
+   * Returns the fallback chain of a locale.
+   *
+   * @param locale the locale
+   * @return the candidate locales, from {@link Locale#ROOT} to the locale itself
+   */
+  public static List<Locale> fallbackChain(Locale locale) {
+    List<Locale> chain = new ArrayList<>(CONTROL.getCandidateLocales("", locale));
+    Collections.reverse(chain);
+    return List.copyOf(chain);
+  }
+
+  /**
+   * Returns the locale of the labels served by this view.
+   *
+   * @return the locale
+   */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  @Override
+  public Map<String, String> get(@NonNull String key) {
+    Map<String, String> merged = null;
+    for (Locale candidate : chain) {
+      merged = merge(merged, provider.get(key, candidate));
+    }
+    return merged;
+  }
+
+  @Override
+  public Map<String, Map<String, String>> getAll(Collection<String> keys) {
+    Map<String, Map<String, String>> merged = new HashMap<>(keys.size() * 2);
+    for (Locale candidate : chain) {
+      for (Map.Entry<String, Map<String, String>> entry :
+          provider.getAll(keys, candidate).entrySet()) {
+        merged.put(entry.getKey(), merge(merged.get(entry.getKey()), entry.getValue()));
+      }
+    }
+    return merged;
+  }
+
+  /** Overlays the labels of a more specific locale, copying the parent only when both exist. */
+  private static Map<String, String> merge(Map<String, String> parent, Map<String, String> child) {
+    if (parent == null || parent.isEmpty()) {
+      return child == null ? parent : child;
+    }
+    if (child == null || child.isEmpty()) {
+      return parent;
+    }
+    Map<String, String> merged = new HashMap<>(parent);
+    merged.putAll(child);
+    return merged;
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation service partitioning its dictionaries by locale.
+ *
+ * <p>Every supported locale has its own delegate service, created once with a {@link
+ * LocalizedTranslationProvider}, so each cache backend keeps the dictionaries of different locales
+ * apart, with their fallback chains merged at load time. Translations are served by the partition
+ * of the current locale, as given by the locale resolver, for example {@code
+ * LocaleContextHolder::getLocale} in Spring applications, or by {@link #forLocale(Locale)} when the
+ * locale comes from elsewhere.
+ *
+ * <p>A requested locale is mapped to the supported locale closest to it, following the candidate
+ * locales of {@link ResourceBundle.Control}, and to the default locale when none matches. The
+ * mapping is remembered for a bounded number of requested locales, so a lookup costs two map reads
+ * in addition to the translation itself.
+ *
+ * <p>Preloading and invalidation apply to every partition.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class LocalizedTranslationService implements TranslationService {
+
+  private static final ResourceBundle.Control CONTROL =
+      ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+  /** Maximum number of requested locales whose partition is remembered. */
+  private static final int MAX_RESOLVED = 256;
+
+  private final Map<Locale, TranslationService> partitions;
+
+  private final TranslationService defaultPartition;
+
+  private final Supplier<Locale> localeResolver;
+
+  private final Map<Locale, TranslationService> resolved = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a service from existing partitions.
+   *
+   * @param partitions the service of each supported locale
+   * @param defaultLocale the locale whose partition serves unsupported locales, must be one of the
+   *     partitions
+   * @param localeResolver the supplier of the current locale
+   */
+  public LocalizedTranslationService(
+      Map<Locale, ? extends TranslationService> partitions,
+      Locale defaultLocale,
+      Supplier<Locale> localeResolver) {
+    this.partitions = Collections.unmodifiableMap(new LinkedHashMap<>(partitions));
+    this.defaultPartition = partitions.get(defaultLocale);
+    if (defaultPartition == null) {
+      throw new IllegalArgumentException("No partition for default locale " + defaultLocale);
+    }
+    this.localeResolver = localeResolver;
+  }
+
+  /**
+   * Creates the translation service of a cache backend, partitioned by locale when enabled.
+   *
+   * <p>The factory is called once per supported locale with a {@link LocalizedTranslationProvider}
+   * of that locale, and once with {@code null} and the provider itself when locales are disabled.
+   * Backends that share storage, such as Redis, use the locale to keep their keys apart.
+   *
+   * @param settings the locale settings
+   * @param provider the translation provider
+   * @param localeResolver the supplier of the current locale
+   * @param factory creates the service of one locale, or of all locales when given {@code null}
+   * @return the partitioned service, or the single service when locales are disabled
+   * @throws IllegalArgumentException if locales are enabled without any supported locale
+   */
+  public static TranslationService of(
+      TranslationCacheProperties.Locales settings,
+      TranslationProvider provider,
+      Supplier<Locale> localeResolver,
+      BiFunction<@Nullable Locale, TranslationProvider, TranslationService> factory) {
+    if (!settings.isEnabled()) {
+      return factory.apply(null, provider);
+    }
+    return new LocalizedTranslationService(
+        createPartitions(settings, provider, factory), defaultLocale(settings), localeResolver);
+  }
+
+  /** Creates the partition of each supported locale and of the default locale. */
+  static <T> Map<Locale, T> createPartitions(
+      TranslationCacheProperties.Locales settings,
+      TranslationProvider provider,
+      BiFunction<@Nullable Locale, TranslationProvider, T> factory) {
+    Map<Locale, T> partitions = new LinkedHashMap<>();
+    for (Locale locale : settings.getSupported()) {
+      partitions.put(
+          locale, factory.apply(locale, new LocalizedTranslationProvider(provider, locale)));
+    }
+    partitions.computeIfAbsent(
+        defaultLocale(settings),
+        locale -> factory.apply(locale, new LocalizedTranslationProvider(provider, locale)));
+    return partitions;
+  }
+
+  /** Returns the configured default locale, or the first supported one. */
+  static Locale defaultLocale(TranslationCacheProperties.Locales settings) {
+    List<Locale> supported = settings.getSupported();
+    if (supported.isEmpty()) {
+      throw new IllegalArgumentException("trans4j.cache.locales.supported must not be empty");
+    }
+    return settings.getDefaultLocale() == null ? supported.get(0) : settings.getDefaultLocale();
+  }
+
+  /**
+   * Returns the partitions of this service.
+   *
+   * @return the service of each supported locale, in configuration order
+   */
+  public Map<Locale, TranslationService> getPartitions() {
+    return partitions;
+  }
+
+  @Override
+  public TranslationService forLocale(@NonNull Locale locale) {
+    TranslationService partition = resolved.get(locale);
+    if (partition == null) {
+      partition = lookup(locale);
+      if (resolved.size() < MAX_RESOLVED) {
+        resolved.put(locale, partition);
+      }
+    }
+    return partition;
+  }
+
+  @Override
+  public String translate(@NonNull String key, String value) {
+    return current().translate(key, value);
+  }
+
+  @Override
+  public String doTranslate(@NonNull String key, @NonNull String value) {
+    return current().doTranslate(key, value);
+  }
+
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value) {
+    return current().translateValue(key, value);
+  }
+
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value, String delimiter) {
+    return current().translateValue(key, value, delimiter);
+  }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    return current().translateAll(key, values);
+  }
+
+  @Override
+  public void preload(@NonNull String key) {
+    partitions.values().forEach(partition -> partition.preload(key));
+  }
+
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    partitions.values().forEach(partition -> partition.preloadAll(keys));
+  }
+
+  @Override
+  public void invalidate(@NonNull String key) {
+    partitions.values().forEach(partition -> partition.invalidate(key));
+  }
+
+  @Override
+  public void invalidateAll() {
+    partitions.values().forEach(TranslationService::invalidateAll);
+  }
+
+  @Override
+  public void reload(@NonNull String key) {
+    partitions.values().forEach(partition -> partition.reload(key));
+  }
+
+  @Override
+  public long estimatedSize() {
+    return sum(TranslationService::estimatedSize);
+  }
+
+  @Override
+  public long estimatedWeight() {
+    return sum(TranslationService::estimatedWeight);
+  }
+
+  private TranslationService current() {
+    Locale locale = localeResolver.get();
+    return locale == null ? defaultPartition : forLocale(locale);
+  }
+
+  private TranslationService lookup(Locale locale) {
+    return closest(partitions, locale, defaultPartition);
+  }
+
+  /** Returns the partition of the supported locale closest to the given one. */
+  static <T> T closest(Map<Locale, T> partitions, Locale locale, T defaultPartition) {
+    for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+      T partition = partitions.get(candidate);
+      if (partition != null) {
+        return partition;
+      }
+    }
+    return defaultPartition;
+  }
+
+  /** Sums a statistic over the partitions, or returns {@code -1} if none reports it. */
+  private long sum(ToLongFunction<TranslationService> statistic) {
+    long total = -1;
+    for (TranslationService partition : partitions.values()) {
+      long value = statistic.applyAsLong(partition);
+      if (value >= 0) {
+        total = Math.max(total, 0) + value;
+      }
+    }
+    return total;
+  }
+}
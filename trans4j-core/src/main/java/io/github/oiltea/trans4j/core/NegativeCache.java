@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded set of entries known to be absent, each remembered for a fixed time-to-live.
+ *
+ * <p>Caching services use it to remember dictionaries the provider does not have, and codes missing
+ * from a dictionary, so that repeated lookups of bad data do not reach the provider or the remote
+ * cache again until the entry expires. When the set is full, expired entries are dropped first,
+ * then arbitrary ones until a tenth of the capacity is free again.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class NegativeCache {
+
+  private static final NegativeCache DISABLED = new NegativeCache(null, 0);
+
+  private final long ttlNanos;
+
+  private final int maximumSize;
+
+  private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a negative cache.
+   *
+   * @param ttl how long an entry is remembered, or {@code null} or zero to disable the cache
+   * @param maximumSize the maximum number of entries remembered
+   */
+  public NegativeCache(@Nullable Duration ttl, int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumSize must not be negative");
+    }
+    this.ttlNanos = ttl == null || maximumSize == 0 ? 0 : Math.max(ttl.toNanos(), 0);
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Returns a negative cache remembering nothing.
+   *
+   * @return the disabled negative cache
+   */
+  public static NegativeCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns whether this cache remembers anything.
+   *
+   * @return {@code true} if entries are remembered
+   */
+  public boolean isEnabled() {
+    return ttlNanos > 0;
+  }
+
+  /**
+   * Returns whether the given entry is known to be absent.
+   *
+   * @param entry the entry
+   * @return {@code true} if the entry was added and has not expired
+   */
+  public boolean contains(String entry) {
+    if (ttlNanos == 0) {
+      return false;
+    }
+    Long expiry = expiries.get(entry);
+    if (expiry == null) {
+      return false;
+    }
+    if (System.nanoTime() - expiry < 0) {
+      return true;
+    }
+    expiries.remove(entry, expiry);
+    return false;
+  }
+
+  /**
+   * Remembers the given entry as absent for the time-to-live of this cache.
+   *
+   * @param entry the entry
+   */
+  public void add(String entry) {
+    if (ttlNanos == 0) {
+      return;
+    }
+    expiries.put(entry, System.nanoTime() + ttlNanos);
+    if (expiries.size() > maximumSize) {
+      trim();
+    }
+  }
+
+  /**
+   * Forgets the given entry, for example once its dictionary has been loaded.
+   *
+   * @param entry the entry
+   */
+  public void remove(String entry) {
+    if (ttlNanos > 0) {
+      expiries.remove(entry);
+    }
+  }
+
+  /**
+   * Forgets the entries matching the given filter.
+   *
+   * @param filter the filter selecting the entries to forget
+   * @since 1.1.0
+   */
+  public void removeIf(Predicate<String> filter) {
+    if (ttlNanos > 0) {
+      expiries.keySet().removeIf(filter);
+    }
+  }
+
+  /** Forgets all entries. */
+  public void clear() {
+    expiries.clear();
+  }
+
+  private void trim() {
+    long now = System.nanoTime();
+    expiries.values().removeIf(expiry -> now - expiry >= 0);
+    int target = maximumSize - maximumSize / 10;
+    Iterator<Long> entries = expiries.values().iterator();
+    while (expiries.size() > target && entries.hasNext()) {
+      entries.next();
+      entries.remove();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Provider reporting the duration of each call of a delegate to a {@link TranslationListener}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ * @see TranslationListener#observe(TranslationProvider, TranslationListener)
+ */
+final class ObservedTranslationProvider implements TranslationProvider {
+
+  private final TranslationProvider delegate;
+
+  private final TranslationListener listener;
+
+  ObservedTranslationProvider(TranslationProvider delegate, TranslationListener listener) {
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public Map<String, String> get(String key) {
+    return observe(key, () -> delegate.get(key));
+  }
+
+  @Override
+  public Map<String, String> get(String key, Locale locale) {
+    return observe(key, () -> delegate.get(key, locale));
+  }
+
+  @Override
+  public Map<String, Map<String, String>> getAll(Collection<String> keys) {
+    return observe(null, () -> delegate.getAll(keys));
+  }
+
+  @Override
+  public Map<String, Map<String, String>> getAll(Collection<String> keys, Locale locale) {
+    return observe(null, () -> delegate.getAll(keys, locale));
+  }
+
+  private <T> T observe(@Nullable String key, Supplier<T> call) {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      T result = call.get();
+      success = true;
+      return result;
+    } finally {
+      listener.onProviderCall(key, System.nanoTime() - start, success);
+    }
+  }
+}
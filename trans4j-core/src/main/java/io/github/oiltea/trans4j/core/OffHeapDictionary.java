@@ -0,0 +1,344 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Dictionary stored outside the Java heap in a single direct {@link ByteBuffer}.
+ *
+ * <p>The buffer starts with an open-addressing index of {@code capacity} slots, each holding the
+ * {@link String#hashCode()} of a code and the offset of its entry, followed by the entries
+ * themselves as length-prefixed UTF-8 code and translation bytes:
+ *
+ * <pre>
+ * index: [hash:int][offset:int] * capacity
+ * entry: [codeLength:int][code:byte*][valueLength:int][value:byte*]
+ * </pre>
+ *
+ * <p>Lookups hash the code with its cached {@link String#hashCode()} and compare ASCII codes
+ * character by character against the stored bytes, so only the translation found is materialized as
+ * a {@link String}.
+ *
+ * <p>The layout only uses offsets relative to the start of the buffer, so a dictionary can be
+ * written to a snapshot file and mapped back with {@link FileChannel#map} without any decoding. A
+ * snapshot file starts with a header checked when it is read:
+ *
+ * <pre>
+ * header: [magic:int][version:int][capacity:int][size:int][length:int][crc32:int]
+ * </pre>
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class OffHeapDictionary {
+
+  private static final int SLOT_BYTES = 8;
+
+  private static final int EMPTY = -1;
+
+  /** Magic number of snapshot files, {@code "T4JD"}. */
+  private static final int MAGIC = 0x54344A44;
+
+  /** Version of the snapshot file format, incremented on any layout change. */
+  static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_BYTES = 6 * Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final int capacity;
+  private final int size;
+  private final int mask;
+
+  private OffHeapDictionary(ByteBuffer buffer, int capacity, int size) {
+    this.buffer = buffer;
+    this.capacity = capacity;
+    this.size = size;
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Copies a provider result into a new direct buffer.
+   *
+   * @param map the provider result, may be null
+   * @return the dictionary, or null if the provider returned null
+   * @throws IllegalArgumentException if the dictionary does not fit in a single buffer
+   */
+  static @Nullable OffHeapDictionary of(@Nullable Map<String, String> map) {
+    if (map == null) {
+      return null;
+    }
+    int count = 0;
+    long dataBytes = 0;
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      if (entry.getKey() != null && entry.getValue() != null) {
+        count++;
+        dataBytes += 2L * Integer.BYTES + utf8Length(entry.getKey()) + utf8Length(entry.getValue());
+      }
+    }
+    int capacity = Integer.highestOneBit(Math.max(count + count / 3, 1)) << 1;
+    long total = (long) capacity * SLOT_BYTES + dataBytes;
+    if (total > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Dictionary of " + count + " entries needs " + total + " bytes, more than one buffer");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect((int) total);
+    for (int slot = 0; slot < capacity; slot++) {
+      buffer.putInt(slot * SLOT_BYTES + Integer.BYTES, EMPTY);
+    }
+    int offset = capacity * SLOT_BYTES;
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      String code = entry.getKey();
+      String value = entry.getValue();
+      if (code == null || value == null) {
+        continue;
+      }
+      int hash = code.hashCode();
+      int slot = spread(hash) & (capacity - 1);
+      while (buffer.getInt(slot * SLOT_BYTES + Integer.BYTES) != EMPTY) {
+        slot = (slot + 1) & (capacity - 1);
+      }
+      buffer.putInt(slot * SLOT_BYTES, hash);
+      buffer.putInt(slot * SLOT_BYTES + Integer.BYTES, offset);
+      offset = putString(buffer, offset, code);
+      offset = putString(buffer, offset, value);
+    }
+    return new OffHeapDictionary(buffer, capacity, count);
+  }
+
+  /**
+   * Maps a snapshot file written by {@link #write(Path)}.
+   *
+   * <p>The whole file is read once to verify its checksum, which also loads its pages into the page
+   * cache. Lookups then read the mapped pages directly.
+   *
+   * @param file the snapshot file
+   * @return the dictionary backed by the mapped file
+   * @throws IOException if the file cannot be read, or is not a valid snapshot of this version
+   */
+  static OffHeapDictionary read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      while (header.hasRemaining() && channel.read(header) >= 0) {
+        // keep reading until the header is complete or the file ends
+      }
+      if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+        throw new IOException("Not a trans4j dictionary snapshot: " + file);
+      }
+      if (header.getInt(4) != FORMAT_VERSION) {
+        throw new IOException("Unsupported snapshot version " + header.getInt(4) + ": " + file);
+      }
+      int capacity = header.getInt(8);
+      int size = header.getInt(12);
+      int length = header.getInt(16);
+      if (Integer.bitCount(capacity) != 1
+          || length < capacity * SLOT_BYTES
+          || channel.size() != (long) HEADER_BYTES + length) {
+        throw new IOException("Truncated or malformed snapshot: " + file);
+      }
+      ByteBuffer body = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, length);
+      CRC32 crc = new CRC32();
+      crc.update(body.duplicate());
+      if ((int) crc.getValue() != header.getInt(20)) {
+        throw new IOException("Snapshot checksum mismatch: " + file);
+      }
+      return new OffHeapDictionary(body, capacity, size);
+    }
+  }
+
+  /**
+   * Writes this dictionary to a snapshot file, replacing any existing content.
+   *
+   * @param file the snapshot file
+   * @throws IOException if the file cannot be written
+   */
+  void write(Path file) throws IOException {
+    ByteBuffer body = buffer.duplicate().clear();
+    CRC32 crc = new CRC32();
+    crc.update(body.duplicate());
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header
+        .putInt(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putInt(capacity)
+        .putInt(size)
+        .putInt(body.remaining())
+        .putInt((int) crc.getValue())
+        .flip();
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (header.hasRemaining()) {
+        channel.write(header);
+      }
+      while (body.hasRemaining()) {
+        channel.write(body);
+      }
+      channel.force(false);
+    }
+  }
+
+  /**
+   * Returns the translation of a code.
+   *
+   * @param code the code
+   * @return the translation, or null if the code is unknown
+   */
+  @Nullable String get(String code) {
+    int hash = code.hashCode();
+    int slot = spread(hash) & mask;
+    int offset;
+    byte @Nullable [] encoded = null;
+    while ((offset = buffer.getInt(slot * SLOT_BYTES + Integer.BYTES)) != EMPTY) {
+      if (buffer.getInt(slot * SLOT_BYTES) == hash) {
+        int length = buffer.getInt(offset);
+        int start = offset + Integer.BYTES;
+        if (matchesAscii(code, start, length)) {
+          return getString(start + length);
+        }
+        if (!isAscii(code)) {
+          if (encoded == null) {
+            encoded = code.getBytes(StandardCharsets.UTF_8);
+          }
+          if (matchesBytes(encoded, start, length)) {
+            return getString(start + length);
+          }
+        }
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Translates a collection of codes.
+   *
+   * @param codes the codes, may contain nulls
+   * @return a mutable map from each translated code to its translation
+   */
+  Map<String, String> getAll(Collection<String> codes) {
+    Map<String, String> result = new HashMap<>(codes.size() * 2);
+    for (String code : codes) {
+      if (code != null && !result.containsKey(code)) {
+        String translated = get(code);
+        if (translated != null) {
+          result.put(code, translated);
+        }
+      }
+    }
+    return result;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of bytes held outside the heap.
+   *
+   * @return the capacity of the buffer
+   */
+  int byteSize() {
+    return buffer.capacity();
+  }
+
+  private boolean matchesAscii(String code, int start, int length) {
+    if (code.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = code.charAt(i);
+      if (c >= 0x80 || buffer.get(start + i) != (byte) c) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean matchesBytes(byte[] encoded, int start, int length) {
+    if (encoded.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (buffer.get(start + i) != encoded[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String getString(int offset) {
+    int length = buffer.getInt(offset);
+    byte[] bytes = new byte[length];
+    buffer.get(offset + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int putString(ByteBuffer buffer, int offset, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    buffer.putInt(offset, bytes.length);
+    buffer.put(offset + Integer.BYTES, bytes);
+    return offset + Integer.BYTES + bytes.length;
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int utf8Length(String value) {
+    int length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation service keeping its dictionaries outside the Java heap.
+ *
+ * <p>Each provider map is copied once, straight into a direct {@link java.nio.ByteBuffer} holding
+ * an open-addressing index and the UTF-8 bytes of its codes and translations. The heap only holds
+ * one small object per dictionary, so very large dictionaries add no garbage collection work, and
+ * strings are only created for the translations looked up.
+ *
+ * <p>Dictionaries are loaded once and kept until the application stops. They are loaded through a
+ * {@link TranslationLoader}, so concurrent loads of the same key share a single provider call, made
+ * outside of any map lock on the loader's executor and within its concurrency limit. The direct
+ * memory of a dictionary is bounded by {@code -XX:MaxDirectMemorySize} and must fit in a single
+ * buffer of at most 2 GiB.
+ *
+ * <p>With a snapshot directory, every dictionary loaded from the provider is also written to a file
+ * in that directory, with a version and checksum header. After a restart a missing dictionary is
+ * first mapped from its snapshot with {@link java.nio.channels.FileChannel#map}, so lookups are
+ * served from the mapped pages at once, while the provider is called in the background to replace
+ * it with fresh data. Unreadable or outdated snapshots are ignored.
+ *
+ * <p>Invalidations and reloads detach the loads in progress, and each key carries a generation
+ * bumped by them. A dictionary loaded before an invalidation is neither cached nor written to its
+ * snapshot after it, so it cannot come back after a restart.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class OffHeapTranslationService implements TranslationService {
+
+  private static final String SNAPSHOT_SUFFIX = ".dict";
+
+  private static final Function<Map<String, String>, OffHeapDictionary> OFF_HEAP =
+      OffHeapDictionary::of;
+
+  private final TranslationLoader loader;
+
+  private final @Nullable Path snapshotDirectory;
+
+  private final Executor executor;
+
+  private final Map<String, OffHeapDictionary> cache = new ConcurrentHashMap<>();
+
+  /** Generation of each invalidated key, added to {@link #epoch} to detect stale loads. */
+  private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+  /** Generation of all keys, bumped by {@link #invalidateAll()}. */
+  private final AtomicLong epoch = new AtomicLong();
+
+  /** Orders snapshot writes after the generation check with snapshot deletions. */
+  private final Object snapshotLock = new Object();
+
+  /** Listener notified of cache hits, misses and missing translations. */
+  @Setter private TranslationListener listener = TranslationListener.NOOP;
+
+  /** Cache remembering the keys the provider has no dictionary for. */
+  @Setter private NegativeCache negativeCache = NegativeCache.disabled();
+
+  public OffHeapTranslationService(TranslationProvider provider) {
+    this(new TranslationLoader(provider), null, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a service that persists its dictionaries as snapshot files.
+   *
+   * @param provider the translation provider
+   * @param snapshotDirectory the directory of the snapshot files, created if missing, or {@code
+   *     null} to keep dictionaries in memory only
+   * @param executor the executor writing snapshots and refreshing dictionaries read from them
+   */
+  public OffHeapTranslationService(
+      TranslationProvider provider, @Nullable Path snapshotDirectory, Executor executor) {
+    this(new TranslationLoader(provider), snapshotDirectory, executor);
+  }
+
+  /**
+   * Creates a service loading its dictionaries through the given loader and persisting them as
+   * snapshot files.
+   *
+   * @param loader the loader calling the translation provider
+   * @param snapshotDirectory the directory of the snapshot files, created if missing, or {@code
+   *     null} to keep dictionaries in memory only
+   * @param executor the executor writing snapshots and refreshing dictionaries read from them
+   */
+  public OffHeapTranslationService(
+      TranslationLoader loader, @Nullable Path snapshotDirectory, Executor executor) {
+    this.loader = loader;
+    this.snapshotDirectory = snapshotDirectory;
+    this.executor = executor;
+  }
+
+  @Nullable
+  @Override
+  public String doTranslate(@NonNull String key, @NonNull String value) {
+    OffHeapDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.get(value));
+  }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    OffHeapDictionary dictionary = getDictionary(key);
+    Map<String, String> translations =
+        dictionary == null ? new HashMap<>() : dictionary.getAll(values);
+    listener.onTranslateAll(key, values, translations);
+    return translations;
+  }
+
+  @Override
+  public void preload(@NonNull String key) {
+    getDictionary(key);
+  }
+
+  /** Loads all missing dictionaries with one bulk provider call. */
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    Set<String> missing = new LinkedHashSet<>();
+    for (String key : keys) {
+      if (key != null && !cache.containsKey(key) && !negativeCache.contains(key)) {
+        missing.add(key);
+      }
+    }
+    Map<String, Long> started = new HashMap<>(missing.size() * 2);
+    List<String> restored = new ArrayList<>();
+    for (String key : missing) {
+      long generation = generation(key);
+      started.put(key, generation);
+      OffHeapDictionary snapshot = readSnapshot(key);
+      if (snapshot != null && put(key, snapshot, generation, false)) {
+        restored.add(key);
+      }
+    }
+    missing.removeAll(restored);
+    if (!missing.isEmpty()) {
+      Map<String, OffHeapDictionary> loaded =
+          loader.loadAll(
+              missing, OFF_HEAP, (key, dictionary) -> store(key, dictionary, started.get(key)));
+      for (String key : missing) {
+        if (!loaded.containsKey(key) && generation(key) == started.get(key)) {
+          negativeCache.add(key);
+        }
+      }
+    }
+    if (!restored.isEmpty()) {
+      executor.execute(() -> refresh(restored, started));
+    }
+  }
+
+  /**
+   * Drops the dictionary from memory and deletes its snapshot, discarding any load of it that
+   * started before this call.
+   */
+  @Override
+  public void invalidate(@NonNull String key) {
+    generations.merge(key, 1L, Long::sum);
+    loader.invalidate(key);
+    cache.remove(key);
+    negativeCache.remove(key);
+    synchronized (snapshotLock) {
+      deleteSnapshot(key);
+    }
+  }
+
+  /** Drops all dictionaries from memory and deletes all snapshots. */
+  @Override
+  public void invalidateAll() {
+    epoch.incrementAndGet();
+    loader.invalidateAll();
+    cache.clear();
+    negativeCache.clear();
+    if (snapshotDirectory == null || !Files.isDirectory(snapshotDirectory)) {
+      return;
+    }
+    synchronized (snapshotLock) {
+      try (DirectoryStream<Path> files =
+          Files.newDirectoryStream(snapshotDirectory, "*" + SNAPSHOT_SUFFIX)) {
+        for (Path file : files) {
+          Files.deleteIfExists(file);
+        }
+      } catch (IOException e) {
+        log.warn("Failed to delete translation snapshots in {}", snapshotDirectory, e);
+      }
+    }
+  }
+
+  /**
+   * Loads the dictionary with a new provider call and replaces the cached copy and its snapshot.
+   * Loads that started before this call are discarded.
+   */
+  @Override
+  public void reload(@NonNull String key) {
+    long generation = generations.merge(key, 1L, Long::sum) + epoch.get();
+    loader.invalidate(key);
+    if (loader.load(key, OFF_HEAP, dictionary -> replace(key, dictionary, generation)) == null) {
+      replace(key, null, generation);
+    }
+  }
+
+  @Override
+  public long estimatedSize() {
+    return cache.size();
+  }
+
+  @Override
+  public long estimatedWeight() {
+    long weight = 0;
+    for (OffHeapDictionary dictionary : cache.values()) {
+      weight += dictionary.size();
+    }
+    return weight;
+  }
+
+  /**
+   * Returns the number of bytes of direct memory held by the cached dictionaries.
+   *
+   * @return the direct memory in bytes
+   */
+  public long getOffHeapBytes() {
+    long bytes = 0;
+    for (OffHeapDictionary dictionary : cache.values()) {
+      bytes += dictionary.byteSize();
+    }
+    return bytes;
+  }
+
+  private @Nullable OffHeapDictionary getDictionary(String key) {
+    OffHeapDictionary dictionary = cache.get(key);
+    if (dictionary != null) {
+      listener.onHit(key);
+      return dictionary;
+    }
+    listener.onMiss(key);
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+    return load(key);
+  }
+
+  /**
+   * Maps the snapshot of a missing dictionary and refreshes it in the background, or loads the
+   * dictionary from the provider when there is no snapshot.
+   */
+  private @Nullable OffHeapDictionary load(String key) {
+    long generation = generation(key);
+    OffHeapDictionary snapshot = readSnapshot(key);
+    if (snapshot != null) {
+      if (put(key, snapshot, generation, false)) {
+        executor.execute(() -> refresh(List.of(key), Map.of(key, generation)));
+        return snapshot;
+      }
+      OffHeapDictionary cached = cache.get(key);
+      return cached == null ? snapshot : cached;
+    }
+    OffHeapDictionary loaded =
+        loader.load(key, OFF_HEAP, dictionary -> store(key, dictionary, generation));
+    if (loaded == null && generation(key) == generation) {
+      negativeCache.add(key);
+    }
+    return loaded;
+  }
+
+  private long generation(String key) {
+    return epoch.get() + generations.getOrDefault(key, 0L);
+  }
+
+  /**
+   * Caches a dictionary, unless the key was invalidated since its load started.
+   *
+   * <p>The generation is compared within the map's lock on the key, and invalidations bump it
+   * before removing the key, so a stale dictionary is either rejected here or removed afterwards.
+   *
+   * @return whether the dictionary was cached
+   */
+  private boolean put(
+      String key, OffHeapDictionary dictionary, long generation, boolean replaceExisting) {
+    OffHeapDictionary stored =
+        cache.compute(
+            key,
+            (k, current) ->
+                generation(k) != generation || (current != null && !replaceExisting)
+                    ? current
+                    : dictionary);
+    return stored == dictionary;
+  }
+
+  /** Caches a dictionary loaded on a miss and writes its snapshot in the background. */
+  private void store(String key, OffHeapDictionary dictionary, long generation) {
+    if (put(key, dictionary, generation, true)) {
+      negativeCache.remove(key);
+      executor.execute(() -> writeSnapshot(key, dictionary, generation));
+    }
+  }
+
+  /** Replaces dictionaries read from snapshots with the current provider data. */
+  private void refresh(Collection<String> keys, Map<String, Long> started) {
+    Map<String, OffHeapDictionary> loaded;
+    try {
+      loaded =
+          loader.loadAll(
+              keys, OFF_HEAP, (key, dictionary) -> replace(key, dictionary, started.get(key)));
+    } catch (RuntimeException e) {
+      log.warn("Failed to refresh translations for keys {}, keeping the snapshots", keys, e);
+      return;
+    }
+    for (String key : keys) {
+      if (!loaded.containsKey(key)) {
+        replace(key, null, started.get(key));
+      }
+    }
+  }
+
+  private void replace(String key, @Nullable OffHeapDictionary dictionary, long generation) {
+    if (dictionary == null) {
+      synchronized (snapshotLock) {
+        if (generation(key) == generation) {
+          cache.remove(key);
+          negativeCache.add(key);
+          deleteSnapshot(key);
+        }
+      }
+    } else if (put(key, dictionary, generation, true)) {
+      negativeCache.remove(key);
+      writeSnapshot(key, dictionary, generation);
+    }
+  }
+
+  private @Nullable OffHeapDictionary readSnapshot(String key) {
+    Path file = snapshotFile(key);
+    if (file == null || !Files.isRegularFile(file)) {
+      return null;
+    }
+    try {
+      return OffHeapDictionary.read(file);
+    } catch (IOException e) {
+      log.warn("Ignoring translation snapshot of key '{}': {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Writes the snapshot of a dictionary, unless the key was invalidated since its load started.
+   *
+   * <p>The file is written aside first. The generation is checked and the file moved into place
+   * under the lock taken by deletions, so an invalidated dictionary is never written back.
+   */
+  private void writeSnapshot(String key, OffHeapDictionary dictionary, long generation) {
+    Path file = snapshotFile(key);
+    if (file == null) {
+      return;
+    }
+    Path temp = null;
+    try {
+      Files.createDirectories(file.getParent());
+      temp = Files.createTempFile(file.getParent(), ".trans4j-", ".tmp");
+      dictionary.write(temp);
+      synchronized (snapshotLock) {
+        if (generation(key) == generation) {
+          // Replace atomically so that readers never map a partly written file.
+          Files.move(
+              temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+          temp = null;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to write translation snapshot of key '{}'", key, e);
+    } finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+          // nothing more to clean up
+        }
+      }
+    }
+  }
+
+  private void deleteSnapshot(String key) {
+    Path file = snapshotFile(key);
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.warn("Failed to delete translation snapshot of key '{}'", key, e);
+      }
+    }
+  }
+
+  private @Nullable Path snapshotFile(String key) {
+    if (snapshotDirectory == null) {
+      return null;
+    }
+    String name = URLEncoder.encode(key, StandardCharsets.UTF_8).replace("*", "%2A");
+    return snapshotDirectory.resolve(name + SNAPSHOT_SUFFIX);
+  }
+
+  private @Nullable String reportMissing(String key, @Nullable String translation) {
+    if (translation == null) {
+      listener.onMissingTranslation(key);
+    }
+    return translation;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive translation service partitioning its dictionaries by locale.
+ *
+ * <p>The reactive counterpart of {@link LocalizedTranslationService}. Since reactive pipelines have
+ * no current locale, the partition is chosen by {@link #forLocale(Locale)}, and the methods of this
+ * service translate with the partition of the default locale.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class ReactiveLocalizedTranslationService implements ReactiveTranslationService {
+
+  /** Maximum number of requested locales whose partition is remembered. */
+  private static final int MAX_RESOLVED = 256;
+
+  private final Map<Locale, ReactiveTranslationService> partitions;
+
+  private final ReactiveTranslationService defaultPartition;
+
+  private final Map<Locale, ReactiveTranslationService> resolved = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a service from existing partitions.
+   *
+   * @param partitions the service of each supported locale
+   * @param defaultLocale the locale whose partition serves unsupported locales, must be one of the
+   *     partitions
+   */
+  public ReactiveLocalizedTranslationService(
+      Map<Locale, ? extends ReactiveTranslationService> partitions, Locale defaultLocale) {
+    this.partitions = Collections.unmodifiableMap(new LinkedHashMap<>(partitions));
+    this.defaultPartition = partitions.get(defaultLocale);
+    if (defaultPartition == null) {
+      throw new IllegalArgumentException("No partition for default locale " + defaultLocale);
+    }
+  }
+
+  /**
+   * Creates the reactive translation service of a cache backend, partitioned by locale when
+   * enabled.
+   *
+   * @param settings the locale settings
+   * @param provider the translation provider
+   * @param factory creates the service of one locale, or of all locales when given {@code null}
+   * @return the partitioned service, or the single service when locales are disabled
+   * @throws IllegalArgumentException if locales are enabled without any supported locale
+   * @see LocalizedTranslationService#of
+   */
+  public static ReactiveTranslationService of(
+      TranslationCacheProperties.Locales settings,
+      TranslationProvider provider,
+      BiFunction<@Nullable Locale, TranslationProvider, ReactiveTranslationService> factory) {
+    if (!settings.isEnabled()) {
+      return factory.apply(null, provider);
+    }
+    return new ReactiveLocalizedTranslationService(
+        LocalizedTranslationService.createPartitions(settings, provider, factory),
+        LocalizedTranslationService.defaultLocale(settings));
+  }
+
+  /**
+   * Returns the partitions of this service.
+   *
+   * @return the service of each supported locale, in configuration order
+   */
+  public Map<Locale, ReactiveTranslationService> getPartitions() {
+    return partitions;
+  }
+
+  @Override
+  public ReactiveTranslationService forLocale(@NonNull Locale locale) {
+    ReactiveTranslationService partition = resolved.get(locale);
+    if (partition == null) {
+      partition = LocalizedTranslationService.closest(partitions, locale, defaultPartition);
+      if (resolved.size() < MAX_RESOLVED) {
+        resolved.put(locale, partition);
+      }
+    }
+    return partition;
+  }
+
+  @Override
+  public Mono<String> translate(@NonNull String key, @Nullable String value) {
+    return defaultPartition.translate(key, value);
+  }
+
+  @Override
+  public Mono<String> translateValue(@NonNull String key, @Nullable Object value) {
+    return defaultPartition.translateValue(key, value);
+  }
+
+  @Override
+  public Mono<Map<String, String>> translateAll(@NonNull String key, Collection<String> values) {
+    return defaultPartition.translateAll(key, values);
+  }
+}
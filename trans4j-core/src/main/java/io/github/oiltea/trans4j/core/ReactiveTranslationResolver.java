@@ -0,0 +1,397 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fills the {@link Translate} fields of objects before they are serialized.
+ *
+ * <p>The object graph is walked once to collect the source codes of every annotated field, the
+ * codes are translated with one {@link ReactiveTranslationService#translateAll} call per key, and
+ * the results are written into the annotated fields. The filled objects are returned wrapped in
+ * {@link Resolved}, which the Jackson modules write with their annotated fields as they are, even
+ * the ones left null, so serializing a resolved object performs no translation lookups.
+ *
+ * <p>The codes of sources holding several codes, see {@link Translate#delimiter()}, join the same
+ * batch lookup. Collections, arrays, map values and fields holding other beans are visited as well.
+ * Fields that already hold a value are left untouched, and fields of records cannot be filled.
+ *
+ * <p>The annotated fields of a class with a {@link BeanTranslator} generated by {@code
+ * trans4j-processor} are read and written through it rather than by reflection, except the ones it
+ * cannot write, such as final fields.
+ *
+ * <pre>{@code
+ * @GetMapping("/users")
+ * Flux<Resolved<User>> users() {
+ *   return resolver.resolveAll(repository.findAll(), 100);
+ * }
+ * }</pre>
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class ReactiveTranslationResolver {
+
+  private final ReactiveTranslationService translationService;
+  private final Map<Class<?>, BeanMetadata> metadata = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a ReactiveTranslationResolver.
+   *
+   * @param translationService the service used to translate the collected codes
+   */
+  public ReactiveTranslationResolver(ReactiveTranslationService translationService) {
+    this.translationService = translationService;
+  }
+
+  /**
+   * Fills the annotated fields reachable from the given object.
+   *
+   * @param value a bean, collection, array or map, can be null
+   * @param <T> the type of the value
+   * @return the same object, wrapped once its fields are filled, or an empty {@link Mono} for null
+   */
+  public <T> Mono<Resolved<T>> resolve(@Nullable T value) {
+    return resolve(value, translationService);
+  }
+
+  /**
+   * Fills the annotated fields reachable from the given object with translations into a locale.
+   *
+   * @param value a bean, collection, array or map, can be null
+   * @param locale the locale of the translations, such as the one of the current exchange
+   * @param <T> the type of the value
+   * @return the same object, wrapped once its fields are filled, or an empty {@link Mono} for null
+   * @since 1.1.0
+   */
+  public <T> Mono<Resolved<T>> resolve(@Nullable T value, Locale locale) {
+    return resolve(value, translationService.forLocale(locale));
+  }
+
+  private <T> Mono<Resolved<T>> resolve(
+      @Nullable T value, ReactiveTranslationService translationService) {
+    if (value == null) {
+      return Mono.empty();
+    }
+    Pending pending = new Pending();
+    collect(value, pending, Collections.newSetFromMap(new IdentityHashMap<>()));
+    if (pending.assignments.isEmpty()) {
+      return Mono.just(new Resolved<>(value));
+    }
+    return Flux.fromIterable(pending.codes.entrySet())
+        .flatMap(
+            codes ->
+                translationService
+                    .translateAll(codes.getKey(), codes.getValue())
+                    .map(translations -> Map.entry(codes.getKey(), translations)))
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+        .map(
+            translations -> {
+              pending.apply(translations);
+              return new Resolved<>(value);
+            });
+  }
+
+  /**
+   * Fills the annotated fields of a stream of objects, batching the lookups of each {@code
+   * batchSize} elements.
+   *
+   * @param values the objects to resolve
+   * @param batchSize the number of elements resolved together
+   * @param <T> the type of the elements
+   * @return the same objects, in order, each wrapped once its fields are filled
+   */
+  public <T> Flux<Resolved<T>> resolveAll(Flux<T> values, int batchSize) {
+    return resolveAll(values, batchSize, translationService);
+  }
+
+  /**
+   * Fills the annotated fields of a stream of objects with translations into a locale, batching the
+   * lookups of each {@code batchSize} elements.
+   *
+   * @param values the objects to resolve
+   * @param batchSize the number of elements resolved together
+   * @param locale the locale of the translations, such as the one of the current exchange
+   * @param <T> the type of the elements
+   * @return the same objects, in order, each wrapped once its fields are filled
+   * @since 1.1.0
+   */
+  public <T> Flux<Resolved<T>> resolveAll(Flux<T> values, int batchSize, Locale locale) {
+    return resolveAll(values, batchSize, translationService.forLocale(locale));
+  }
+
+  private <T> Flux<Resolved<T>> resolveAll(
+      Flux<T> values, int batchSize, ReactiveTranslationService translationService) {
+    return values
+        .buffer(batchSize)
+        .concatMap(
+            batch ->
+                resolve(batch, translationService)
+                    .flatMapIterable(resolved -> resolved.value())
+                    .map(Resolved::new));
+  }
+
+  private void collect(@Nullable Object value, Pending pending, Set<Object> visited) {
+    if (value == null || !visited.add(value)) {
+      return;
+    }
+    if (value instanceof Iterable<?> iterable) {
+      for (Object element : iterable) {
+        collect(element, pending, visited);
+      }
+      return;
+    }
+    if (value instanceof Map<?, ?> map) {
+      for (Object element : map.values()) {
+        collect(element, pending, visited);
+      }
+      return;
+    }
+    if (value instanceof Object[] array) {
+      for (Object element : array) {
+        collect(element, pending, visited);
+      }
+      return;
+    }
+    if (!mayContainBeans(value.getClass())) {
+      return;
+    }
+
+    BeanMetadata bean = metadata.computeIfAbsent(value.getClass(), BeanMetadata::of);
+    for (TranslatedField field : bean.translated()) {
+      field.collect(value, pending);
+    }
+    for (Field field : bean.nested()) {
+      collect(read(field, value), pending, visited);
+    }
+  }
+
+  private static boolean mayContainBeans(Class<?> type) {
+    return !type.isPrimitive()
+        && !type.isEnum()
+        && !type.isArray()
+        && !type.getName().startsWith("java.");
+  }
+
+  private static @Nullable Object read(Field field, Object bean) {
+    try {
+      return field.get(bean);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot read field " + field, e);
+    }
+  }
+
+  private static @Nullable Field findField(Class<?> type, String name) {
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      try {
+        return c.getDeclaredField(name);
+      } catch (NoSuchFieldException e) {
+        // continue with the superclass
+      }
+    }
+    return null;
+  }
+
+  /** The annotated and the nested fields of a bean class. */
+  private record BeanMetadata(List<TranslatedField> translated, List<Field> nested) {
+
+    @SuppressWarnings("unchecked")
+    static BeanMetadata of(Class<?> type) {
+      List<TranslatedField> translated = new ArrayList<>();
+      List<Field> nested = new ArrayList<>();
+      BeanTranslator<Object> translator =
+          type.isRecord() ? null : BeanTranslator.find((Class<Object>) type);
+      if (translator != null) {
+        for (int i = 0; i < translator.properties().size(); i++) {
+          if (translator.isWritable(i)) {
+            translated.add(TranslatedField.of(translator, i));
+          }
+        }
+      }
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+            continue;
+          }
+          Translate translate = field.getAnnotation(Translate.class);
+          if (translate != null) {
+            if (type.isRecord() || isGenerated(translator, field)) {
+              continue;
+            }
+            translated.add(TranslatedField.of(type, field, translate));
+          } else if (!field.getType().isPrimitive()
+              && (!field.getType().getName().startsWith("java.")
+                  || field.getType() == Object.class
+                  || Iterable.class.isAssignableFrom(field.getType())
+                  || Map.class.isAssignableFrom(field.getType())
+                  || field.getType().isArray())
+              && field.trySetAccessible()) {
+            nested.add(field);
+          }
+        }
+      }
+      return new BeanMetadata(List.copyOf(translated), List.copyOf(nested));
+    }
+
+    /** Checks whether the translator writes the field, which is otherwise written by reflection. */
+    private static boolean isGenerated(@Nullable BeanTranslator<Object> translator, Field field) {
+      if (translator == null) {
+        return false;
+      }
+      int index = translator.indexOf(field.getName());
+      return index >= 0 && translator.isWritable(index);
+    }
+  }
+
+  /** An annotated field together with its source field, or its index in a generated translator. */
+  private record TranslatedField(
+      @Nullable Field target,
+      @Nullable Field source,
+      @Nullable BeanTranslator<Object> translator,
+      int index,
+      String key,
+      @Nullable String nullValue,
+      String delimiter) {
+
+    static TranslatedField of(BeanTranslator<Object> translator, int index) {
+      BeanTranslator.Property property = translator.properties().get(index);
+      return new TranslatedField(
+          null,
+          null,
+          translator,
+          index,
+          property.key(),
+          property.nullValue(),
+          property.delimiter());
+    }
+
+    static TranslatedField of(Class<?> type, Field target, Translate translate) {
+      if (target.getType() != String.class) {
+        throw new IllegalStateException("@Translate field must be a String: " + target);
+      }
+      Field source = findField(type, translate.from());
+      if (source == null) {
+        throw new IllegalStateException(
+            "Source field '" + translate.from() + "' of " + target + " not found");
+      }
+      if (!target.trySetAccessible() || !source.trySetAccessible()) {
+        throw new IllegalStateException("Cannot access " + target + " or its source field");
+      }
+      return new TranslatedField(
+          target,
+          source,
+          null,
+          -1,
+          translate.key(),
+          translate.nullPolicy().getHandler().apply(null),
+          translate.delimiter());
+    }
+
+    void collect(Object bean, Pending pending) {
+      if (translator == null
+          ? read(target, bean) != null
+          : translator.getTarget(bean, index) != null) {
+        return;
+      }
+      Object value = translator == null ? read(source, bean) : translator.getSource(bean, index);
+      if (TranslationCodes.isMultiple(value, delimiter)) {
+        List<String> codes = TranslationCodes.toCodes(value, delimiter);
+        if (!codes.isEmpty()) {
+          pending.add(this, bean, null, codes);
+          return;
+        }
+      } else {
+        String code = TranslationCodes.toCode(value);
+        if (code != null) {
+          pending.add(this, bean, code, null);
+          return;
+        }
+      }
+      if (nullValue != null) {
+        write(bean, nullValue);
+      }
+    }
+
+    void write(Object bean, String value) {
+      if (translator != null) {
+        translator.setTarget(bean, index, value);
+        return;
+      }
+      try {
+        target.set(bean, value);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Cannot write field " + target, e);
+      }
+    }
+  }
+
+  /** The codes to translate and where to write their translations. */
+  private static final class Pending {
+
+    private final Map<String, Set<String>> codes = new HashMap<>();
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    void add(
+        TranslatedField field,
+        Object bean,
+        @Nullable String code,
+        @Nullable List<String> multipleCodes) {
+      Set<String> keyCodes = codes.computeIfAbsent(field.key(), k -> new HashSet<>());
+      if (multipleCodes == null) {
+        keyCodes.add(code);
+      } else {
+        keyCodes.addAll(multipleCodes);
+      }
+      assignments.add(new Assignment(field, bean, code, multipleCodes));
+    }
+
+    void apply(Map<String, Map<String, String>> translations) {
+      for (Assignment assignment : assignments) {
+        TranslatedField field = assignment.field();
+        Map<String, String> byCode = translations.getOrDefault(field.key(), Map.of());
+        String value =
+            assignment.codes() == null
+                ? byCode.get(assignment.code())
+                : TranslationCodes.join(assignment.codes(), byCode, field.delimiter());
+        if (value == null) {
+          value = field.nullValue();
+        }
+        if (value != null) {
+          field.write(assignment.bean(), value);
+        }
+      }
+    }
+  }
+
+  private record Assignment(
+      TranslatedField field, Object bean, @Nullable String code, @Nullable List<String> codes) {}
+}
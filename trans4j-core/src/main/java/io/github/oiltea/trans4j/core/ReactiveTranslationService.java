@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link TranslationService}.
+ *
+ * <p>Implementations never block the subscribing thread, which makes them safe to call from event
+ * loop threads such as those of Spring WebFlux. A missing translation completes the returned {@link
+ * Mono} empty.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ * @see ReactiveTranslationResolver
+ */
+public interface ReactiveTranslationService {
+
+  /**
+   * Translates a single value.
+   *
+   * @param key the translation key, must not be null
+   * @param value the value to translate, can be null
+   * @return the translation, or an empty {@link Mono} if the value is null or has no translation
+   */
+  Mono<String> translate(@NonNull String key, @Nullable String value);
+
+  /**
+   * Translates a raw source value, such as an {@code Integer}, {@code Long} or enum code.
+   *
+   * @param key the translation key, must not be null
+   * @param value the source value, can be null
+   * @return the translation, or an empty {@link Mono} if the value is null or has no translation
+   * @see TranslationCodes#toCode(Object)
+   */
+  default Mono<String> translateValue(@NonNull String key, @Nullable Object value) {
+    return translate(key, TranslationCodes.toCode(value));
+  }
+
+  /**
+   * Translates several values of the same key at once.
+   *
+   * <p>Values that are null or have no translation are left out of the resulting map.
+   *
+   * @param key the translation key, must not be null
+   * @param values the values to translate
+   * @return the translations keyed by value
+   * @see TranslationService#translateAll(String, Collection)
+   */
+  Mono<Map<String, String>> translateAll(@NonNull String key, Collection<String> values);
+
+  /**
+   * Returns the service translating into the given locale.
+   *
+   * <p>Reactive pipelines do not run on the thread holding the locale of the request, so the locale
+   * is passed explicitly, for example by {@link ReactiveTranslationResolver#resolve(Object,
+   * Locale)}. The default implementation returns this service.
+   *
+   * @param locale the locale of the translations
+   * @return the service of the locale, never null
+   * @since 1.1.0
+   * @see TranslationService#forLocale(Locale)
+   */
+  default ReactiveTranslationService forLocale(@NonNull Locale locale) {
+    return this;
+  }
+
+  /**
+   * Adapts a blocking translation service by running its calls on the bounded elastic scheduler.
+   *
+   * @param service the blocking translation service
+   * @return a reactive view of the service
+   */
+  static ReactiveTranslationService fromBlocking(TranslationService service) {
+    return new ReactiveTranslationService() {
+      @Override
+      public Mono<String> translate(@NonNull String key, @Nullable String value) {
+        if (value == null) {
+          return Mono.empty();
+        }
+        return Mono.fromCallable(() -> service.translate(key, value))
+            .subscribeOn(Schedulers.boundedElastic());
+      }
+
+      @Override
+      public Mono<Map<String, String>> translateAll(
+          @NonNull String key, Collection<String> values) {
+        return Mono.fromCallable(() -> service.translateAll(key, values))
+            .subscribeOn(Schedulers.boundedElastic());
+      }
+
+      @Override
+      public ReactiveTranslationService forLocale(@NonNull Locale locale) {
+        TranslationService localized = service.forLocale(locale);
+        return localized == service ? this : fromBlocking(localized);
+      }
+    };
+  }
+}
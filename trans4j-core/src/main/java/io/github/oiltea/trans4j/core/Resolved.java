@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+/**
+ * Value whose {@link Translate} fields were filled by {@link ReactiveTranslationResolver}.
+ *
+ * <p>The Jackson modules serialize it as the wrapped value, writing the annotated properties found
+ * in it as they are, including the ones the resolver left null, so that serializing it performs no
+ * translation lookups. The same value serialized without this wrapper is translated as usual.
+ *
+ * @param value the resolved bean, collection, array or map
+ * @param <T> the type of the value
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public record Resolved<T>(T value) {}
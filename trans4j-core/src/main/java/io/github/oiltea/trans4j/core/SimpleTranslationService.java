@@ -16,8 +16,20 @@
 
 package io.github.oiltea.trans4j.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -25,22 +37,406 @@ import org.jspecify.annotations.Nullable;
  * Memory-based translation service implementation that provides caching functionality for
  * translations.
  *
+ * <p>By default a dictionary is loaded once and kept forever. When a refresh interval is set, every
+ * loaded dictionary is reloaded in the background at that interval; readers keep getting the
+ * previous dictionary until the new one replaces it, so a reload never blocks translation.
+ *
+ * <p>Dictionaries are loaded through a {@link TranslationLoader}, outside of any map lock, so a
+ * slow provider call only delays the readers of its own key. With a {@link NegativeCache}, keys the
+ * provider has no dictionary for are not requested again until their negative entry expires.
+ *
+ * <p>Invalidations and reloads detach the loads in progress, and each key carries a generation
+ * bumped by them, so a dictionary loaded before an invalidation is never stored after it.
+ *
+ * <p>The cache is unbounded by default. With a maximum weight, the total number of entries of the
+ * cached dictionaries is kept below that weight by evicting dictionaries with the second-chance
+ * policy of {@link ClockEvictor}.
+ *
  * @author Oiltea
  * @since 1.0.0
  */
-public class SimpleTranslationService implements TranslationService {
+@Slf4j
+public class SimpleTranslationService implements TranslationService, AutoCloseable {
+
+  private final TranslationLoader loader;
+
+  private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+  private final AtomicLong weight = new AtomicLong();
+
+  private volatile long maximumWeight;
+
+  private final ClockEvictor<String> clock = new ClockEvictor<>();
+
+  private final @Nullable Duration refreshInterval;
+
+  private final @Nullable ScheduledExecutorService scheduler;
 
-  private final TranslationProvider provider;
+  private final boolean ownsScheduler;
 
-  private final ConcurrentHashMap<String, Map<String, String>> cache = new ConcurrentHashMap<>();
+  private final Map<String, ScheduledFuture<?>> refreshTasks = new ConcurrentHashMap<>();
+
+  /** Generation of each invalidated key, added to {@link #epoch} to detect stale loads. */
+  private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+  /** Generation of all keys, bumped by {@link #invalidateAll()}. */
+  private final AtomicLong epoch = new AtomicLong();
+
+  /** Listener notified of cache hits, misses and missing translations. */
+  @Setter private TranslationListener listener = TranslationListener.NOOP;
+
+  /** Cache remembering the keys the provider has no dictionary for. */
+  @Setter private NegativeCache negativeCache = NegativeCache.disabled();
 
   public SimpleTranslationService(TranslationProvider provider) {
-    this.provider = provider;
+    this(provider, null);
+  }
+
+  /**
+   * Creates a service that reloads its dictionaries at the given interval.
+   *
+   * <p>Reloads run on a single daemon thread owned by this service and stopped by {@link #close()}.
+   *
+   * @param provider the translation provider
+   * @param refreshInterval the refresh interval, or null to keep dictionaries forever
+   * @since 1.1.0
+   */
+  public SimpleTranslationService(
+      TranslationProvider provider, @Nullable Duration refreshInterval) {
+    this(new TranslationLoader(provider), refreshInterval);
+  }
+
+  /**
+   * Creates a service loading its dictionaries through the given loader.
+   *
+   * <p>Reloads run on a single daemon thread owned by this service and stopped by {@link #close()}.
+   *
+   * @param loader the loader calling the translation provider
+   * @param refreshInterval the refresh interval, or null to keep dictionaries forever
+   * @since 1.1.0
+   */
+  public SimpleTranslationService(TranslationLoader loader, @Nullable Duration refreshInterval) {
+    this(loader, refreshInterval, refreshInterval == null ? null : newScheduler(), true);
+  }
+
+  /**
+   * Creates a service that reloads its dictionaries at the given interval on the given scheduler.
+   *
+   * @param provider the translation provider
+   * @param refreshInterval the refresh interval
+   * @param scheduler the scheduler running the reloads, not shut down by {@link #close()}
+   * @since 1.1.0
+   */
+  public SimpleTranslationService(
+      TranslationProvider provider,
+      @NonNull Duration refreshInterval,
+      @NonNull ScheduledExecutorService scheduler) {
+    this(new TranslationLoader(provider), refreshInterval, scheduler, false);
+  }
+
+  private SimpleTranslationService(
+      TranslationLoader loader,
+      @Nullable Duration refreshInterval,
+      @Nullable ScheduledExecutorService scheduler,
+      boolean ownsScheduler) {
+    this.loader = loader;
+    this.refreshInterval = refreshInterval;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
   }
 
   @Nullable
   @Override
   public String doTranslate(@NonNull String key, @NonNull String value) {
-    return cache.computeIfAbsent(key, provider::get).get(value);
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.get(value));
+  }
+
+  @Nullable
+  @Override
+  public String translateValue(@NonNull String key, @Nullable Object value) {
+    if (value == null) {
+      return null;
+    }
+    TranslationDictionary dictionary = getDictionary(key);
+    return reportMissing(key, dictionary == null ? null : dictionary.getValue(value));
+  }
+
+  @Override
+  public Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    TranslationDictionary dictionary = getDictionary(key);
+    Map<String, String> translations =
+        dictionary == null ? new HashMap<>() : dictionary.getAll(values);
+    listener.onTranslateAll(key, values, translations);
+    return translations;
+  }
+
+  @Override
+  public void preload(@NonNull String key) {
+    getDictionary(key);
+  }
+
+  /** Loads all missing dictionaries with one bulk provider call. */
+  @Override
+  public void preloadAll(Collection<String> keys) {
+    List<String> missing = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      if (key != null && !cache.containsKey(key) && !negativeCache.contains(key)) {
+        missing.add(key);
+      }
+    }
+    if (!missing.isEmpty()) {
+      Map<String, Long> started = new HashMap<>(missing.size() * 2);
+      for (String key : missing) {
+        started.put(key, generation(key));
+      }
+      Map<String, TranslationDictionary> loaded =
+          loader.loadAll(missing, (key, dictionary) -> store(key, dictionary, started.get(key)));
+      for (String key : missing) {
+        if (!loaded.containsKey(key) && generation(key) == started.get(key)) {
+          negativeCache.add(key);
+        }
+      }
+    }
+  }
+
+  /** Drops the dictionary, discarding any load of it that started before this call. */
+  @Override
+  public void invalidate(@NonNull String key) {
+    generations.merge(key, 1L, Long::sum);
+    loader.invalidate(key);
+    remove(key);
+    clock.remove(key);
+    negativeCache.remove(key);
+  }
+
+  @Override
+  public void invalidateAll() {
+    epoch.incrementAndGet();
+    loader.invalidateAll();
+    for (String key : cache.keySet()) {
+      remove(key);
+    }
+    clock.clear();
+    negativeCache.clear();
+  }
+
+  /**
+   * Loads the dictionary again with a new provider call, replacing the cached one only once it has
+   * been loaded. Loads that started before this call are discarded.
+   */
+  @Override
+  public void reload(@NonNull String key) {
+    long generation = generations.merge(key, 1L, Long::sum) + epoch.get();
+    loader.invalidate(key);
+    if (loader.load(key, dictionary -> store(key, dictionary, generation)) == null
+        && generation(key) == generation) {
+      remove(key);
+      negativeCache.add(key);
+    }
+  }
+
+  @Override
+  public long estimatedSize() {
+    return cache.size();
+  }
+
+  @Override
+  public long estimatedWeight() {
+    return weight.get();
+  }
+
+  /**
+   * Bounds the total number of entries of the cached dictionaries.
+   *
+   * <p>Dictionaries are evicted as soon as the next dictionary is stored. A dictionary heavier than
+   * the maximum weight on its own is still cached, at the cost of evicting all the others.
+   *
+   * @param maximumWeight the maximum weight, or {@code 0} for an unbounded cache
+   * @since 1.1.0
+   */
+  public void setMaximumWeight(long maximumWeight) {
+    if (maximumWeight < 0) {
+      throw new IllegalArgumentException("maximumWeight must not be negative");
+    }
+    this.maximumWeight = maximumWeight;
+    if (maximumWeight > 0) {
+      // Unbounded caches keep no clock, so track the dictionaries stored until now.
+      cache.keySet().forEach(clock::add);
+    }
+  }
+
+  private TranslationDictionary getDictionary(String key) {
+    Entry entry = cache.get(key);
+    if (entry != null) {
+      entry.markReferenced();
+      listener.onHit(key);
+      return entry.dictionary();
+    }
+    listener.onMiss(key);
+    if (negativeCache.contains(key)) {
+      return null;
+    }
+    long generation = generation(key);
+    TranslationDictionary loaded =
+        loader.load(key, dictionary -> store(key, dictionary, generation));
+    if (loaded == null && generation(key) == generation) {
+      negativeCache.add(key);
+    }
+    return loaded;
+  }
+
+  private @Nullable String reportMissing(String key, @Nullable String translation) {
+    if (translation == null) {
+      listener.onMissingTranslation(key);
+    }
+    return translation;
+  }
+
+  /** Cancels the background reloads and stops the scheduler if it is owned by this service. */
+  @Override
+  public void close() {
+    refreshTasks.values().forEach(task -> task.cancel(false));
+    refreshTasks.clear();
+    if (ownsScheduler && scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private long generation(String key) {
+    return epoch.get() + generations.getOrDefault(key, 0L);
+  }
+
+  /**
+   * Caches a loaded dictionary, unless the key was invalidated since the load started.
+   *
+   * <p>The generation is compared within the map's lock on the key, and invalidations bump it
+   * before removing the key, so a stale dictionary is either rejected here or removed afterwards.
+   */
+  private void store(String key, TranslationDictionary dictionary, long generation) {
+    Entry entry = new Entry(dictionary);
+    Entry stored =
+        cache.compute(
+            key,
+            (k, previous) -> {
+              if (generation(k) != generation) {
+                return previous;
+              }
+              weight.addAndGet(
+                  previous == null ? entry.weight() : entry.weight() - previous.weight());
+              return entry;
+            });
+    if (stored != entry) {
+      return;
+    }
+    negativeCache.remove(key);
+    evict(key);
+    if (scheduler != null && refreshInterval != null) {
+      long delay = refreshInterval.toNanos();
+      refreshTasks.computeIfAbsent(
+          key,
+          k ->
+              scheduler.scheduleWithFixedDelay(
+                  () -> refresh(k), delay, delay, TimeUnit.NANOSECONDS));
+    }
+  }
+
+  private void refresh(String key) {
+    try {
+      long generation = generation(key);
+      TranslationDictionary dictionary =
+          loader.load(key, loaded -> replace(key, loaded, generation));
+      if (dictionary == null && generation(key) == generation) {
+        remove(key);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to refresh translations for key '{}', keeping the previous ones", key, e);
+    }
+  }
+
+  /** Replaces a refreshed dictionary, unless it has been evicted or invalidated meanwhile. */
+  private void replace(String key, TranslationDictionary dictionary, long generation) {
+    Entry replacement = new Entry(dictionary);
+    Entry stored =
+        cache.computeIfPresent(
+            key,
+            (k, current) -> {
+              if (generation(k) != generation) {
+                return current;
+              }
+              weight.addAndGet(replacement.weight() - current.weight());
+              return replacement;
+            });
+    if (stored == replacement) {
+      evict(key);
+    }
+  }
+
+  /**
+   * Evicts dictionaries other than the given one with the {@link ClockEvictor} until the cache
+   * weighs no more than its maximum. Unbounded caches keep no clock.
+   */
+  private void evict(String keep) {
+    long maximum = maximumWeight;
+    if (maximum == 0) {
+      return;
+    }
+    clock.evict(
+        keep,
+        cache::get,
+        () -> weight.get() > maximum,
+        (key, entry) -> {
+          if (!cache.remove(key, entry)) {
+            return false;
+          }
+          weight.addAndGet(-entry.weight());
+          cancelRefresh(key);
+          return true;
+        });
+  }
+
+  private void remove(String key) {
+    Entry removed = cache.remove(key);
+    if (removed != null) {
+      weight.addAndGet(-removed.weight());
+    }
+    cancelRefresh(key);
+  }
+
+  private void cancelRefresh(String key) {
+    ScheduledFuture<?> task = refreshTasks.remove(key);
+    if (task != null) {
+      task.cancel(false);
+    }
+  }
+
+  private static ScheduledExecutorService newScheduler() {
+    return Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+          Thread thread = new Thread(runnable, "trans4j-refresh");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /** Cached dictionary with its weight. */
+  private static final class Entry extends ClockEvictor.Node {
+
+    private final TranslationDictionary dictionary;
+
+    private final int weight;
+
+    Entry(TranslationDictionary dictionary) {
+      this.dictionary = dictionary;
+      this.weight = dictionary.size();
+    }
+
+    TranslationDictionary dictionary() {
+      return dictionary;
+    }
+
+    int weight() {
+      return weight;
+    }
   }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open-addressing hash table from string codes to translations.
+ *
+ * <p>Codes, translations and code hashes are kept in three parallel arrays, which costs a fraction
+ * of the per-entry nodes of a {@link java.util.HashMap}. Comparing the cached hashes first keeps
+ * lookups from calling {@link String#equals(Object)} on colliding codes.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class StringTranslationTable {
+
+  private final String[] codes;
+  private final String[] values;
+  private final int[] hashes;
+  private final int mask;
+  private final int size;
+
+  private StringTranslationTable(String[] codes, String[] values, int[] hashes, int size) {
+    this.codes = codes;
+    this.values = values;
+    this.hashes = hashes;
+    this.mask = codes.length - 1;
+    this.size = size;
+  }
+
+  /**
+   * Builds a table from the codes of a dictionary that are not canonical integers.
+   *
+   * <p>Canonical integer codes are left to the {@link IntTranslationTable} of the dictionary.
+   *
+   * @param map the dictionary
+   * @param labels returns the shared instance of each translation
+   * @return the table
+   */
+  static StringTranslationTable of(Map<String, String> map, UnaryOperator<String> labels) {
+    int count = 0;
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      if (isStringCode(entry.getKey(), entry.getValue())) {
+        count++;
+      }
+    }
+    // Keep the load factor at or below 0.75 so that probe sequences stay short.
+    int capacity = Integer.highestOneBit(Math.max(count + count / 3, 1)) << 1;
+    String[] codes = new String[capacity];
+    String[] values = new String[capacity];
+    int[] hashes = new int[capacity];
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      String code = entry.getKey();
+      if (isStringCode(code, entry.getValue())) {
+        int hash = spread(code.hashCode());
+        int slot = hash & (capacity - 1);
+        while (codes[slot] != null) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        codes[slot] = code;
+        values[slot] = labels.apply(entry.getValue());
+        hashes[slot] = hash;
+      }
+    }
+    return new StringTranslationTable(codes, values, hashes, count);
+  }
+
+  /**
+   * Returns the translation of a string code.
+   *
+   * @param code the code
+   * @return the translation, or null if the code is unknown
+   */
+  @Nullable String get(String code) {
+    int hash = spread(code.hashCode());
+    int slot = hash & mask;
+    String candidate;
+    while ((candidate = codes[slot]) != null) {
+      if (hashes[slot] == hash && candidate.equals(code)) {
+        return values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void forEach(BiConsumer<String, String> action) {
+    for (int slot = 0; slot < codes.length; slot++) {
+      if (codes[slot] != null) {
+        action.accept(codes[slot], values[slot]);
+      }
+    }
+  }
+
+  private static boolean isStringCode(@Nullable String code, @Nullable String value) {
+    return code != null
+        && value != null
+        && IntTranslationTable.parse(code) == IntTranslationTable.NOT_AN_INT;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -67,6 +67,19 @@ public @interface Translate {
    */
   NullPolicy nullPolicy() default NullPolicy.NULL;
 
+  /**
+   * Returns the delimiter of the codes held by a string source field.
+   *
+   * <p>A source field holding several codes, such as a collection, an array or a string split by
+   * this delimiter, is translated with a single batch lookup. The labels of its codes are joined,
+   * in order, with this delimiter, or with {@value TranslationCodes#DEFAULT_DELIMITER} when it is
+   * empty. Codes without a translation are left out.
+   *
+   * @return the delimiter, defaults to an empty string, which keeps string sources whole
+   * @since 1.1.0
+   */
+  String delimiter() default "";
+
   /**
    * Enumeration defining policies for handling null or empty values in string processing.
    *
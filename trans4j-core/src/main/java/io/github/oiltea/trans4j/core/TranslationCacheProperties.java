@@ -16,7 +16,11 @@
 
 package io.github.oiltea.trans4j.core;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import lombok.Getter;
 import lombok.Setter;
 import org.jspecify.annotations.Nullable;
@@ -40,6 +44,70 @@ public class TranslationCacheProperties {
   /** The type of cache. */
   private CacheType type;
 
+  /**
+   * Settings of the simple in-memory cache.
+   *
+   * @see Simple
+   * @since 1.1.0
+   */
+  private final Simple simple = new Simple();
+
+  /**
+   * Settings of the loader calling the translation provider.
+   *
+   * @see Loader
+   * @since 1.1.0
+   */
+  private final Loader loader = new Loader();
+
+  /**
+   * Settings of the startup warm-up.
+   *
+   * @see WarmUp
+   * @since 1.1.0
+   */
+  private final WarmUp warmUp = new WarmUp();
+
+  /**
+   * Settings of the translation metrics.
+   *
+   * @see Metrics
+   * @since 1.1.0
+   */
+  private final Metrics metrics = new Metrics();
+
+  /**
+   * Settings of the negative cache remembering absent dictionaries and codes.
+   *
+   * @see Negative
+   * @since 1.1.0
+   */
+  private final Negative negative = new Negative();
+
+  /**
+   * Settings of the off-heap cache.
+   *
+   * @see OffHeap
+   * @since 1.1.0
+   */
+  private final OffHeap offHeap = new OffHeap();
+
+  /**
+   * Settings of the dictionaries embedded at build time.
+   *
+   * @see Embedded
+   * @since 1.1.0
+   */
+  private final Embedded embedded = new Embedded();
+
+  /**
+   * Settings of the per-locale partitions of the cache.
+   *
+   * @see Locales
+   * @since 1.1.0
+   */
+  private final Locales locales = new Locales();
+
   /**
    * Caffeine instance for building cache configurations.
    *
@@ -60,6 +128,190 @@ public class TranslationCacheProperties {
    */
   private final Redis redis = new Redis();
 
+  /**
+   * Settings of the local tier in front of Redis.
+   *
+   * @see Tiered
+   * @since 1.1.0
+   */
+  private final Tiered tiered = new Tiered();
+
+  /**
+   * Configuration class for the simple in-memory cache.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Getter
+  @Setter
+  public static class Simple {
+    /**
+     * Interval at which cached dictionaries are reloaded in the background.
+     *
+     * <p>Readers keep getting the previous dictionary while it is reloaded. A {@code null} value
+     * keeps dictionaries until the application stops.
+     */
+    private @Nullable Duration refreshInterval;
+
+    /**
+     * Maximum total number of entries of the cached dictionaries.
+     *
+     * <p>Dictionaries not read recently are evicted once the cache grows beyond it. A value of
+     * {@code 0} keeps every dictionary.
+     */
+    private long maximumWeight;
+  }
+
+  /**
+   * Configuration class for the loader calling the translation provider.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see TranslationLoader
+   */
+  @Getter
+  @Setter
+  public static class Loader {
+    /**
+     * Whether provider calls run on virtual threads when no {@code trans4jExecutor} bean is defined
+     * and the runtime supports them. Otherwise they run on the calling thread.
+     */
+    private boolean virtualThreads = true;
+
+    /** Maximum number of concurrent provider calls, {@code 0} for no limit. */
+    private int maxConcurrency;
+  }
+
+  /**
+   * Configuration class for loading dictionaries at startup.
+   *
+   * <p>When enabled, the dictionaries are loaded into the active translation service before the
+   * application reports that it is ready to accept traffic.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Getter
+  @Setter
+  public static class WarmUp {
+    /** Whether dictionaries are loaded at startup. */
+    private boolean enabled;
+
+    /**
+     * Translation keys to load. When empty, the keys of all {@link Translate} fields found in the
+     * application packages are loaded.
+     */
+    private List<String> keys = new ArrayList<>();
+
+    /**
+     * Number of batches loaded concurrently. Each batch is loaded with a single bulk provider call.
+     */
+    private int parallelism = 1;
+
+    /** Maximum time to wait for the warm-up before the application starts anyway. */
+    private Duration timeout = Duration.ofSeconds(30);
+  }
+
+  /**
+   * Configuration class for the translation metrics.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see TranslationListener
+   */
+  @Getter
+  @Setter
+  public static class Metrics {
+    /** Whether to record Micrometer metrics when a meter registry is available. */
+    private boolean enabled = true;
+  }
+
+  /**
+   * Configuration class for the negative cache.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see NegativeCache
+   */
+  @Getter
+  @Setter
+  public static class Negative {
+    /**
+     * How long a dictionary the provider does not have, or a code missing from a Redis hash, is
+     * remembered as absent.
+     *
+     * <p>A {@code null} value disables negative caching, so every lookup of an absent entry reaches
+     * the provider or Redis again.
+     */
+    private @Nullable Duration timeToLive;
+
+    /** Maximum number of absent dictionaries and codes remembered. */
+    private int maximumSize = 10000;
+  }
+
+  /**
+   * Configuration class for the off-heap cache.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see OffHeapTranslationService
+   */
+  @Getter
+  @Setter
+  public static class OffHeap {
+    /**
+     * Directory of the dictionary snapshots read back at startup.
+     *
+     * <p>A {@code null} value disables snapshots, so every dictionary is loaded from the provider
+     * after a restart.
+     */
+    private @Nullable Path snapshotDirectory;
+  }
+
+  /**
+   * Configuration class for the dictionaries embedded at build time.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see EmbeddedTranslationProvider
+   */
+  @Getter
+  @Setter
+  public static class Embedded {
+    /**
+     * Whether the dictionaries exported to {@link EmbeddedTranslationProvider#RESOURCE} are served
+     * before the translation provider is called.
+     */
+    private boolean enabled;
+  }
+
+  /**
+   * Configuration class for locale-aware translations.
+   *
+   * <p>Each supported locale gets its own partition of the cache, holding the dictionaries of that
+   * locale with its fallback chain already merged in. Requested locales are mapped to the closest
+   * supported locale, so the number of partitions stays bounded.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   * @see LocalizedTranslationService
+   */
+  @Getter
+  @Setter
+  public static class Locales {
+    /** Whether translations are partitioned by locale. */
+    private boolean enabled;
+
+    /** Locales served by their own cache partition, such as {@code en} or {@code zh-CN}. */
+    private List<Locale> supported = new ArrayList<>();
+
+    /**
+     * Locale used when the requested locale matches none of the supported ones. Defaults to the
+     * first supported locale.
+     */
+    private @Nullable Locale defaultLocale;
+  }
+
   /**
    * Configuration class for Caffeine cache settings.
    *
@@ -80,6 +332,16 @@ public class TranslationCacheProperties {
      * <p>May be {@code null} if no specific specification is required.
      */
     private @Nullable String spec;
+
+    /**
+     * Age after which a cached dictionary is reloaded asynchronously.
+     *
+     * <p>Readers keep getting the current dictionary while it is reloaded. Must not be combined
+     * with a {@code refreshAfterWrite} entry in {@link #spec}.
+     *
+     * @since 1.1.0
+     */
+    private @Nullable Duration refreshAfterWrite;
   }
 
   /**
@@ -109,5 +371,50 @@ public class TranslationCacheProperties {
      * <p>This value can be {@code null}, indicating no prefix should be applied.
      */
     private @Nullable String keyPrefix;
+
+    /**
+     * How long a node may hold the lock used to load a dictionary into Redis.
+     *
+     * <p>While one node loads a dictionary, the others wait up to this duration for it instead of
+     * calling the provider themselves. A {@code null} value disables the lock.
+     *
+     * @since 1.1.0
+     */
+    private @Nullable Duration lockTimeout;
+
+    /**
+     * How long a local snapshot of a whole Redis hash may serve lookups.
+     *
+     * <p>When set, each dictionary is fetched with a single {@code HGETALL} at most once per window
+     * instead of one {@code HGET} per value. A {@code null} value queries Redis for every lookup.
+     *
+     * @since 1.1.0
+     */
+    private @Nullable Duration snapshotTimeToLive;
+  }
+
+  /**
+   * Configuration class for the local tier of the tiered cache.
+   *
+   * <p>The Redis tier is configured by {@link Redis}.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Getter
+  @Setter
+  public static class Tiered {
+    /** Maximum number of dictionaries kept in the local tier. */
+    private int maximumSize = 1000;
+
+    /**
+     * The time-to-live duration of a dictionary in the local tier.
+     *
+     * <p>A {@code null} value keeps dictionaries until they are evicted or invalidated.
+     */
+    private @Nullable Duration timeToLive;
+
+    /** The Redis channel used to broadcast invalidations to other nodes. */
+    private String channel = "trans4j:invalidation";
   }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Conversion of source property values into translation codes.
+ *
+ * <p>Produces the same codes as {@link java.util.Objects#toString(Object, String)} with a {@code
+ * null} default, but without allocating for the common source types: strings are returned as is,
+ * enum constants use their (constant) string form, and small integral values are served from a
+ * table of pre-built strings.
+ *
+ * <p>Source values holding several codes, such as collections, arrays and delimited strings, are
+ * split with {@link #toCodes(Object, String)} and their labels joined with {@link #join(List, Map,
+ * String)}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class TranslationCodes {
+
+  /**
+   * Delimiter joining the labels of a multi-code source without a {@link Translate#delimiter()}.
+   */
+  public static final String DEFAULT_DELIMITER = ",";
+
+  private static final int CACHE_LOW = -128;
+
+  private static final int CACHE_HIGH = 1023;
+
+  private static final String[] CACHE = new String[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = Integer.toString(i + CACHE_LOW);
+    }
+  }
+
+  private TranslationCodes() {}
+
+  /**
+   * Converts a source value into a translation code.
+   *
+   * @param source the source value, may be null
+   * @return the code, or null if the source is null
+   */
+  public static @Nullable String toCode(@Nullable Object source) {
+    if (source == null) {
+      return null;
+    }
+    if (source instanceof String string) {
+      return string;
+    }
+    if (source instanceof Integer number) {
+      return toCode(number.longValue());
+    }
+    if (source instanceof Long number) {
+      return toCode(number.longValue());
+    }
+    if (source instanceof Short || source instanceof Byte) {
+      return toCode(((Number) source).longValue());
+    }
+    return source.toString();
+  }
+
+  /**
+   * Converts an integral value into a translation code.
+   *
+   * @param value the value
+   * @return the code
+   */
+  public static String toCode(long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[(int) value - CACHE_LOW];
+    }
+    return Long.toString(value);
+  }
+
+  /**
+   * Checks whether a source value holds several codes.
+   *
+   * @param source the source value, may be null
+   * @param delimiter the delimiter of string sources, empty to keep strings whole
+   * @return true for collections, arrays and strings containing the delimiter
+   */
+  public static boolean isMultiple(@Nullable Object source, String delimiter) {
+    if (source instanceof String string) {
+      return !delimiter.isEmpty() && string.contains(delimiter);
+    }
+    return source instanceof Collection<?> || source != null && source.getClass().isArray();
+  }
+
+  /**
+   * Converts a source value into its translation codes.
+   *
+   * <p>Elements of collections and arrays are converted with {@link #toCode(Object)}, skipping
+   * nulls. Strings are split by the delimiter, with surrounding whitespace removed and empty codes
+   * skipped. Any other value gives a single code.
+   *
+   * @param source the source value, may be null
+   * @param delimiter the delimiter of string sources, empty to keep strings whole
+   * @return the codes in source order, empty if the source is null
+   */
+  public static List<String> toCodes(@Nullable Object source, String delimiter) {
+    List<String> codes = new ArrayList<>();
+    if (source instanceof Collection<?> collection) {
+      for (Object element : collection) {
+        addCode(codes, toCode(element));
+      }
+    } else if (source != null && source.getClass().isArray()) {
+      for (int i = 0, length = Array.getLength(source); i < length; i++) {
+        addCode(codes, toCode(Array.get(source, i)));
+      }
+    } else if (source instanceof String string && !delimiter.isEmpty()) {
+      int start = 0;
+      int end = string.indexOf(delimiter);
+      while (end >= 0) {
+        addCode(codes, string.substring(start, end).strip());
+        start = end + delimiter.length();
+        end = string.indexOf(delimiter, start);
+      }
+      addCode(codes, string.substring(start).strip());
+    } else {
+      addCode(codes, toCode(source));
+    }
+    return codes;
+  }
+
+  /**
+   * Joins the translations of several codes.
+   *
+   * @param codes the codes, in output order
+   * @param translations the translations by code, may map codes to null
+   * @param delimiter the delimiter to join with, or empty for {@link #DEFAULT_DELIMITER}
+   * @return the joined translations, or null if none of the codes has a translation
+   */
+  public static @Nullable String join(
+      List<String> codes, Map<String, String> translations, String delimiter) {
+    StringBuilder joined = null;
+    for (String code : codes) {
+      String translation = translations.get(code);
+      if (translation == null) {
+        continue;
+      }
+      if (joined == null) {
+        joined = new StringBuilder(translation);
+      } else {
+        joined.append(delimiter.isEmpty() ? DEFAULT_DELIMITER : delimiter).append(translation);
+      }
+    }
+    return joined == null ? null : joined.toString();
+  }
+
+  private static void addCode(List<String> codes, @Nullable String code) {
+    if (code != null && !code.isEmpty()) {
+      codes.add(code);
+    }
+  }
+}
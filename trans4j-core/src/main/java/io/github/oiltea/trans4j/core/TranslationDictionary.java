@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read-only dictionary of one translation key, with typed lookups for numeric and enum codes.
+ *
+ * <p>The map returned by the {@link TranslationProvider} is frozen into compact open-addressing
+ * tables and then dropped: canonical integer codes are held as {@code int} keys, other codes in
+ * parallel string arrays, and equal translations share a single {@link String} instance. An {@link
+ * java.util.EnumMap}-backed table is built lazily per enum type the dictionary is queried with.
+ * Typed lookups therefore avoid boxing, string conversion and string hashing on the hot path.
+ *
+ * <p>Strings are not packed any further: the JVM already stores Latin-1 strings with one byte per
+ * character.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public final class TranslationDictionary {
+
+  private final StringTranslationTable strings;
+
+  private final @Nullable IntTranslationTable ints;
+
+  private final Map<Class<?>, EnumTranslationTable<?>> enums = new ConcurrentHashMap<>();
+
+  private TranslationDictionary(Map<String, String> map) {
+    Map<String, String> shared = new HashMap<>();
+    UnaryOperator<String> labels =
+        label -> {
+          String existing = shared.putIfAbsent(label, label);
+          return existing == null ? label : existing;
+        };
+    this.ints = IntTranslationTable.of(map, labels);
+    this.strings = StringTranslationTable.of(map, labels);
+  }
+
+  /**
+   * Creates a dictionary from a provider result.
+   *
+   * @param map the provider result, may be null
+   * @return the dictionary, or null if the provider returned null
+   */
+  public static @Nullable TranslationDictionary of(@Nullable Map<String, String> map) {
+    return map == null ? null : new TranslationDictionary(map);
+  }
+
+  /**
+   * Returns the translation of a string code.
+   *
+   * @param code the code
+   * @return the translation, or null if the code is unknown
+   */
+  public @Nullable String get(String code) {
+    if (ints != null) {
+      long integer = IntTranslationTable.parse(code);
+      if (integer != IntTranslationTable.NOT_AN_INT) {
+        return ints.get((int) integer);
+      }
+    }
+    return strings.get(code);
+  }
+
+  /**
+   * Returns the translation of an integral code.
+   *
+   * @param code the code
+   * @return the translation, or null if the code is unknown
+   */
+  public @Nullable String get(long code) {
+    if (code == (int) code) {
+      return ints == null ? null : ints.get((int) code);
+    }
+    return strings.get(Long.toString(code));
+  }
+
+  /**
+   * Returns the translation of an enum code, matched by the string form of the constant.
+   *
+   * @param code the code
+   * @param <E> the enum type
+   * @return the translation, or null if the code is unknown
+   */
+  @SuppressWarnings("unchecked")
+  public <E extends Enum<E>> @Nullable String get(E code) {
+    Class<E> type = code.getDeclaringClass();
+    EnumTranslationTable<E> table =
+        (EnumTranslationTable<E>)
+            enums.computeIfAbsent(type, t -> EnumTranslationTable.of(type, this::get));
+    return table.get(code);
+  }
+
+  /**
+   * Returns the translation of a source value, using the typed lookups where possible.
+   *
+   * @param value the source value, may be null
+   * @return the translation, or null if the value is null or unknown
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public @Nullable String getValue(@Nullable Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof String string) {
+      return get(string);
+    }
+    if (value instanceof Integer
+        || value instanceof Long
+        || value instanceof Short
+        || value instanceof Byte) {
+      return get(((Number) value).longValue());
+    }
+    if (value instanceof Enum constant) {
+      return get(constant);
+    }
+    return get(value.toString());
+  }
+
+  /**
+   * Translates a collection of codes.
+   *
+   * @param codes the codes, may contain nulls
+   * @return a mutable map from each translated code to its translation
+   */
+  public Map<String, String> getAll(Collection<String> codes) {
+    Map<String, String> result = new HashMap<>(codes.size() * 2);
+    for (String code : codes) {
+      if (code != null) {
+        String translated = get(code);
+        if (translated != null) {
+          result.put(code, translated);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the entries of the dictionary as a new read-only map.
+   *
+   * <p>The map is rebuilt on every call, so it should not be used for lookups.
+   *
+   * @return the entries of this dictionary
+   */
+  public Map<String, String> asMap() {
+    Map<String, String> map = new HashMap<>(size() * 2);
+    strings.forEach(map::put);
+    if (ints != null) {
+      ints.forEach(map::put);
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return strings.size() + (ints == null ? 0 : ints.size());
+  }
+}
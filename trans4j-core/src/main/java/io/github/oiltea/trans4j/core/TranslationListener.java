@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Callback notified of translation service activity, typically to record metrics.
+ *
+ * <p>Methods are called on the translating thread, often on the hot path, so implementations must
+ * be cheap and must not throw. Every method does nothing by default.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public interface TranslationListener {
+
+  /** Listener ignoring every notification. */
+  TranslationListener NOOP =
+      new TranslationListener() {
+        @Override
+        public void onTranslateAll(
+            String key, Collection<String> values, Map<String, String> translations) {}
+      };
+
+  /**
+   * Called when the dictionary of a key is served from the cache.
+   *
+   * @param key the translation key
+   */
+  default void onHit(String key) {}
+
+  /**
+   * Called when the dictionary of a key is missing from the cache and has to be loaded.
+   *
+   * @param key the translation key
+   */
+  default void onMiss(String key) {}
+
+  /**
+   * Called when a value has no translation.
+   *
+   * @param key the translation key
+   */
+  default void onMissingTranslation(String key) {}
+
+  /**
+   * Called after a bulk translation, so that the values left untranslated can be reported.
+   *
+   * <p>The default implementation calls {@link #onMissingTranslation(String)} once per non-null
+   * value absent from the translations.
+   *
+   * @param key the translation key
+   * @param values the values to translate, may contain nulls
+   * @param translations the translations found
+   */
+  default void onTranslateAll(
+      String key, Collection<String> values, Map<String, String> translations) {
+    for (String value : values) {
+      if (value != null && !translations.containsKey(value)) {
+        onMissingTranslation(key);
+      }
+    }
+  }
+
+  /**
+   * Called after each call to the {@link TranslationProvider}.
+   *
+   * @param key the translation key, or {@code null} for a bulk {@link
+   *     TranslationProvider#getAll(Collection)} call
+   * @param nanos the duration of the call in nanoseconds
+   * @param success whether the call returned normally
+   */
+  default void onProviderCall(@Nullable String key, long nanos, boolean success) {}
+
+  /**
+   * Called after each round trip to a remote cache such as Redis.
+   *
+   * @param command the command sent, such as {@code HGET}
+   * @param nanos the duration of the round trip in nanoseconds
+   */
+  default void onRemoteCall(String command, long nanos) {}
+
+  /**
+   * Returns a provider reporting the duration of every call of the given provider to the given
+   * listener.
+   *
+   * @param provider the provider to observe
+   * @param listener the listener notified of each call
+   * @return the observing provider, or the provider itself if the listener is {@link #NOOP}
+   */
+  static TranslationProvider observe(TranslationProvider provider, TranslationListener listener) {
+    return listener == NOOP ? provider : new ObservedTranslationProvider(provider, listener);
+  }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Loads dictionaries from a {@link TranslationProvider} without holding any lock.
+ *
+ * <p>Concurrent loads of the same key share one provider call through a per-key future, while loads
+ * of different keys never wait for each other. Provider calls run on the configured executor, or on
+ * the calling thread when there is none, and at most {@code maxConcurrency} of them run at the same
+ * time.
+ *
+ * <p>Callers block on a {@link CompletableFuture} rather than on a monitor, so waiting virtual
+ * threads are unmounted from their carrier thread.
+ *
+ * <p>Provider results are converted to {@link TranslationDictionary} by default. Services keeping
+ * dictionaries in another form pass their own converter, which receives the provider map itself so
+ * that no intermediate copy is made.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class TranslationLoader {
+
+  /** Name of the bean providing the executor that translation services load dictionaries on. */
+  public static final String EXECUTOR_BEAN_NAME = "trans4jExecutor";
+
+  private static final Consumer<Object> NO_OP = dictionary -> {};
+
+  private static final Function<Map<String, String>, TranslationDictionary> DICTIONARY =
+      TranslationDictionary::of;
+
+  private final TranslationProvider provider;
+  private final @Nullable Executor executor;
+  private final @Nullable Semaphore permits;
+  private final Map<String, Load<?>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a loader calling the provider on the calling thread without a concurrency limit.
+   *
+   * @param provider the translation provider
+   */
+  public TranslationLoader(TranslationProvider provider) {
+    this(provider, null, 0);
+  }
+
+  /**
+   * Creates a loader.
+   *
+   * @param provider the translation provider
+   * @param executor the executor running provider calls, or {@code null} to call the provider on
+   *     the thread that requested the dictionary
+   * @param maxConcurrency the maximum number of concurrent provider calls, or {@code 0} for no
+   *     limit
+   */
+  public TranslationLoader(
+      TranslationProvider provider, @Nullable Executor executor, int maxConcurrency) {
+    if (maxConcurrency < 0) {
+      throw new IllegalArgumentException("maxConcurrency must not be negative");
+    }
+    this.provider = provider;
+    this.executor = executor;
+    this.permits = maxConcurrency == 0 ? null : new Semaphore(maxConcurrency);
+  }
+
+  private TranslationLoader(
+      TranslationProvider provider, @Nullable Executor executor, @Nullable Semaphore permits) {
+    this.provider = provider;
+    this.executor = executor;
+    this.permits = permits;
+  }
+
+  /**
+   * Returns the provider called by this loader.
+   *
+   * @return the translation provider
+   * @since 1.1.0
+   */
+  public TranslationProvider getProvider() {
+    return provider;
+  }
+
+  /**
+   * Returns a loader calling another provider on the same executor, within the same concurrency
+   * limit.
+   *
+   * <p>Used to give each locale partition of a {@link LocalizedTranslationService} its own loader
+   * without multiplying the number of concurrent provider calls.
+   *
+   * @param provider the translation provider of the new loader
+   * @return a new loader sharing the executor and the concurrency limit of this one
+   * @since 1.1.0
+   */
+  public TranslationLoader withProvider(TranslationProvider provider) {
+    return new TranslationLoader(provider, executor, permits);
+  }
+
+  /**
+   * Loads the dictionary of the given key, joining a load already in progress.
+   *
+   * @param key the translation key
+   * @return the dictionary, or {@code null} if the provider has none
+   */
+  public @Nullable TranslationDictionary load(String key) {
+    return load(key, NO_OP);
+  }
+
+  /**
+   * Loads the dictionary of the given key, joining a load already in progress.
+   *
+   * <p>The callback receives the dictionary on the loading thread before the load completes, so a
+   * cache filled by it is visible to every caller that does not join the load.
+   *
+   * @param key the translation key
+   * @param onLoad called with the dictionary if this call started the load and the provider has one
+   * @return the dictionary, or {@code null} if the provider has none
+   */
+  public @Nullable TranslationDictionary load(
+      String key, Consumer<? super TranslationDictionary> onLoad) {
+    return load(key, DICTIONARY, onLoad);
+  }
+
+  /**
+   * Loads the provider map of the given key and converts it, joining a load in progress with the
+   * same converter.
+   *
+   * <p>The converter runs once per load on the loading thread, and only when the provider has a
+   * dictionary. Loads with different converters are not shared, so a service should pass the same
+   * converter instance, for example a constant, to every call.
+   *
+   * @param key the translation key
+   * @param converter converts the provider map, which it may keep without copying
+   * @param onLoad called with the converted dictionary if this call started the load
+   * @param <T> the type of the converted dictionaries
+   * @return the converted dictionary, or {@code null} if the provider has none
+   * @since 1.1.0
+   */
+  public <T> @Nullable T load(
+      String key,
+      Function<? super Map<String, String>, ? extends T> converter,
+      Consumer<? super T> onLoad) {
+    return await(loadAsync(key, converter, onLoad));
+  }
+
+  /**
+   * Loads the dictionaries of the given keys, joining loads already in progress.
+   *
+   * <p>The keys that are not being loaded yet are fetched together with a single {@link
+   * TranslationProvider#getAll(Collection)} call, which counts as one call toward the concurrency
+   * limit.
+   *
+   * @param keys the translation keys
+   * @param onLoad called on the loading thread with each dictionary loaded by this call
+   * @return the dictionaries by key; keys without a dictionary are left out
+   */
+  public Map<String, TranslationDictionary> loadAll(
+      Collection<String> keys, BiConsumer<String, ? super TranslationDictionary> onLoad) {
+    return loadAll(keys, DICTIONARY, onLoad);
+  }
+
+  /**
+   * Loads and converts the dictionaries of the given keys, joining loads in progress with the same
+   * converter.
+   *
+   * @param keys the translation keys
+   * @param converter converts each provider map, which it may keep without copying
+   * @param onLoad called on the loading thread with each dictionary loaded by this call
+   * @param <T> the type of the converted dictionaries
+   * @return the converted dictionaries by key; keys without a dictionary are left out
+   * @see #loadAll(Collection, BiConsumer)
+   * @see #load(String, Function, Consumer)
+   * @since 1.1.0
+   */
+  public <T> Map<String, T> loadAll(
+      Collection<String> keys,
+      Function<? super Map<String, String>, ? extends T> converter,
+      BiConsumer<String, ? super T> onLoad) {
+    Map<String, CompletableFuture<T>> loads = new LinkedHashMap<>();
+    Map<String, Load<T>> owned = new LinkedHashMap<>();
+    for (String key : keys) {
+      if (key == null || loads.containsKey(key)) {
+        continue;
+      }
+      Load<T> load = new Load<>(converter, new CompletableFuture<>());
+      CompletableFuture<T> existing = join(key, load);
+      if (existing == null) {
+        owned.put(key, load);
+        loads.put(key, load.future());
+      } else {
+        loads.put(key, existing);
+      }
+    }
+    if (!owned.isEmpty()) {
+      submit(() -> completeAll(owned, onLoad), owned);
+    }
+
+    Map<String, T> result = new HashMap<>(loads.size() * 2);
+    loads.forEach(
+        (key, loading) -> {
+          T dictionary = await(loading);
+          if (dictionary != null) {
+            result.put(key, dictionary);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Starts loading the dictionary of the given key, or returns the load already in progress.
+   *
+   * @param key the translation key
+   * @return a future completed with the dictionary, or with {@code null} if the provider has none
+   */
+  public CompletableFuture<@Nullable TranslationDictionary> loadAsync(String key) {
+    return loadAsync(key, NO_OP);
+  }
+
+  /**
+   * Starts loading the dictionary of the given key, or returns the load already in progress.
+   *
+   * @param key the translation key
+   * @param onLoad called with the dictionary if this call started the load and the provider has one
+   * @return a future completed with the dictionary, or with {@code null} if the provider has none
+   * @see #load(String, Consumer)
+   */
+  public CompletableFuture<@Nullable TranslationDictionary> loadAsync(
+      String key, Consumer<? super TranslationDictionary> onLoad) {
+    return loadAsync(key, DICTIONARY, onLoad);
+  }
+
+  private <T> CompletableFuture<@Nullable T> loadAsync(
+      String key,
+      Function<? super Map<String, String>, ? extends T> converter,
+      Consumer<? super T> onLoad) {
+    Load<T> load = new Load<>(converter, new CompletableFuture<>());
+    CompletableFuture<T> existing = join(key, load);
+    if (existing != null) {
+      return existing;
+    }
+    submit(() -> complete(key, load, onLoad), Map.of(key, load));
+    return load.future();
+  }
+
+  /**
+   * Registers the given load, unless a load of the key with the same converter is in progress.
+   *
+   * @return the future of the load in progress to join, or {@code null} if the given load must run
+   */
+  @SuppressWarnings("unchecked")
+  private <T> @Nullable CompletableFuture<T> join(String key, Load<T> load) {
+    Load<?> existing = inFlight.putIfAbsent(key, load);
+    if (existing == null) {
+      return null;
+    }
+    // A load with another converter produces another type: run this one on its own.
+    return existing.converter() == load.converter()
+        ? (CompletableFuture<T>) existing.future()
+        : null;
+  }
+
+  /**
+   * Detaches the load of the given key in progress, if any, so that the next load calls the
+   * provider again instead of joining it.
+   *
+   * <p>Callers already waiting for the detached load still receive its result, and its callback
+   * still runs. Caches filled by the callback are expected to discard it, for example by comparing
+   * a generation taken before the load.
+   *
+   * @param key the translation key
+   * @since 1.1.0
+   */
+  public void invalidate(String key) {
+    inFlight.remove(key);
+  }
+
+  /**
+   * Detaches every load in progress.
+   *
+   * @see #invalidate(String)
+   * @since 1.1.0
+   */
+  public void invalidateAll() {
+    inFlight.clear();
+  }
+
+  private void submit(Runnable task, Map<String, ? extends Load<?>> loads) {
+    if (executor == null) {
+      task.run();
+      return;
+    }
+    try {
+      executor.execute(task);
+    } catch (RuntimeException e) {
+      loads.forEach(
+          (key, load) -> {
+            inFlight.remove(key, load);
+            load.future().completeExceptionally(e);
+          });
+    }
+  }
+
+  private <T> void complete(String key, Load<T> load, Consumer<? super T> onLoad) {
+    try {
+      T dictionary = load.convert(withPermit(() -> provider.get(key)));
+      if (dictionary != null) {
+        onLoad.accept(dictionary);
+      }
+      load.future().complete(dictionary);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      load.future().completeExceptionally(e);
+    } catch (RuntimeException | Error e) {
+      load.future().completeExceptionally(e);
+    } finally {
+      inFlight.remove(key, load);
+    }
+  }
+
+  private <T> void completeAll(Map<String, Load<T>> loads, BiConsumer<String, ? super T> onLoad) {
+    try {
+      Map<String, Map<String, String>> maps =
+          withPermit(() -> provider.getAll(List.copyOf(loads.keySet())));
+      loads.forEach(
+          (key, load) -> {
+            T dictionary = load.convert(maps.get(key));
+            if (dictionary != null) {
+              onLoad.accept(key, dictionary);
+            }
+            load.future().complete(dictionary);
+          });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      loads.values().forEach(load -> load.future().completeExceptionally(e));
+    } catch (RuntimeException | Error e) {
+      loads.values().forEach(load -> load.future().completeExceptionally(e));
+    } finally {
+      loads.forEach(inFlight::remove);
+    }
+  }
+
+  private <T> T withPermit(Supplier<T> call) throws InterruptedException {
+    if (permits == null) {
+      return call.get();
+    }
+    permits.acquire();
+    try {
+      return call.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static <T> @Nullable T await(CompletableFuture<T> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /** Load in progress with the converter applied to its provider map. */
+  private record Load<T>(
+      Function<? super Map<String, String>, ? extends T> converter, CompletableFuture<T> future) {
+
+    @Nullable T convert(@Nullable Map<String, String> map) {
+      return map == null ? null : converter.apply(map);
+    }
+  }
+
+  /**
+   * Returns an executor starting a new virtual thread per task when the runtime supports them.
+   *
+   * @return a virtual thread executor, or {@code null} before Java 21
+   */
+  public static @Nullable ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      log.debug("Virtual threads are not available, loading dictionaries on the calling thread");
+      return null;
+    }
+  }
+}
@@ -16,6 +16,9 @@
 
 package io.github.oiltea.trans4j.core;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import org.jspecify.annotations.NonNull;
 
@@ -36,4 +39,71 @@ public interface TranslationProvider {
    * @return the value to which the specified key is mapped, must not be null
    */
   Map<String, String> get(@NonNull String key);
+
+  /**
+   * Retrieves the dictionary of a key in the given locale.
+   *
+   * <p>{@link Locale#ROOT} denotes the dictionaries returned by {@link #get(String)}. Other locales
+   * only need the labels that differ from their parent locale, since {@link
+   * LocalizedTranslationProvider} merges the whole fallback chain of a locale, such as {@code
+   * zh-Hant-TW}, {@code zh-Hant}, {@code zh} and {@link Locale#ROOT}. The default implementation
+   * returns the dictionary of {@link #get(String)} for {@link Locale#ROOT} and nothing for other
+   * locales, so providers serving a single language need no change.
+   *
+   * @param key the translation key
+   * @param locale the locale of the labels
+   * @return the dictionary, or null if there is none for this exact locale
+   * @since 1.1.0
+   */
+  default Map<String, String> get(@NonNull String key, @NonNull Locale locale) {
+    return Locale.ROOT.equals(locale) ? get(key) : null;
+  }
+
+  /**
+   * Retrieves the dictionaries of several keys at once.
+   *
+   * <p>Caches call this method whenever they load more than one dictionary, for example during the
+   * startup warm-up. The default implementation calls {@link #get(String)} for each key;
+   * implementations backed by a database should override it to load all dictionaries with a single
+   * query.
+   *
+   * @param keys the keys whose dictionaries are to be returned
+   * @return the dictionaries by key; keys without a dictionary are left out
+   * @since 1.1.0
+   */
+  default Map<String, Map<String, String>> getAll(Collection<String> keys) {
+    Map<String, Map<String, String>> result = new HashMap<>(keys.size() * 2);
+    for (String key : keys) {
+      Map<String, String> dictionary = get(key);
+      if (dictionary != null) {
+        result.put(key, dictionary);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Retrieves the dictionaries of several keys in the given locale at once.
+   *
+   * <p>The default implementation calls {@link #getAll(Collection)} for {@link Locale#ROOT}, and
+   * {@link #get(String, Locale)} for each key otherwise.
+   *
+   * @param keys the keys whose dictionaries are to be returned
+   * @param locale the locale of the labels
+   * @return the dictionaries by key; keys without a dictionary in this locale are left out
+   * @since 1.1.0
+   */
+  default Map<String, Map<String, String>> getAll(Collection<String> keys, @NonNull Locale locale) {
+    if (Locale.ROOT.equals(locale)) {
+      return getAll(keys);
+    }
+    Map<String, Map<String, String>> result = new HashMap<>(keys.size() * 2);
+    for (String key : keys) {
+      Map<String, String> dictionary = get(key, locale);
+      if (dictionary != null) {
+        result.put(key, dictionary);
+      }
+    }
+    return result;
+  }
 }
@@ -16,7 +16,15 @@
 
 package io.github.oiltea.trans4j.core;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Interface for translation services.
@@ -55,4 +63,203 @@ public interface TranslationService {
    * @since 1.1.0
    */
   String doTranslate(@NonNull String key, @NonNull String value);
+
+  /**
+   * Translates a raw source value, such as an {@code Integer}, {@code Long} or enum code.
+   *
+   * <p>The default implementation converts the value with {@link TranslationCodes#toCode(Object)}
+   * and delegates to {@link #translate(String, String)}. Implementations that hold a {@link
+   * TranslationDictionary} override it to look the value up without converting it to a string.
+   *
+   * @param key the translation key, must not be null
+   * @param value the source value, can be null
+   * @return the translated string, or null if the value is null or has no translation
+   * @since 1.1.0
+   */
+  default String translateValue(@NonNull String key, @Nullable Object value) {
+    return translate(key, TranslationCodes.toCode(value));
+  }
+
+  /**
+   * Translates a raw source value that may hold several codes.
+   *
+   * <p>Collections, arrays and strings split by the delimiter are translated with a single {@link
+   * #translateAll(String, Collection)} call, and the translations of their codes are joined in
+   * order; see {@link Translate#delimiter()}. Any other value is translated with {@link
+   * #translateValue(String, Object)}.
+   *
+   * @param key the translation key, must not be null
+   * @param value the source value, can be null
+   * @param delimiter the delimiter of string sources and of the joined translations
+   * @return the translated string, or null if the value is null or has no translation
+   * @since 1.1.0
+   */
+  default String translateValue(@NonNull String key, @Nullable Object value, String delimiter) {
+    if (!TranslationCodes.isMultiple(value, delimiter)) {
+      return translateValue(key, value);
+    }
+    List<String> codes = TranslationCodes.toCodes(value, delimiter);
+    return codes.isEmpty()
+        ? null
+        : TranslationCodes.join(codes, translateAll(key, codes), delimiter);
+  }
+
+  /**
+   * Translates a collection of values that share the same translation key.
+   *
+   * <p>The default implementation calls {@link #doTranslate(String, String)} once per distinct
+   * value. Implementations backed by a cache or a remote store should override it to resolve all
+   * values with a single lookup. {@code null} values and values without a translation are absent
+   * from the returned map.
+   *
+   * @param key the translation key, must not be null
+   * @param values the values to translate, must not be null but may contain nulls
+   * @return a mutable map from each translated value to its translation, never null
+   * @since 1.1.0
+   */
+  default Map<String, String> translateAll(@NonNull String key, Collection<String> values) {
+    Set<String> distinct = new LinkedHashSet<>(values);
+    distinct.remove(null);
+    Map<String, String> result = new HashMap<>(distinct.size() * 2);
+    for (String value : distinct) {
+      String translated = doTranslate(key, value);
+      if (translated != null) {
+        result.put(value, translated);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Loads the dictionary of the given key ahead of its first translation.
+   *
+   * <p>Caching implementations fetch the dictionary into their cache so that later translations do
+   * not wait for the provider. The default implementation does nothing, which suits services
+   * without a cache.
+   *
+   * @param key the translation key, must not be null
+   * @since 1.1.0
+   */
+  default void preload(@NonNull String key) {}
+
+  /**
+   * Loads the dictionaries of the given keys ahead of their first translation.
+   *
+   * <p>Caching implementations load the dictionaries missing from their cache with a single {@link
+   * TranslationProvider#getAll(Collection)} call. The default implementation calls {@link
+   * #preload(String)} for each key.
+   *
+   * @param keys the translation keys
+   * @since 1.1.0
+   */
+  default void preloadAll(Collection<String> keys) {
+    for (String key : keys) {
+      preload(key);
+    }
+  }
+
+  /**
+   * Drops the cached dictionary of the given key, so that the next translation loads it again.
+   *
+   * <p>The key is also removed from the negative cache. The default implementation does nothing,
+   * which suits services without a cache.
+   *
+   * @param key the translation key, must not be null
+   * @since 1.1.0
+   */
+  default void invalidate(@NonNull String key) {}
+
+  /**
+   * Drops all cached dictionaries and negative entries.
+   *
+   * <p>The default implementation does nothing, which suits services without a cache.
+   *
+   * @since 1.1.0
+   */
+  default void invalidateAll() {}
+
+  /**
+   * Loads the dictionary of the given key from the provider again and replaces the cached one.
+   *
+   * <p>Unlike {@link #invalidate(String)}, translations keep being served from the previous
+   * dictionary until the new one is loaded. The default implementation invalidates the key and
+   * preloads it.
+   *
+   * @param key the translation key, must not be null
+   * @since 1.1.0
+   */
+  default void reload(@NonNull String key) {
+    invalidate(key);
+    preload(key);
+  }
+
+  /**
+   * Returns the approximate number of dictionaries held in memory by this service.
+   *
+   * <p>Used to report the cache size. The default implementation returns {@code -1}, meaning that
+   * the service keeps no dictionaries in memory.
+   *
+   * @return the number of cached dictionaries, or {@code -1} if not applicable
+   * @since 1.1.0
+   */
+  default long estimatedSize() {
+    return -1;
+  }
+
+  /**
+   * Returns the approximate total number of entries of the dictionaries held in memory.
+   *
+   * <p>Used to report the memory footprint of the cache. The default implementation returns {@code
+   * -1}, meaning that the service does not track it.
+   *
+   * @return the total weight of the cached dictionaries, or {@code -1} if not applicable
+   * @since 1.1.0
+   */
+  default long estimatedWeight() {
+    return -1;
+  }
+
+  /**
+   * Returns the service translating into the given locale.
+   *
+   * <p>Used when the locale is known from the context, for example from a serialization attribute,
+   * rather than from the thread translating. The default implementation returns this service, which
+   * suits services serving a single language.
+   *
+   * @param locale the locale of the translations
+   * @return the service of the locale, never null
+   * @since 1.1.0
+   * @see LocalizedTranslationService
+   */
+  default TranslationService forLocale(@NonNull Locale locale) {
+    return this;
+  }
+
+  /**
+   * Looks up a collection of values in an already loaded dictionary.
+   *
+   * <p>Helper for {@link #translateAll(String, Collection)} implementations that hold the whole
+   * dictionary of a key in memory.
+   *
+   * @param dictionary the loaded dictionary, may be null
+   * @param values the values to look up, may contain nulls
+   * @return a mutable map from each translated value to its translation, never null
+   * @since 1.1.0
+   */
+  static Map<String, String> lookupAll(
+      @Nullable Map<String, String> dictionary, Collection<String> values) {
+    Map<String, String> result = new HashMap<>(values.size() * 2);
+    if (dictionary == null) {
+      return result;
+    }
+    for (String value : values) {
+      if (value != null) {
+        String translated = dictionary.get(value);
+        if (translated != null) {
+          result.put(value, translated);
+        }
+      }
+    }
+    return result;
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClockEvictorTest {
+
+  private final Map<String, Node> cache = new LinkedHashMap<>();
+  private final ClockEvictor<String> clock = new ClockEvictor<>();
+
+  @Test
+  @DisplayName("Should evict in insertion order, sparing the kept key")
+  void should_evict_in_insertion_order() {
+    store("a");
+    store("b");
+    store("c");
+
+    assertEquals(Map.of("b", cache.get("b"), "c", cache.get("c")), cache);
+  }
+
+  @Test
+  @DisplayName("Should give referenced entries a second chance")
+  void should_give_referenced_entries_a_second_chance() {
+    store("a");
+    store("b");
+    cache.get("a").markReferenced();
+    store("c");
+
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+  }
+
+  @Test
+  @DisplayName("Should put removed keys behind the hand when stored again")
+  void should_forget_removed_keys() {
+    store("a");
+    store("b");
+    cache.remove("a");
+    clock.remove("a");
+    store("a");
+    store("c");
+
+    assertTrue(cache.containsKey("a"));
+    assertFalse(cache.containsKey("b"));
+  }
+
+  private void store(String key) {
+    cache.put(key, new Node());
+    clock.evict(key, cache::get, () -> cache.size() > 2, cache::remove);
+  }
+
+  private static final class Node extends ClockEvictor.Node {}
+}
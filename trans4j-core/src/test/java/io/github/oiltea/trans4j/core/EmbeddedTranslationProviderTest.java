@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmbeddedTranslationProviderTest {
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("Should export the dictionaries of a build-time provider")
+  void should_export_dictionaries() throws IOException {
+    TranslationProvider provider = mock(TranslationProvider.class);
+    when(provider.getAll(List.of("gender", "status")))
+        .thenReturn(Map.of("gender", Map.of("1", "Male", "2", "女")));
+    Path file = directory.resolve(EmbeddedTranslationProvider.RESOURCE);
+
+    EmbeddedTranslationProvider.export(provider, List.of("gender", "status"), file);
+
+    try (InputStream in = Files.newInputStream(file)) {
+      assertEquals(
+          Map.of("gender", Map.of("1", "Male", "2", "女")), EmbeddedTranslationProvider.read(in));
+    }
+  }
+
+  @Test
+  @DisplayName("Should keep labels longer than 64 KiB and leave out null entries")
+  void should_round_trip_long_labels_without_nulls() throws IOException {
+    String label = "译".repeat(30_000);
+    Map<String, String> dictionary = new HashMap<>();
+    dictionary.put("1", label);
+    dictionary.put("2", null);
+    dictionary.put(null, "None");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    EmbeddedTranslationProvider.write(Map.of("gender", dictionary), out);
+
+    assertEquals(
+        Map.of("gender", Map.of("1", label)),
+        EmbeddedTranslationProvider.read(new ByteArrayInputStream(out.toByteArray())));
+  }
+
+  @Test
+  @DisplayName("Should reject resources of another format")
+  void should_reject_other_format() {
+    InputStream in = new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 0, 0, 0, 1});
+
+    assertThrows(IOException.class, () -> EmbeddedTranslationProvider.read(in));
+  }
+
+  @Test
+  @DisplayName("Should serve exported dictionaries without calling the fallback")
+  void should_serve_exported_dictionaries() {
+    TranslationProvider fallback = mock(TranslationProvider.class);
+    when(fallback.get("status")).thenReturn(Map.of("0", "Disabled"));
+    when(fallback.getAll(List.of("status"))).thenReturn(Map.of("status", Map.of("0", "Disabled")));
+    EmbeddedTranslationProvider provider =
+        new EmbeddedTranslationProvider(Map.of("gender", Map.of("1", "Male")), fallback);
+
+    assertEquals(Map.of("1", "Male"), provider.get("gender"));
+    assertEquals(Map.of("0", "Disabled"), provider.get("status"));
+    assertEquals(
+        Map.of("gender", Map.of("1", "Male"), "status", Map.of("0", "Disabled")),
+        provider.getAll(List.of("gender", "status")));
+    verify(fallback, never()).get("gender");
+    assertTrue(provider.contains("gender"));
+    assertFalse(provider.contains("status"));
+  }
+
+  @Test
+  @DisplayName("Should return null for keys that were not exported without a fallback")
+  void should_return_null_without_fallback() {
+    EmbeddedTranslationProvider provider = new EmbeddedTranslationProvider();
+
+    assertNull(provider.get("gender"));
+    assertTrue(provider.getAll(List.of("gender")).isEmpty());
+  }
+}
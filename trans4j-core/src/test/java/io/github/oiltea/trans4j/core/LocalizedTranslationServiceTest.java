@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalizedTranslationServiceTest {
+
+  private static final Locale ZH_HANT = Locale.forLanguageTag("zh-Hant");
+
+  private static final Locale ZH_HANT_TW = Locale.forLanguageTag("zh-Hant-TW");
+
+  private final AtomicReference<Locale> current = new AtomicReference<>();
+
+  @Test
+  @DisplayName("Should list the fallback chain from the root locale")
+  void should_list_fallback_chain() {
+    assertEquals(
+        List.of(Locale.ROOT, Locale.CHINESE, Locale.TAIWAN, ZH_HANT, ZH_HANT_TW),
+        LocalizedTranslationProvider.fallbackChain(ZH_HANT_TW));
+  }
+
+  @Test
+  @DisplayName("Should merge the dictionaries of the fallback chain")
+  void should_merge_fallback_chain() {
+    TranslationProvider provider = mock(TranslationProvider.class);
+    when(provider.get("gender", Locale.ROOT)).thenReturn(Map.of("1", "Male", "2", "Female"));
+    when(provider.get("gender", Locale.CHINESE)).thenReturn(Map.of("1", "男", "2", "女"));
+    when(provider.get("gender", ZH_HANT_TW)).thenReturn(Map.of("2", "女性"));
+    when(provider.getAll(List.of("gender"), Locale.CHINESE))
+        .thenReturn(Map.of("gender", Map.of("1", "男")));
+    when(provider.getAll(List.of("gender"), Locale.ROOT))
+        .thenReturn(Map.of("gender", Map.of("1", "Male", "2", "Female")));
+
+    assertEquals(
+        Map.of("1", "男", "2", "女性"),
+        new LocalizedTranslationProvider(provider, ZH_HANT_TW).get("gender"));
+    assertEquals(
+        Map.of("gender", Map.of("1", "男", "2", "Female")),
+        new LocalizedTranslationProvider(provider, Locale.CHINESE).getAll(List.of("gender")));
+  }
+
+  @Test
+  @DisplayName("Should keep an empty dictionary that has no parent")
+  void should_keep_empty_dictionary_without_parent() {
+    TranslationProvider provider = mock(TranslationProvider.class);
+    when(provider.get(anyString(), any())).thenReturn(null);
+    when(provider.get("gender", Locale.CHINESE)).thenReturn(Map.of());
+
+    assertEquals(
+        Map.of(), new LocalizedTranslationProvider(provider, Locale.CHINESE).get("gender"));
+    assertNull(new LocalizedTranslationProvider(provider, Locale.CHINESE).get("status"));
+  }
+
+  @Test
+  @DisplayName("Should serve the single-language provider dictionaries for every locale")
+  void should_fall_back_to_root_dictionaries() {
+    TranslationProvider provider = key -> Map.of("1", "Male");
+
+    assertEquals(
+        Map.of("1", "Male"), new LocalizedTranslationProvider(provider, Locale.FRENCH).get("k"));
+  }
+
+  @Test
+  @DisplayName("Should translate with the partition of the current locale")
+  void should_translate_with_current_locale() {
+    TranslationService service = service();
+
+    assertEquals("Male", service.translate("gender", "1"));
+    current.set(Locale.CHINA);
+    assertEquals("男", service.translate("gender", "1"));
+    current.set(Locale.GERMAN);
+    assertEquals("Male", service.translate("gender", "1"));
+    assertEquals("男", service.forLocale(Locale.TRADITIONAL_CHINESE).translate("gender", "1"));
+  }
+
+  @Test
+  @DisplayName("Should invalidate every partition")
+  void should_invalidate_every_partition() {
+    TranslationService english = mock(TranslationService.class);
+    TranslationService chinese = mock(TranslationService.class);
+    when(english.estimatedSize()).thenReturn(2L);
+    when(chinese.estimatedSize()).thenReturn(3L);
+    when(english.estimatedWeight()).thenReturn(-1L);
+    when(chinese.estimatedWeight()).thenReturn(-1L);
+    LocalizedTranslationService service =
+        new LocalizedTranslationService(
+            Map.of(Locale.ENGLISH, english, Locale.CHINESE, chinese), Locale.ENGLISH, current::get);
+
+    service.invalidate("gender");
+    service.preloadAll(List.of("gender"));
+
+    verify(english).invalidate("gender");
+    verify(chinese).invalidate("gender");
+    verify(chinese).preloadAll(List.of("gender"));
+    assertEquals(5L, service.estimatedSize());
+    assertEquals(-1L, service.estimatedWeight());
+  }
+
+  @Test
+  @DisplayName("Should build a single service when locales are disabled")
+  void should_build_single_service_when_disabled() {
+    TranslationProvider provider = key -> Map.of();
+    TranslationService single = mock(TranslationService.class);
+
+    assertSame(
+        single,
+        LocalizedTranslationService.of(
+            new TranslationCacheProperties.Locales(), provider, current::get, (l, p) -> single));
+  }
+
+  @Test
+  @DisplayName("Should pick the reactive partition of the requested locale")
+  void should_pick_reactive_partition() {
+    ReactiveTranslationService english = mock(ReactiveTranslationService.class);
+    ReactiveTranslationService chinese = mock(ReactiveTranslationService.class);
+    ReactiveTranslationService service =
+        new ReactiveLocalizedTranslationService(
+            Map.of(Locale.ENGLISH, english, Locale.CHINESE, chinese), Locale.ENGLISH);
+
+    assertSame(chinese, service.forLocale(Locale.TRADITIONAL_CHINESE));
+    assertSame(english, service.forLocale(Locale.GERMAN));
+    service.translate("gender", "1");
+    verify(english).translate("gender", "1");
+  }
+
+  private TranslationService service() {
+    TranslationProvider provider =
+        new TranslationProvider() {
+          @Override
+          public Map<String, String> get(String key) {
+            return Map.of("1", "Male");
+          }
+
+          @Override
+          public Map<String, String> get(String key, Locale locale) {
+            if (Locale.CHINESE.equals(locale)) {
+              return Map.of("1", "男");
+            }
+            return TranslationProvider.super.get(key, locale);
+          }
+        };
+    TranslationCacheProperties.Locales settings = new TranslationCacheProperties.Locales();
+    settings.setEnabled(true);
+    settings.setSupported(List.of(Locale.ENGLISH, Locale.CHINESE));
+    return LocalizedTranslationService.of(
+        settings, provider, current::get, (l, p) -> new DefaultTranslationService(p));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NegativeCacheTest {
+
+  @Test
+  @DisplayName("Should remember entries until they expire")
+  void should_remember_entries_until_expired() throws InterruptedException {
+    NegativeCache cache = new NegativeCache(Duration.ofMillis(50), 10);
+    cache.add("gender");
+
+    assertTrue(cache.contains("gender"));
+    assertFalse(cache.contains("status"));
+    Thread.sleep(100);
+    assertFalse(cache.contains("gender"));
+  }
+
+  @Test
+  @DisplayName("Should forget removed entries")
+  void should_forget_removed_entries() {
+    NegativeCache cache = new NegativeCache(Duration.ofMinutes(1), 10);
+    cache.add("gender");
+    cache.remove("gender");
+
+    assertFalse(cache.contains("gender"));
+  }
+
+  @Test
+  @DisplayName("Should stay within the maximum size")
+  void should_stay_within_maximum_size() {
+    NegativeCache cache = new NegativeCache(Duration.ofMinutes(1), 10);
+    int remembered = 0;
+    for (int i = 0; i < 100; i++) {
+      cache.add("key" + i);
+    }
+    for (int i = 0; i < 100; i++) {
+      remembered += cache.contains("key" + i) ? 1 : 0;
+    }
+
+    assertTrue(remembered <= 10);
+    assertTrue(cache.contains("key99"));
+  }
+
+  @Test
+  @DisplayName("Should remember nothing when disabled")
+  void should_remember_nothing_when_disabled() {
+    NegativeCache cache = new NegativeCache(null, 10);
+    cache.add("gender");
+
+    assertFalse(cache.isEnabled());
+    assertFalse(cache.contains("gender"));
+    assertFalse(NegativeCache.disabled().isEnabled());
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.Translate.NullPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+class ReactiveTranslationResolverTest {
+
+  private TranslationProvider provider;
+  private ReactiveTranslationResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    provider = mock(TranslationProvider.class);
+    when(provider.get("gender")).thenReturn(Map.of("1", "Male", "2", "Female"));
+    when(provider.get("status")).thenReturn(Map.of("1", "Active"));
+    resolver =
+        new ReactiveTranslationResolver(
+            ReactiveTranslationService.fromBlocking(new DefaultTranslationService(provider)));
+  }
+
+  @Test
+  @DisplayName("Should fill annotated fields of a bean")
+  void should_resolve_bean() {
+    User user = new User(1, "1");
+    Resolved<User> resolved = resolver.resolve(user).block();
+
+    assertSame(user, resolved.value());
+    assertEquals("Male", user.genderText);
+    assertEquals("Active", user.statusText);
+  }
+
+  @Test
+  @DisplayName("Should translate a collection with one lookup per key")
+  void should_resolve_collection_with_one_lookup_per_key() {
+    List<User> users = List.of(new User(1, "1"), new User(2, "9"), new User(null, null));
+
+    resolver.resolve(users).block();
+
+    assertEquals("Male", users.get(0).genderText);
+    assertEquals("Female", users.get(1).genderText);
+    assertNull(users.get(2).genderText);
+    assertEquals("", users.get(1).statusText);
+    assertEquals("", users.get(2).statusText);
+    verify(provider, times(1)).get("gender");
+    verify(provider, times(1)).get("status");
+  }
+
+  @Test
+  @DisplayName("Should visit nested beans and keep preset values")
+  void should_resolve_nested_beans() {
+    User preset = new User(1, "1");
+    preset.genderText = "Preset";
+    Team team = new Team();
+    team.lead = new User(2, "1");
+    team.members.add(preset);
+
+    resolver.resolve(team).block();
+
+    assertEquals("Female", team.lead.genderText);
+    assertEquals("Preset", preset.genderText);
+    assertEquals("Active", preset.statusText);
+  }
+
+  @Test
+  @DisplayName("Should resolve a stream of beans in batches")
+  void should_resolve_stream_in_batches() {
+    List<User> users =
+        resolver
+            .resolveAll(Flux.just(new User(1, "1"), new User(2, "1"), new User(1, "1")), 2)
+            .map(Resolved::value)
+            .collectList()
+            .block();
+
+    assertEquals(List.of("Male", "Female", "Male"), users.stream().map(u -> u.genderText).toList());
+    verify(provider, times(2)).get("gender");
+  }
+
+  @Test
+  @DisplayName("Should join multi-code sources into the same lookup")
+  void should_resolve_multiple_codes() {
+    List<Account> accounts = List.of(new Account(List.of(2, 1), "1;9"), new Account(List.of(), ""));
+
+    resolver.resolve(accounts).block();
+
+    assertEquals("Female,Male", accounts.get(0).genderText);
+    assertEquals("Active", accounts.get(0).statusText);
+    assertNull(accounts.get(1).genderText);
+    assertEquals("", accounts.get(1).statusText);
+    verify(provider, times(1)).get("gender");
+    verify(provider, times(1)).get("status");
+  }
+
+  static class User {
+    private final Integer gender;
+
+    @Translate(key = "gender", from = "gender")
+    private String genderText;
+
+    private final String status;
+
+    @Translate(key = "status", from = "status", nullPolicy = NullPolicy.EMPTY)
+    private String statusText;
+
+    User(Integer gender, String status) {
+      this.gender = gender;
+      this.status = status;
+    }
+  }
+
+  static class Team {
+    private User lead;
+    private final List<User> members = new ArrayList<>();
+  }
+
+  static class Account {
+    private final List<Integer> genders;
+
+    @Translate(key = "gender", from = "genders")
+    private String genderText;
+
+    private final String statuses;
+
+    @Translate(key = "status", from = "statuses", delimiter = ";", nullPolicy = NullPolicy.EMPTY)
+    private String statusText;
+
+    Account(List<Integer> genders, String statuses) {
+      this.genders = genders;
+      this.statuses = statuses;
+    }
+  }
+}
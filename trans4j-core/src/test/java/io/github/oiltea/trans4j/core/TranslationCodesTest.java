@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TranslationCodesTest {
+
+  @Test
+  @DisplayName("Should keep Objects.toString semantics")
+  void should_match_objects_to_string() {
+    assertNull(TranslationCodes.toCode(null));
+    assertEquals("1", TranslationCodes.toCode("1"));
+    assertEquals("-128", TranslationCodes.toCode(-128));
+    assertEquals("1023", TranslationCodes.toCode(1023L));
+    assertEquals("1024", TranslationCodes.toCode(1024));
+    assertEquals("-129", TranslationCodes.toCode((short) -129));
+    assertEquals("7", TranslationCodes.toCode((byte) 7));
+    assertEquals(String.valueOf(Long.MAX_VALUE), TranslationCodes.toCode(Long.MAX_VALUE));
+    assertEquals("SECONDS", TranslationCodes.toCode(TimeUnit.SECONDS));
+    assertEquals("1.5", TranslationCodes.toCode(1.5d));
+  }
+
+  @Test
+  @DisplayName("Should reuse cached strings for small integral values")
+  void should_reuse_cached_strings() {
+    assertSame(TranslationCodes.toCode(42), TranslationCodes.toCode(42L));
+    assertSame(TranslationCodes.toCode(Integer.valueOf(-1)), TranslationCodes.toCode(-1));
+  }
+
+  @Test
+  @DisplayName("Should split collections, arrays and delimited strings into codes")
+  void should_split_multiple_codes() {
+    assertTrue(TranslationCodes.isMultiple(List.of(1), ""));
+    assertTrue(TranslationCodes.isMultiple(new long[0], ""));
+    assertTrue(TranslationCodes.isMultiple("A,B", ","));
+    assertFalse(TranslationCodes.isMultiple("A,B", ""));
+    assertFalse(TranslationCodes.isMultiple("A", ","));
+    assertFalse(TranslationCodes.isMultiple(null, ","));
+
+    assertEquals(List.of("1", "2"), TranslationCodes.toCodes(Arrays.asList(1, null, 2L), ""));
+    assertEquals(List.of("3", "4"), TranslationCodes.toCodes(new int[] {3, 4}, ""));
+    assertEquals(List.of("A", "B", "C"), TranslationCodes.toCodes(" A, B,,C ", ","));
+    assertEquals(List.of("A::B"), TranslationCodes.toCodes("A::B", ""));
+    assertEquals(List.of(), TranslationCodes.toCodes(null, ","));
+  }
+
+  @Test
+  @DisplayName("Should join translations in code order, leaving out missing ones")
+  void should_join_translations() {
+    Map<String, String> translations = new HashMap<>(Map.of("A", "Admin", "B", "Editor"));
+    translations.put("C", null);
+
+    assertEquals(
+        "Editor,Admin", TranslationCodes.join(List.of("B", "X", "C", "A"), translations, ""));
+    assertEquals("Admin / Editor", TranslationCodes.join(List.of("A", "B"), translations, " / "));
+    assertNull(TranslationCodes.join(List.of("X"), translations, ""));
+  }
+}
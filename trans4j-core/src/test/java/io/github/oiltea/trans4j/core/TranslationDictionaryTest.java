@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TranslationDictionaryTest {
+
+  @Test
+  @DisplayName("Should return null when provider returns null")
+  void should_return_null_for_null_map() {
+    assertNull(TranslationDictionary.of(null));
+  }
+
+  @Test
+  @DisplayName("Should look up integral codes without string conversion")
+  void should_look_up_integral_codes() {
+    Map<String, String> map = new HashMap<>();
+    for (int i = -500; i < 5000; i++) {
+      map.put(Integer.toString(i), "label" + i);
+    }
+    map.put("007", "bond");
+    map.put(Long.toString(Long.MAX_VALUE), "max");
+    TranslationDictionary dictionary = TranslationDictionary.of(map);
+
+    for (int i = -500; i < 5000; i++) {
+      assertEquals("label" + i, dictionary.get(i));
+    }
+    assertNull(dictionary.get(5000));
+    assertEquals("bond", dictionary.get("007"));
+    assertEquals("max", dictionary.get(Long.MAX_VALUE));
+    assertEquals("label42", dictionary.getValue((short) 42));
+    assertEquals("label-1", dictionary.getValue(-1L));
+  }
+
+  @Test
+  @DisplayName("Should look up enum codes by their string form")
+  void should_look_up_enum_codes() {
+    TranslationDictionary dictionary =
+        TranslationDictionary.of(Map.of("SECONDS", "Seconds", "MINUTES", "Minutes"));
+
+    assertEquals("Seconds", dictionary.get(TimeUnit.SECONDS));
+    assertEquals("Minutes", dictionary.getValue(TimeUnit.MINUTES));
+    assertNull(dictionary.get(TimeUnit.HOURS));
+  }
+
+  @Test
+  @DisplayName("Should fall back to string lookups for other types")
+  void should_fall_back_to_strings() {
+    TranslationDictionary dictionary = TranslationDictionary.of(Map.of("1.5", "one and a half"));
+
+    assertEquals("one and a half", dictionary.getValue(1.5d));
+    assertNull(dictionary.getValue(null));
+    assertNull(dictionary.get(1));
+  }
+
+  @Test
+  @DisplayName("Should keep non-canonical integer codes as strings")
+  void should_keep_non_canonical_codes_as_strings() {
+    Map<String, String> map = new HashMap<>();
+    map.put("0", "zero");
+    map.put("-0", "minus zero");
+    map.put("+1", "plus one");
+    map.put("2147483648", "overflow");
+    map.put("-2147483648", "min");
+    TranslationDictionary dictionary = TranslationDictionary.of(map);
+
+    assertEquals("zero", dictionary.get("0"));
+    assertEquals("zero", dictionary.get(0));
+    assertEquals("minus zero", dictionary.get("-0"));
+    assertEquals("plus one", dictionary.get("+1"));
+    assertNull(dictionary.get(1));
+    assertEquals("overflow", dictionary.get(2147483648L));
+    assertEquals("min", dictionary.get(Integer.MIN_VALUE));
+    assertEquals(map, dictionary.asMap());
+    assertEquals(5, dictionary.size());
+  }
+
+  @Test
+  @DisplayName("Should share equal translations and skip null entries")
+  void should_share_equal_translations() {
+    Map<String, String> map = new HashMap<>();
+    map.put("1", new String("Yes"));
+    map.put("Y", new String("Yes"));
+    map.put("N", null);
+    TranslationDictionary dictionary = TranslationDictionary.of(map);
+
+    assertSame(dictionary.get("1"), dictionary.get("Y"));
+    assertNull(dictionary.get("N"));
+    assertEquals(2, dictionary.size());
+    assertEquals(
+        Map.of("1", "Yes", "Y", "Yes"), dictionary.getAll(Arrays.asList("1", "Y", "N", null)));
+  }
+}
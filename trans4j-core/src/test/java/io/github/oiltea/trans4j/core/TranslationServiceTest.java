@@ -17,13 +17,35 @@
 package io.github.oiltea.trans4j.core;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 class TranslationServiceTest {
@@ -98,6 +120,27 @@ class TranslationServiceTest {
       verify(provider, times(1)).get("gender");
       verify(provider, times(1)).get("status");
     }
+
+    @Test
+    @DisplayName("Should translate all values with a single provider call")
+    void should_translate_all_with_single_provider_call() {
+      Map<String, String> result =
+          service.translateAll("gender", Arrays.asList("1", "2", "0", null, "1"));
+
+      assertEquals(Map.of("1", "Male", "2", "Female"), result);
+      verify(provider, times(1)).get("gender");
+    }
+
+    @Test
+    @DisplayName("Should translate multi-code sources with a single provider call")
+    void should_translate_multiple_codes_with_single_provider_call() {
+      assertEquals("Female,Male", service.translateValue("gender", List.of(2, 0, 1), ""));
+      assertEquals("Male|Female", service.translateValue("gender", "1 | 2|", "|"));
+      assertEquals("Male", service.translateValue("gender", new int[] {1}, ""));
+      assertNull(service.translateValue("gender", List.of(), ""));
+
+      verify(provider, times(3)).get("gender");
+    }
   }
 
   @Nested
@@ -165,6 +208,260 @@ class TranslationServiceTest {
       verify(provider, times(1)).get("status");
     }
 
+    @Test
+    @DisplayName("Should translate raw integer values from the cached dictionary")
+    void should_translate_raw_values() {
+      assertEquals("Male", service.translateValue("gender", 1));
+      assertEquals("Female", service.translateValue("gender", 2L));
+      assertNull(service.translateValue("gender", 3));
+      assertNull(service.translateValue("gender", null));
+      verify(provider, times(1)).get("gender");
+    }
+
+    @Test
+    @DisplayName("Should return null when provider returns null")
+    void should_return_null_when_provider_returns_null() {
+      when(provider.get("unknown")).thenReturn(null);
+      assertNull(service.translate("unknown", "1"));
+    }
+
+    @Test
+    @DisplayName("Should translate all values from the cached dictionary")
+    void should_translate_all_from_cache() {
+      service.translate("gender", "1");
+
+      assertEquals(
+          Map.of("1", "Male", "2", "Female"), service.translateAll("gender", List.of("1", "2")));
+      verify(provider, times(1)).get("gender");
+    }
+
+    @Test
+    @DisplayName("Should serve the previous dictionary while refreshing in the background")
+    void should_refresh_in_background() throws InterruptedException {
+      when(provider.get("gender")).thenReturn(Map.of("1", "Male")).thenReturn(Map.of("1", "Man"));
+
+      try (SimpleTranslationService refreshing =
+          new SimpleTranslationService(provider, Duration.ofMillis(20))) {
+        assertEquals("Male", refreshing.translate("gender", "1"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!"Man".equals(refreshing.translate("gender", "1")) && System.nanoTime() < deadline) {
+          Thread.sleep(10);
+        }
+        assertEquals("Man", refreshing.translate("gender", "1"));
+      }
+    }
+
+    @Test
+    @DisplayName("Should keep the previous dictionary when a refresh fails")
+    void should_keep_previous_dictionary_when_refresh_fails() throws InterruptedException {
+      when(provider.get("gender"))
+          .thenReturn(Map.of("1", "Male"))
+          .thenThrow(new IllegalStateException("database down"));
+
+      try (SimpleTranslationService refreshing =
+          new SimpleTranslationService(provider, Duration.ofMillis(10))) {
+        assertEquals("Male", refreshing.translate("gender", "1"));
+        Thread.sleep(100);
+        assertEquals("Male", refreshing.translate("gender", "1"));
+        verify(provider, atLeast(2)).get("gender");
+      }
+    }
+
+    @Test
+    @DisplayName("Should serve preloaded dictionaries without calling the provider again")
+    void should_preload_dictionary() {
+      service.preload("gender");
+      verify(provider, times(1)).get("gender");
+
+      assertEquals("Male", service.translate("gender", "1"));
+      verify(provider, times(1)).get("gender");
+    }
+
+    @Test
+    @DisplayName("Should preload missing dictionaries with one bulk provider call")
+    void should_preload_all_in_bulk() {
+      service.translate("gender", "1");
+      when(provider.getAll(List.of("status"))).thenReturn(Map.of("status", Map.of("1", "Active")));
+
+      service.preloadAll(List.of("gender", "status"));
+
+      assertEquals("Active", service.translate("status", "1"));
+      verify(provider, times(1)).getAll(List.of("status"));
+      verify(provider, never()).get("status");
+    }
+
+    @Test
+    @DisplayName("Should report hits, misses and missing translations to the listener")
+    void should_report_to_listener() {
+      TranslationListener listener = mock(TranslationListener.class);
+      service.setListener(listener);
+
+      service.translate("gender", "1");
+      service.translate("gender", "9");
+
+      verify(listener).onMiss("gender");
+      verify(listener).onHit("gender");
+      verify(listener, times(1)).onMissingTranslation("gender");
+    }
+
+    @Test
+    @DisplayName("Should not call the provider again for an absent dictionary")
+    void should_remember_absent_dictionary() {
+      when(provider.get("unknown")).thenReturn(null);
+      service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+      assertNull(service.translate("unknown", "1"));
+      assertNull(service.translate("unknown", "2"));
+
+      verify(provider, times(1)).get("unknown");
+    }
+
+    @Test
+    @DisplayName("Should load an invalidated dictionary again")
+    void should_load_again_after_invalidate() {
+      service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+      when(provider.get("unknown")).thenReturn(null);
+      service.translate("gender", "1");
+      service.translate("status", "1");
+      service.translate("unknown", "1");
+
+      service.invalidate("gender");
+      assertEquals(2, service.estimatedWeight());
+      when(provider.get("gender")).thenReturn(Map.of("1", "Man"));
+      assertEquals("Man", service.translate("gender", "1"));
+
+      service.invalidateAll();
+      assertEquals(0, service.estimatedSize());
+      assertEquals(0, service.estimatedWeight());
+      service.translate("status", "1");
+      service.translate("unknown", "1");
+      verify(provider, times(2)).get("status");
+      verify(provider, times(2)).get("unknown");
+    }
+
+    @Test
+    @DisplayName("Should replace a dictionary on reload")
+    void should_replace_dictionary_on_reload() {
+      service.translate("gender", "1");
+      when(provider.get("gender")).thenReturn(Map.of("1", "Man")).thenReturn(null);
+
+      service.reload("gender");
+      assertEquals("Man", service.translate("gender", "1"));
+      assertEquals(1, service.estimatedWeight());
+
+      service.reload("gender");
+      assertEquals(0, service.estimatedSize());
+      verify(provider, times(3)).get("gender");
+    }
+
+    @Test
+    @DisplayName("Should discard a load that started before a reload or an invalidation")
+    void should_discard_loads_started_before_reload() throws Exception {
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(provider.get("gender"))
+          .thenAnswer(
+              invocation -> {
+                loading.countDown();
+                release.await();
+                return Map.of("1", "Stale");
+              })
+          .thenReturn(Map.of("1", "Fresh"))
+          .thenReturn(Map.of("1", "Fresher"));
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        Future<String> stale = executor.submit(() -> service.translate("gender", "1"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        service.reload("gender");
+        release.countDown();
+        assertEquals("Stale", stale.get(5, TimeUnit.SECONDS));
+
+        assertEquals("Fresh", service.translate("gender", "1"));
+        verify(provider, times(2)).get("gender");
+      } finally {
+        executor.shutdownNow();
+      }
+
+      CountDownLatch invalidating = new CountDownLatch(1);
+      CountDownLatch resume = new CountDownLatch(1);
+      when(provider.get("status"))
+          .thenAnswer(
+              invocation -> {
+                invalidating.countDown();
+                resume.await();
+                return Map.of("1", "Stale");
+              })
+          .thenReturn(Map.of("1", "Edited"));
+      executor = Executors.newSingleThreadExecutor();
+      try {
+        Future<String> stale = executor.submit(() -> service.translate("status", "1"));
+        assertTrue(invalidating.await(5, TimeUnit.SECONDS));
+
+        service.invalidate("status");
+        resume.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        assertEquals("Edited", service.translate("status", "1"));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Should evict dictionaries not read recently beyond the maximum weight")
+    void should_evict_beyond_maximum_weight() {
+      when(provider.get("color")).thenReturn(Map.of("1", "Red", "2", "Blue"));
+      service.setMaximumWeight(4);
+
+      service.translate("gender", "1");
+      service.translate("status", "1");
+      service.translate("gender", "2");
+      service.translate("color", "1");
+
+      assertEquals(4, service.estimatedWeight());
+      assertEquals(2, service.estimatedSize());
+      service.translate("gender", "1");
+      verify(provider, times(1)).get("gender");
+      service.translate("status", "1");
+      verify(provider, times(2)).get("status");
+    }
+
+    @Test
+    @DisplayName("Should resume the eviction sweep where the previous one stopped")
+    void should_resume_eviction_at_hand() {
+      when(provider.get(anyString())).thenReturn(Map.of("1", "x"));
+      service.setMaximumWeight(2);
+
+      service.translate("a", "1");
+      service.translate("b", "1");
+      service.translate("a", "1");
+      service.translate("c", "1");
+      service.translate("d", "1");
+
+      service.translate("a", "1");
+      verify(provider, times(1)).get("a");
+      service.translate("b", "1");
+      verify(provider, times(2)).get("b");
+      assertEquals(2, service.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Should evict dictionaries stored before the cache was bounded")
+    void should_evict_dictionaries_stored_while_unbounded() {
+      when(provider.get(anyString())).thenReturn(Map.of("1", "x"));
+      service.translate("a", "1");
+      service.translate("b", "1");
+
+      service.setMaximumWeight(2);
+      service.translate("c", "1");
+
+      assertEquals(2, service.estimatedSize());
+      service.translate("a", "1");
+      verify(provider, times(2)).get("a");
+    }
+
     @Test
     @DisplayName("Should be thread-safe with concurrent access")
     void should_be_thread_safe() throws InterruptedException {
@@ -191,6 +488,307 @@ class TranslationServiceTest {
       verify(provider, times(1)).get("gender");
       verify(provider, times(1)).get("status");
     }
+
+    @Test
+    @DisplayName("Should not block other keys while a provider call is slow")
+    void should_not_block_other_keys_while_loading() throws Exception {
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(provider.get("slow"))
+          .thenAnswer(
+              invocation -> {
+                loading.countDown();
+                release.await();
+                return Map.of("1", "Slow");
+              });
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        Future<String> slow = executor.submit(() -> service.translate("slow", "1"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        Future<String> other = executor.submit(() -> service.translate("gender", "1"));
+        assertEquals("Male", other.get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertEquals("Slow", slow.get(5, TimeUnit.SECONDS));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("OffHeapTranslationService Tests")
+  class OffHeapTranslationServiceTests {
+
+    private OffHeapTranslationService service;
+
+    @BeforeEach
+    void setUp() {
+      service = new OffHeapTranslationService(provider);
+    }
+
+    @Test
+    @DisplayName("Should translate from the off-heap copy of the dictionary")
+    void should_translate_from_off_heap_copy() {
+      assertEquals("Male", service.translate("gender", "1"));
+      assertEquals("Female", service.translateValue("gender", 2));
+      assertNull(service.translate("gender", "3"));
+      assertEquals(
+          Map.of("1", "Active"), service.translateAll("status", Arrays.asList("1", "9", null)));
+
+      verify(provider, times(1)).get("gender");
+      assertEquals(4, service.estimatedWeight());
+      assertTrue(service.getOffHeapBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("Should call the provider through the loader and its executor")
+    void should_load_through_loader() {
+      AtomicInteger calls = new AtomicInteger();
+      TranslationLoader loader =
+          new TranslationLoader(
+              provider,
+              task -> {
+                calls.incrementAndGet();
+                task.run();
+              },
+              1);
+      when(provider.getAll(List.of("gender", "status")))
+          .thenReturn(Map.of("gender", Map.of("1", "Male")));
+      service = new OffHeapTranslationService(loader, null, Runnable::run);
+      service.setNegativeCache(new NegativeCache(Duration.ofMinutes(1), 100));
+
+      service.preloadAll(List.of("gender", "status"));
+      assertEquals("Male", service.translate("gender", "1"));
+      assertNull(service.translate("status", "1"));
+
+      assertEquals(1, calls.get());
+      verify(provider, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not write the snapshot of a dictionary invalidated before the write")
+    void should_discard_snapshot_writes_after_invalidate(@TempDir Path directory) {
+      List<Runnable> deferred = new ArrayList<>();
+      service = new OffHeapTranslationService(provider, directory, deferred::add);
+
+      assertEquals("Male", service.translate("gender", "1"));
+      assertEquals(1, deferred.size());
+      service.invalidate("gender");
+      deferred.forEach(Runnable::run);
+
+      assertFalse(Files.exists(directory.resolve("gender.dict")));
+      assertEquals(0, service.estimatedWeight());
+    }
+
+    @Test
+    @DisplayName("Should round-trip non-ASCII codes and translations")
+    void should_round_trip_unicode() {
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < 1000; i++) {
+        map.put("code" + i, "label" + i);
+      }
+      map.put("北京", "Beijing");
+      map.put("ZH", "中文");
+      map.put("emoji", "\uD83D\uDE00");
+      when(provider.get("region")).thenReturn(map);
+
+      for (int i = 0; i < 1000; i++) {
+        assertEquals("label" + i, service.translate("region", "code" + i));
+      }
+      assertEquals("Beijing", service.translate("region", "北京"));
+      assertEquals("中文", service.translate("region", "ZH"));
+      assertEquals("\uD83D\uDE00", service.translate("region", "emoji"));
+      assertNull(service.translate("region", "上海"));
+    }
+
+    @Test
+    @DisplayName("Should return null when provider returns null")
+    void should_return_null_when_provider_returns_null() {
+      when(provider.get("unknown")).thenReturn(null);
+      assertNull(service.translate("unknown", "1"));
+    }
+
+    @Test
+    @DisplayName("Should serve from the snapshot while the provider is unavailable")
+    void should_serve_from_snapshot(@TempDir Path directory) {
+      new OffHeapTranslationService(provider, directory, Runnable::run).translate("gender", "1");
+      assertTrue(Files.isRegularFile(directory.resolve("gender.dict")));
+
+      TranslationProvider failing = mock(TranslationProvider.class);
+      when(failing.getAll(anyCollection())).thenThrow(new IllegalStateException("down"));
+      OffHeapTranslationService restarted =
+          new OffHeapTranslationService(failing, directory, Runnable::run);
+
+      assertEquals("Male", restarted.translate("gender", "1"));
+      assertEquals("Female", restarted.translate("gender", "2"));
+      verify(failing, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Should replace the snapshot with the refreshed dictionary")
+    void should_refresh_snapshot(@TempDir Path directory) {
+      new OffHeapTranslationService(provider, directory, Runnable::run).translate("gender", "1");
+      when(provider.getAll(anyCollection())).thenReturn(Map.of("gender", Map.of("1", "Man")));
+
+      OffHeapTranslationService restarted =
+          new OffHeapTranslationService(provider, directory, Runnable::run);
+
+      assertEquals("Male", restarted.translate("gender", "1"));
+      assertEquals("Man", restarted.translate("gender", "1"));
+      assertNull(restarted.translate("gender", "2"));
+      assertNull(
+          new OffHeapTranslationService(mock(TranslationProvider.class), directory, Runnable::run)
+              .translate("gender", "2"));
+    }
+
+    @Test
+    @DisplayName("Should delete the snapshots of invalidated dictionaries")
+    void should_delete_snapshots_on_invalidate(@TempDir Path directory) {
+      service = new OffHeapTranslationService(provider, directory, Runnable::run);
+      service.translate("gender", "1");
+      service.translate("status", "1");
+
+      service.invalidate("gender");
+      assertFalse(Files.exists(directory.resolve("gender.dict")));
+      assertTrue(Files.exists(directory.resolve("status.dict")));
+
+      when(provider.get("gender")).thenReturn(Map.of("1", "Man"));
+      service.reload("gender");
+      assertEquals("Man", service.translate("gender", "1"));
+      assertTrue(Files.exists(directory.resolve("gender.dict")));
+
+      service.invalidateAll();
+      assertEquals(0, service.estimatedSize());
+      assertFalse(Files.exists(directory.resolve("gender.dict")));
+      assertFalse(Files.exists(directory.resolve("status.dict")));
+    }
+
+    @Test
+    @DisplayName("Should ignore a corrupt snapshot")
+    void should_ignore_corrupt_snapshot(@TempDir Path directory) throws IOException {
+      Files.write(directory.resolve("gender.dict"), new byte[] {1, 2, 3});
+      OffHeapTranslationService restarted =
+          new OffHeapTranslationService(provider, directory, Runnable::run);
+
+      assertEquals("Male", restarted.translate("gender", "1"));
+      verify(provider).get("gender");
+      assertTrue(Files.size(directory.resolve("gender.dict")) > 3);
+    }
+  }
+
+  @Nested
+  @DisplayName("TranslationLoader Tests")
+  class TranslationLoaderTests {
+
+    @Test
+    @DisplayName("Should share one provider call between concurrent loads of a key")
+    void should_share_concurrent_loads() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      when(provider.get("slow"))
+          .thenAnswer(
+              invocation -> {
+                release.await();
+                return Map.of("1", "Slow");
+              });
+      ExecutorService executor = Executors.newCachedThreadPool();
+      try {
+        TranslationLoader loader = new TranslationLoader(provider, executor, 0);
+        CompletableFuture<TranslationDictionary> first = loader.loadAsync("slow");
+        CompletableFuture<TranslationDictionary> second = loader.loadAsync("slow");
+        assertSame(first, second);
+
+        release.countDown();
+        assertEquals("Slow", loader.load("slow").get("1"));
+        assertEquals("Slow", first.get(5, TimeUnit.SECONDS).get("1"));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Should limit concurrent provider calls")
+    void should_limit_concurrent_provider_calls() throws Exception {
+      AtomicInteger running = new AtomicInteger();
+      AtomicInteger maxRunning = new AtomicInteger();
+      when(provider.get(anyString()))
+          .thenAnswer(
+              invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return Map.of("1", invocation.getArgument(0));
+              });
+      ExecutorService executor = Executors.newCachedThreadPool();
+      try {
+        TranslationLoader loader = new TranslationLoader(provider, executor, 2);
+        List<CompletableFuture<TranslationDictionary>> loads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+          loads.add(loader.loadAsync("key" + i));
+        }
+        for (int i = 0; i < 8; i++) {
+          assertEquals("key" + i, loads.get(i).get(5, TimeUnit.SECONDS).get("1"));
+        }
+        assertTrue(maxRunning.get() <= 2);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Should load several keys with one bulk provider call")
+    void should_load_all_in_one_call() {
+      when(provider.getAll(anyCollection())).thenReturn(Map.of("gender", Map.of("1", "Male")));
+      Map<String, TranslationDictionary> loaded = new ConcurrentHashMap<>();
+
+      new TranslationLoader(provider).loadAll(List.of("gender", "status"), loaded::put);
+
+      assertEquals(List.of("gender"), List.copyOf(loaded.keySet()));
+      verify(provider, times(1)).getAll(anyCollection());
+      verify(provider, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Should hand the provider map to the converter without a copy")
+    void should_convert_provider_map_without_copy() {
+      Map<String, String> map = Map.of("1", "Male");
+      when(provider.get("gender")).thenReturn(map);
+      Function<Map<String, String>, Map<String, String>> converter = loaded -> loaded;
+      List<Map<String, String>> stored = new ArrayList<>();
+
+      Map<String, String> loaded =
+          new TranslationLoader(provider).load("gender", converter, stored::add);
+
+      assertSame(map, loaded);
+      assertEquals(List.of(map), stored);
+    }
+
+    @Test
+    @DisplayName("Should report provider calls through an observed provider")
+    void should_report_provider_calls() {
+      TranslationListener listener = mock(TranslationListener.class);
+      when(provider.get("broken")).thenThrow(new IllegalStateException("down"));
+      TranslationProvider observed = TranslationListener.observe(provider, listener);
+
+      observed.get("gender");
+      assertThrows(IllegalStateException.class, () -> observed.get("broken"));
+
+      verify(listener).onProviderCall(eq("gender"), anyLong(), eq(true));
+      verify(listener).onProviderCall(eq("broken"), anyLong(), eq(false));
+      assertSame(provider, TranslationListener.observe(provider, TranslationListener.NOOP));
+    }
+
+    @Test
+    @DisplayName("Should propagate provider failures and allow a new load")
+    void should_propagate_failures() {
+      when(provider.get("broken")).thenThrow(new IllegalStateException("down"));
+      TranslationLoader loader = new TranslationLoader(provider);
+
+      assertThrows(IllegalStateException.class, () -> loader.load("broken"));
+      assertThrows(IllegalStateException.class, () -> loader.load("broken"));
+      verify(provider, times(2)).get("broken");
+    }
   }
 
   @Nested
@@ -231,5 +829,19 @@ class TranslationServiceTest {
       assertEquals(defaultService.translate("status", "1"), simpleService.translate("status", "1"));
       assertEquals(defaultService.translate("gender", "0"), simpleService.translate("gender", "0"));
     }
+
+    @Test
+    @DisplayName("Default translateAll should delegate to doTranslate per distinct value")
+    void default_translate_all_should_delegate_per_distinct_value() {
+      TranslationService service = spy(TranslationService.class);
+      when(service.doTranslate("gender", "1")).thenReturn("Male");
+
+      Map<String, String> result =
+          service.translateAll("gender", Arrays.asList("1", "1", "2", null));
+
+      assertEquals(Map.of("1", "Male"), result);
+      verify(service, times(1)).doTranslate("gender", "1");
+      verify(service, times(1)).doTranslate("gender", "2");
+    }
   }
 }
@@ -17,14 +17,23 @@
 package io.github.oiltea.trans4j.jackson;
 
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import io.github.oiltea.trans4j.core.BeanTranslator;
 import io.github.oiltea.trans4j.core.Translate;
 import io.github.oiltea.trans4j.core.TranslationService;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,28 +46,116 @@ public class Jackson2BeanSerializerModifier extends BeanSerializerModifier {
 
   private final TranslationService translationService;
 
+  private final Map<Class<?>, List<Jackson2PropertyWriter>> translatedProperties =
+      new ConcurrentHashMap<>();
+
   public Jackson2BeanSerializerModifier(TranslationService translationService) {
     this.translationService = translationService;
   }
 
+  /**
+   * Wraps the {@link Translate} properties of the bean in translating writers.
+   *
+   * <p>When a {@link BeanTranslator} was generated for the bean class, the writers read through it;
+   * otherwise the source properties are looked up among the Jackson properties and read
+   * reflectively.
+   */
   @Override
   public List<BeanPropertyWriter> changeProperties(
       SerializationConfig config,
       BeanDescription beanDesc,
       List<BeanPropertyWriter> beanProperties) {
-    Map<String, BeanPropertyWriter> map =
-        beanProperties.stream().collect(Collectors.toMap(BeanPropertyWriter::getName, w -> w));
+    @SuppressWarnings("unchecked")
+    BeanTranslator<Object> translator =
+        BeanTranslator.find((Class<Object>) beanDesc.getBeanClass());
+    Map<String, String> fieldNames = new HashMap<>();
+    if (translator != null) {
+      for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+        fieldNames.put(property.getName(), property.getInternalName());
+      }
+    }
+    Map<String, BeanPropertyWriter> map = null;
 
     List<BeanPropertyWriter> writers = new ArrayList<>();
+    List<Jackson2PropertyWriter> translated = new ArrayList<>();
     for (BeanPropertyWriter writer : beanProperties) {
       Translate anno = writer.getAnnotation(Translate.class);
       if (anno != null) {
-        BeanPropertyWriter fromWriter = map.get(anno.from());
-        writers.add(new Jackson2PropertyWriter(translationService, writer, fromWriter, anno));
+        int index =
+            translator == null
+                ? -1
+                : translator.indexOf(fieldNames.getOrDefault(writer.getName(), writer.getName()));
+        Jackson2PropertyWriter translatedWriter;
+        if (index >= 0) {
+          translatedWriter =
+              new Jackson2PropertyWriter(translationService, writer, translator, index);
+        } else {
+          if (map == null) {
+            map =
+                beanProperties.stream()
+                    .collect(Collectors.toMap(BeanPropertyWriter::getName, w -> w));
+          }
+          BeanPropertyWriter fromWriter = map.get(anno.from());
+          translatedWriter =
+              new Jackson2PropertyWriter(translationService, writer, fromWriter, anno);
+        }
+        writers.add(translatedWriter);
+        translated.add(translatedWriter);
       } else {
         writers.add(writer);
       }
     }
+    translatedProperties.put(beanDesc.getBeanClass(), translated);
+    return writers;
+  }
+
+  @Override
+  public JsonSerializer<?> modifyCollectionSerializer(
+      SerializationConfig config,
+      CollectionType valueType,
+      BeanDescription beanDesc,
+      JsonSerializer<?> serializer) {
+    return wrap(valueType.getContentType().getRawClass(), serializer);
+  }
+
+  @Override
+  public JsonSerializer<?> modifyArraySerializer(
+      SerializationConfig config,
+      ArrayType valueType,
+      BeanDescription beanDesc,
+      JsonSerializer<?> serializer) {
+    return wrap(valueType.getContentType().getRawClass(), serializer);
+  }
+
+  /**
+   * Returns the translated properties of the given bean type.
+   *
+   * <p>Bean types that have not been serialized yet are introspected through the provider first.
+   *
+   * @param type the runtime type of a collection element
+   * @param prov the provider of the current serialization
+   * @return the translated property writers, empty if the type has none
+   * @throws JsonMappingException if no serializer can be built for the type
+   */
+  List<Jackson2PropertyWriter> getTranslatedProperties(Class<?> type, SerializerProvider prov)
+      throws JsonMappingException {
+    List<Jackson2PropertyWriter> writers = translatedProperties.get(type);
+    if (writers == null) {
+      prov.findValueSerializer(type);
+      writers = translatedProperties.computeIfAbsent(type, t -> List.of());
+    }
     return writers;
   }
+
+  TranslationService getTranslationService() {
+    return translationService;
+  }
+
+  @SuppressWarnings("unchecked")
+  private JsonSerializer<?> wrap(Class<?> contentType, JsonSerializer<?> serializer) {
+    if (!TranslationPrefetch.mayContainBeans(contentType)) {
+      return serializer;
+    }
+    return new Jackson2CollectionSerializer(this, (JsonSerializer<Object>) serializer);
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Collection and array serializer that resolves the translations of all elements in one pass.
+ *
+ * <p>Before delegating to the original serializer, the distinct {@code (key, code)} pairs of the
+ * direct elements are collected and resolved in one batch per key. The resulting {@link
+ * TranslationPrefetch} is shared with the property writers for the rest of the serialization, so
+ * large lists cost one lookup per translation key instead of one per element. Nothing is prefetched
+ * while {@link TranslationJackson2Module#RESOLVED_ATTRIBUTE} is set.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class Jackson2CollectionSerializer extends JsonSerializer<Object>
+    implements ContextualSerializer, ResolvableSerializer {
+
+  private final Jackson2BeanSerializerModifier modifier;
+  private final JsonSerializer<Object> delegate;
+
+  Jackson2CollectionSerializer(
+      Jackson2BeanSerializerModifier modifier, JsonSerializer<Object> delegate) {
+    this.modifier = modifier;
+    this.delegate = delegate;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+      throws JsonMappingException {
+    if (delegate instanceof ContextualSerializer contextual) {
+      JsonSerializer<?> serializer = contextual.createContextual(prov, property);
+      if (serializer != delegate) {
+        return new Jackson2CollectionSerializer(modifier, (JsonSerializer<Object>) serializer);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public void resolve(SerializerProvider prov) throws JsonMappingException {
+    if (delegate instanceof ResolvableSerializer resolvable) {
+      resolvable.resolve(prov);
+    }
+  }
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializerProvider prov)
+      throws IOException {
+    serializeWithPrefetch(value, gen, prov, null);
+  }
+
+  @Override
+  public void serializeWithType(
+      Object value, JsonGenerator gen, SerializerProvider prov, TypeSerializer typeSer)
+      throws IOException {
+    serializeWithPrefetch(value, gen, prov, typeSer);
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider prov, Object value) {
+    return delegate.isEmpty(prov, value);
+  }
+
+  @Override
+  public boolean usesObjectId() {
+    return delegate.usesObjectId();
+  }
+
+  @Override
+  public Class<Object> handledType() {
+    return delegate.handledType();
+  }
+
+  @Override
+  public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type)
+      throws JsonMappingException {
+    delegate.acceptJsonFormatVisitor(visitor, type);
+  }
+
+  private void serializeWithPrefetch(
+      Object value, JsonGenerator gen, SerializerProvider prov, TypeSerializer typeSer)
+      throws IOException {
+    if (prov.getAttribute(TranslationJackson2Module.RESOLVED_ATTRIBUTE) == Boolean.TRUE) {
+      doSerialize(value, gen, prov, typeSer);
+      return;
+    }
+    TranslationPrefetch outer =
+        (TranslationPrefetch) prov.getAttribute(TranslationPrefetch.ATTRIBUTE);
+    TranslationPrefetch prefetch = outer == null ? new TranslationPrefetch() : outer;
+    prefetch(value, prov, prefetch);
+    if (outer != null) {
+      doSerialize(value, gen, prov, typeSer);
+      return;
+    }
+    prov.setAttribute(TranslationPrefetch.ATTRIBUTE, prefetch);
+    try {
+      doSerialize(value, gen, prov, typeSer);
+    } finally {
+      prov.setAttribute(TranslationPrefetch.ATTRIBUTE, null);
+    }
+  }
+
+  private void doSerialize(
+      Object value, JsonGenerator gen, SerializerProvider prov, TypeSerializer typeSer)
+      throws IOException {
+    if (typeSer == null) {
+      delegate.serialize(value, gen, prov);
+    } else {
+      delegate.serializeWithType(value, gen, prov, typeSer);
+    }
+  }
+
+  private void prefetch(Object value, SerializerProvider prov, TranslationPrefetch prefetch)
+      throws JsonMappingException {
+    Iterable<?> elements;
+    if (value instanceof Iterable<?> iterable) {
+      elements = iterable;
+    } else if (value instanceof Object[] array) {
+      elements = Arrays.asList(array);
+    } else {
+      return;
+    }
+    for (Object element : elements) {
+      if (element == null) {
+        continue;
+      }
+      for (Jackson2PropertyWriter writer :
+          modifier.getTranslatedProperties(element.getClass(), prov)) {
+        try {
+          prefetch.add(writer.getKey(), writer.getSource(element), writer.getDelimiter());
+        } catch (Exception e) {
+          throw JsonMappingException.from(
+              prov, "Failed to read source of property '" + writer.getName() + "'", e);
+        }
+      }
+    }
+    prefetch.resolve(
+        TranslationPrefetch.localize(
+            modifier.getTranslationService(),
+            prov.getAttribute(TranslationJackson2Module.LOCALE_ATTRIBUTE)));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.oiltea.trans4j.core.Resolved;
+import java.io.IOException;
+
+/**
+ * Serializer writing a {@link Resolved} value as the wrapped value, with {@link
+ * TranslationJackson2Module#RESOLVED_ATTRIBUTE} set so that its annotated properties are written as
+ * they are.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@SuppressWarnings("rawtypes")
+final class Jackson2ResolvedSerializer extends StdSerializer<Resolved> {
+
+  Jackson2ResolvedSerializer() {
+    super(Resolved.class);
+  }
+
+  @Override
+  public void serialize(Resolved resolved, JsonGenerator gen, SerializerProvider prov)
+      throws IOException {
+    Object outer = prov.getAttribute(TranslationJackson2Module.RESOLVED_ATTRIBUTE);
+    prov.setAttribute(TranslationJackson2Module.RESOLVED_ATTRIBUTE, Boolean.TRUE);
+    try {
+      prov.defaultSerializeValue(resolved.value(), gen);
+    } finally {
+      prov.setAttribute(TranslationJackson2Module.RESOLVED_ATTRIBUTE, outer);
+    }
+  }
+}
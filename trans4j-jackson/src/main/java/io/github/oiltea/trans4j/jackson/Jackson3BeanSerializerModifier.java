@@ -16,16 +16,24 @@
 
 package io.github.oiltea.trans4j.jackson;
 
+import io.github.oiltea.trans4j.core.BeanTranslator;
 import io.github.oiltea.trans4j.core.Translate;
 import io.github.oiltea.trans4j.core.TranslationService;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import tools.jackson.databind.BeanDescription.Supplier;
 import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
 import tools.jackson.databind.ser.BeanPropertyWriter;
 import tools.jackson.databind.ser.ValueSerializerModifier;
+import tools.jackson.databind.type.ArrayType;
+import tools.jackson.databind.type.CollectionType;
 
 /**
  * Custom Jackson serializer modifier that handles translation of annotated properties.
@@ -37,26 +45,111 @@ public class Jackson3BeanSerializerModifier extends ValueSerializerModifier {
 
   private final TranslationService translationService;
 
+  private final Map<Class<?>, List<Jackson3PropertyWriter>> translatedProperties =
+      new ConcurrentHashMap<>();
+
   public Jackson3BeanSerializerModifier(TranslationService translationService) {
     this.translationService = translationService;
   }
 
+  /**
+   * Wraps the {@link Translate} properties of the bean in translating writers.
+   *
+   * <p>When a {@link BeanTranslator} was generated for the bean class, the writers read through it;
+   * otherwise the source properties are looked up among the Jackson properties and read
+   * reflectively.
+   */
   @Override
   public List<BeanPropertyWriter> changeProperties(
       SerializationConfig config, Supplier beanDesc, List<BeanPropertyWriter> beanProperties) {
-    Map<String, BeanPropertyWriter> map =
-        beanProperties.stream().collect(Collectors.toMap(BeanPropertyWriter::getName, w -> w));
+    @SuppressWarnings("unchecked")
+    BeanTranslator<Object> translator =
+        BeanTranslator.find((Class<Object>) beanDesc.getBeanClass());
+    Map<String, String> fieldNames = new HashMap<>();
+    if (translator != null) {
+      for (BeanPropertyDefinition property : beanDesc.get().findProperties()) {
+        fieldNames.put(property.getName(), property.getInternalName());
+      }
+    }
+    Map<String, BeanPropertyWriter> map = null;
 
     List<BeanPropertyWriter> writers = new ArrayList<>();
+    List<Jackson3PropertyWriter> translated = new ArrayList<>();
     for (BeanPropertyWriter writer : beanProperties) {
       Translate anno = writer.findAnnotation(Translate.class);
       if (anno == null) {
         writers.add(writer);
+        continue;
+      }
+      int index =
+          translator == null
+              ? -1
+              : translator.indexOf(fieldNames.getOrDefault(writer.getName(), writer.getName()));
+      Jackson3PropertyWriter translatedWriter;
+      if (index >= 0) {
+        translatedWriter =
+            new Jackson3PropertyWriter(translationService, writer, translator, index);
       } else {
+        if (map == null) {
+          map =
+              beanProperties.stream()
+                  .collect(Collectors.toMap(BeanPropertyWriter::getName, w -> w));
+        }
         BeanPropertyWriter fromWriter = map.get(anno.from());
-        writers.add(new Jackson3PropertyWriter(translationService, writer, fromWriter, anno));
+        translatedWriter = new Jackson3PropertyWriter(translationService, writer, fromWriter, anno);
       }
+      writers.add(translatedWriter);
+      translated.add(translatedWriter);
     }
+    translatedProperties.put(beanDesc.getBeanClass(), translated);
     return writers;
   }
+
+  @Override
+  public ValueSerializer<?> modifyCollectionSerializer(
+      SerializationConfig config,
+      CollectionType valueType,
+      Supplier beanDesc,
+      ValueSerializer<?> serializer) {
+    return wrap(valueType.getContentType().getRawClass(), serializer);
+  }
+
+  @Override
+  public ValueSerializer<?> modifyArraySerializer(
+      SerializationConfig config,
+      ArrayType valueType,
+      Supplier beanDesc,
+      ValueSerializer<?> serializer) {
+    return wrap(valueType.getContentType().getRawClass(), serializer);
+  }
+
+  /**
+   * Returns the translated properties of the given bean type.
+   *
+   * <p>Bean types that have not been serialized yet are introspected through the context first.
+   *
+   * @param type the runtime type of a collection element
+   * @param ctxt the context of the current serialization
+   * @return the translated property writers, empty if the type has none
+   */
+  List<Jackson3PropertyWriter> getTranslatedProperties(Class<?> type, SerializationContext ctxt) {
+    List<Jackson3PropertyWriter> writers = translatedProperties.get(type);
+    if (writers == null) {
+      ctxt.findValueSerializer(type);
+      writers = translatedProperties.computeIfAbsent(type, t -> List.of());
+    }
+    return writers;
+  }
+
+  TranslationService getTranslationService() {
+    return translationService;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ValueSerializer<?> wrap(Class<?> contentType, ValueSerializer<?> serializer) {
+    if (!TranslationPrefetch.mayContainBeans(contentType)) {
+      return serializer;
+    }
+    return new Jackson3CollectionSerializer(this, (ValueSerializer<Object>) serializer);
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.jackson;
+
+import java.util.Arrays;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Collection and array serializer that resolves the translations of all elements in one pass.
+ *
+ * <p>Before delegating to the original serializer, the distinct {@code (key, code)} pairs of the
+ * direct elements are collected and resolved in one batch per key. The resulting {@link
+ * TranslationPrefetch} is shared with the property writers for the rest of the serialization, so
+ * large lists cost one lookup per translation key instead of one per element. Nothing is prefetched
+ * while {@link TranslationJackson3Module#RESOLVED_ATTRIBUTE} is set.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class Jackson3CollectionSerializer extends ValueSerializer<Object> {
+
+  private final Jackson3BeanSerializerModifier modifier;
+  private final ValueSerializer<Object> delegate;
+
+  Jackson3CollectionSerializer(
+      Jackson3BeanSerializerModifier modifier, ValueSerializer<Object> delegate) {
+    this.modifier = modifier;
+    this.delegate = delegate;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+    ValueSerializer<?> serializer = delegate.createContextual(ctxt, property);
+    if (serializer != delegate) {
+      return new Jackson3CollectionSerializer(modifier, (ValueSerializer<Object>) serializer);
+    }
+    return this;
+  }
+
+  @Override
+  public void resolve(SerializationContext ctxt) {
+    delegate.resolve(ctxt);
+  }
+
+  @Override
+  public void serialize(Object value, JsonGenerator gen, SerializationContext ctxt) {
+    serializeWithPrefetch(value, gen, ctxt, null);
+  }
+
+  @Override
+  public void serializeWithType(
+      Object value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+    serializeWithPrefetch(value, gen, ctxt, typeSer);
+  }
+
+  @Override
+  public boolean isEmpty(SerializationContext ctxt, Object value) {
+    return delegate.isEmpty(ctxt, value);
+  }
+
+  @Override
+  public boolean usesObjectId() {
+    return delegate.usesObjectId();
+  }
+
+  @Override
+  public Class<?> handledType() {
+    return delegate.handledType();
+  }
+
+  @Override
+  public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) {
+    delegate.acceptJsonFormatVisitor(visitor, type);
+  }
+
+  private void serializeWithPrefetch(
+      Object value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+    if (ctxt.getAttribute(TranslationJackson3Module.RESOLVED_ATTRIBUTE) == Boolean.TRUE) {
+      doSerialize(value, gen, ctxt, typeSer);
+      return;
+    }
+    TranslationPrefetch outer =
+        (TranslationPrefetch) ctxt.getAttribute(TranslationPrefetch.ATTRIBUTE);
+    TranslationPrefetch prefetch = outer == null ? new TranslationPrefetch() : outer;
+    prefetch(value, ctxt, prefetch);
+    if (outer != null) {
+      doSerialize(value, gen, ctxt, typeSer);
+      return;
+    }
+    ctxt.setAttribute(TranslationPrefetch.ATTRIBUTE, prefetch);
+    try {
+      doSerialize(value, gen, ctxt, typeSer);
+    } finally {
+      ctxt.setAttribute(TranslationPrefetch.ATTRIBUTE, null);
+    }
+  }
+
+  private void doSerialize(
+      Object value, JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+    if (typeSer == null) {
+      delegate.serialize(value, gen, ctxt);
+    } else {
+      delegate.serializeWithType(value, gen, ctxt, typeSer);
+    }
+  }
+
+  private void prefetch(Object value, SerializationContext ctxt, TranslationPrefetch prefetch) {
+    Iterable<?> elements;
+    if (value instanceof Iterable<?> iterable) {
+      elements = iterable;
+    } else if (value instanceof Object[] array) {
+      elements = Arrays.asList(array);
+    } else {
+      return;
+    }
+    for (Object element : elements) {
+      if (element == null) {
+        continue;
+      }
+      for (Jackson3PropertyWriter writer :
+          modifier.getTranslatedProperties(element.getClass(), ctxt)) {
+        try {
+          prefetch.add(writer.getKey(), writer.getSource(element), writer.getDelimiter());
+        } catch (Exception e) {
+          throw DatabindException.from(
+              ctxt, "Failed to read source of property '" + writer.getName() + "'", e);
+        }
+      }
+    }
+    prefetch.resolve(
+        TranslationPrefetch.localize(
+            modifier.getTranslationService(),
+            ctxt.getAttribute(TranslationJackson3Module.LOCALE_ATTRIBUTE)));
+  }
+}
@@ -16,9 +16,9 @@
 
 package io.github.oiltea.trans4j.jackson;
 
+import io.github.oiltea.trans4j.core.BeanTranslator;
 import io.github.oiltea.trans4j.core.Translate;
 import io.github.oiltea.trans4j.core.TranslationService;
-import java.util.Objects;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ser.BeanPropertyWriter;
@@ -26,6 +26,17 @@ import tools.jackson.databind.ser.BeanPropertyWriter;
 /**
  * A custom Jackson property writer that translates property values during JSON serialization.
  *
+ * <p>Everything the annotation describes is resolved once, when the writer is built: the
+ * translation key and the value written for missing translations are kept in final fields, so
+ * serializing a property neither touches the annotation proxy nor applies the null policy handler.
+ *
+ * <p>While {@link TranslationJackson3Module#RESOLVED_ATTRIBUTE} is set, for example within a value
+ * returned by {@link io.github.oiltea.trans4j.core.ReactiveTranslationResolver}, properties are
+ * written as they are. Otherwise they are always translated.
+ *
+ * <p>When the bean class has a {@link BeanTranslator} generated by {@code trans4j-processor}, the
+ * property and its source are read through it with direct getter calls instead of reflection.
+ *
  * @author Oiltea
  * @since 1.0.0
  */
@@ -33,7 +44,11 @@ public class Jackson3PropertyWriter extends BeanPropertyWriter {
 
   private final TranslationService translationService;
   private final BeanPropertyWriter fromWriter;
-  private final Translate translate;
+  private final BeanTranslator<Object> translator;
+  private final int index;
+  private final String key;
+  private final String nullValue;
+  private final String delimiter;
 
   protected Jackson3PropertyWriter(
       TranslationService translationService,
@@ -43,19 +58,105 @@ public class Jackson3PropertyWriter extends BeanPropertyWriter {
     super(writer);
     this.translationService = translationService;
     this.fromWriter = fromWriter;
-    this.translate = translate;
+    this.translator = null;
+    this.index = -1;
+    this.key = translate.key();
+    this.nullValue = translate.nullPolicy().getHandler().apply(null);
+    this.delimiter = translate.delimiter();
+  }
+
+  /**
+   * Creates a writer reading the property and its source through a generated translator.
+   *
+   * @param translationService the translation service
+   * @param writer the original writer of the property
+   * @param translator the translator generated for the bean class
+   * @param index the index of the property in the translator
+   * @since 1.1.0
+   */
+  protected Jackson3PropertyWriter(
+      TranslationService translationService,
+      BeanPropertyWriter writer,
+      BeanTranslator<Object> translator,
+      int index) {
+    super(writer);
+    this.translationService = translationService;
+    this.fromWriter = null;
+    this.translator = translator;
+    this.index = index;
+    BeanTranslator.Property property = translator.properties().get(index);
+    this.key = property.key();
+    this.nullValue = property.nullValue();
+    this.delimiter = property.delimiter();
   }
 
   @Override
   public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext ctxt)
       throws Exception {
-    String code = Objects.toString(fromWriter.get(bean), null);
-    String value = translationService.translate(translate.key(), code);
-    String finalValue = translate.nullPolicy().getHandler().apply(value);
-    if (finalValue == null) {
-      gen.writeNullProperty(getName());
+    String value =
+        ctxt.getAttribute(TranslationJackson3Module.RESOLVED_ATTRIBUTE) == Boolean.TRUE
+            ? getResolved(bean)
+            : translate(bean, ctxt);
+    if (value == null) {
+      value = nullValue;
+    }
+    gen.writeName(_name);
+    if (value == null) {
+      gen.writeNull();
     } else {
-      gen.writeStringProperty(getName(), finalValue);
+      gen.writeString(value);
     }
   }
+
+  /**
+   * Returns the translation key of this property.
+   *
+   * @return the translation key
+   */
+  String getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the delimiter of multi-code sources of this property.
+   *
+   * @return the delimiter, empty when string sources are kept whole
+   */
+  String getDelimiter() {
+    return delimiter;
+  }
+
+  private String translate(Object bean, SerializationContext ctxt) throws Exception {
+    Object source = getSource(bean);
+    if (source == null) {
+      return null;
+    }
+    TranslationService service =
+        TranslationPrefetch.localize(
+            translationService, ctxt.getAttribute(TranslationJackson3Module.LOCALE_ATTRIBUTE));
+    TranslationPrefetch prefetch =
+        (TranslationPrefetch) ctxt.getAttribute(TranslationPrefetch.ATTRIBUTE);
+    return prefetch == null
+        ? service.translateValue(key, source, delimiter)
+        : prefetch.translate(service, key, source, delimiter);
+  }
+
+  private String getResolved(Object bean) throws Exception {
+    if (translator != null) {
+      return translator.getTarget(bean, index);
+    }
+    Object value = get(bean);
+    return value == null ? null : value.toString();
+  }
+
+  /**
+   * Reads the source value of this property from the given bean.
+   *
+   * @param bean the bean being serialized
+   * @return the source value, or null if there is none
+   * @throws Exception if the source property cannot be read
+   */
+  Object getSource(Object bean) throws Exception {
+    return translator == null ? fromWriter.get(bean) : translator.getSource(bean, index);
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.jackson;
+
+import io.github.oiltea.trans4j.core.Resolved;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializer writing a {@link Resolved} value as the wrapped value, with {@link
+ * TranslationJackson3Module#RESOLVED_ATTRIBUTE} set so that its annotated properties are written as
+ * they are.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@SuppressWarnings("rawtypes")
+final class Jackson3ResolvedSerializer extends StdSerializer<Resolved> {
+
+  Jackson3ResolvedSerializer() {
+    super(Resolved.class);
+  }
+
+  @Override
+  public void serialize(Resolved resolved, JsonGenerator gen, SerializationContext ctxt) {
+    Object outer = ctxt.getAttribute(TranslationJackson3Module.RESOLVED_ATTRIBUTE);
+    ctxt.setAttribute(TranslationJackson3Module.RESOLVED_ATTRIBUTE, Boolean.TRUE);
+    try {
+      ctxt.writeValue(gen, resolved.value());
+    } finally {
+      ctxt.setAttribute(TranslationJackson3Module.RESOLVED_ATTRIBUTE, outer);
+    }
+  }
+}
@@ -18,7 +18,9 @@ package io.github.oiltea.trans4j.jackson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.oiltea.trans4j.core.Resolved;
 import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.Locale;
 
 /**
  * Jackson 2 module for integrating translation functionality into JSON serialization.
@@ -35,10 +37,30 @@ import io.github.oiltea.trans4j.core.TranslationService;
  */
 public class TranslationJackson2Module extends SimpleModule {
 
+  /**
+   * Serialization attribute selecting the {@link Locale} of the translations, for example {@code
+   * mapper.writer().withAttribute(LOCALE_ATTRIBUTE, Locale.FRENCH)}. When it is not set, the
+   * translation service resolves the locale itself.
+   *
+   * @since 1.1.0
+   */
+  public static final Object LOCALE_ATTRIBUTE = Locale.class;
+
+  /**
+   * Serialization attribute that, when {@link Boolean#TRUE}, writes the annotated properties as
+   * they are instead of translating them. It is set while a {@link Resolved} value returned by
+   * {@link io.github.oiltea.trans4j.core.ReactiveTranslationResolver} is written, and may be set on
+   * a writer whose values were filled by other means.
+   *
+   * @since 1.1.0
+   */
+  public static final Object RESOLVED_ATTRIBUTE = Resolved.class;
+
   private final TranslationService translationService;
 
   public TranslationJackson2Module(TranslationService translationService) {
     this.translationService = translationService;
+    addSerializer(Resolved.class, new Jackson2ResolvedSerializer());
   }
 
   @Override
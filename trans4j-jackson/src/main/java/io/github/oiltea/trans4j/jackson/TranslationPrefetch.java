@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.jackson;
+
+import io.github.oiltea.trans4j.core.TranslationCodes;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-request lookup table of translations resolved ahead of serialization.
+ *
+ * <p>Collection serializers collect the distinct {@code (key, code)} pairs of their elements,
+ * resolve them with one {@link TranslationService#translateAll} call per key, and expose the table
+ * to the property writers through a serialization attribute. Codes that were resolved without a
+ * translation are remembered as well, so the writers never fall back to the service for them.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+final class TranslationPrefetch {
+
+  /** Attribute key under which the prefetch of the current serialization is stored. */
+  static final Object ATTRIBUTE = TranslationPrefetch.class;
+
+  /**
+   * Returns the service translating for the locale of the current serialization.
+   *
+   * @param service the configured translation service
+   * @param locale the value of the locale attribute, ignored unless it is a {@link Locale}
+   * @return the service bound to the locale, or the given service when no locale is set
+   */
+  static TranslationService localize(TranslationService service, Object locale) {
+    return locale instanceof Locale l ? service.forLocale(l) : service;
+  }
+
+  private final Map<String, Set<String>> pending = new HashMap<>();
+
+  private final Map<String, Map<String, String>> resolved = new HashMap<>();
+
+  /**
+   * Checks whether elements of the given type may carry {@code @Translate} properties.
+   *
+   * @param type the declared content type of a collection or array
+   * @return false for scalar types that are never serialized as beans
+   */
+  static boolean mayContainBeans(Class<?> type) {
+    return !(type.isPrimitive()
+        || type.isEnum()
+        || type == String.class
+        || type == Boolean.class
+        || type == Character.class
+        || Number.class.isAssignableFrom(type));
+  }
+
+  /**
+   * Registers a code to be resolved by the next {@link #resolve(TranslationService)} call.
+   *
+   * @param key the translation key
+   * @param code the source code, ignored when null
+   */
+  void add(String key, String code) {
+    if (code == null) {
+      return;
+    }
+    Map<String, String> translations = resolved.get(key);
+    if (translations == null || !translations.containsKey(code)) {
+      pending.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(code);
+    }
+  }
+
+  /**
+   * Registers the codes of a source value to be resolved by the next {@link
+   * #resolve(TranslationService)} call.
+   *
+   * @param key the translation key
+   * @param source the source value, ignored when null
+   * @param delimiter the delimiter of multi-code sources
+   */
+  void add(String key, Object source, String delimiter) {
+    if (!TranslationCodes.isMultiple(source, delimiter)) {
+      add(key, TranslationCodes.toCode(source));
+      return;
+    }
+    for (String code : TranslationCodes.toCodes(source, delimiter)) {
+      add(key, code);
+    }
+  }
+
+  /**
+   * Resolves all pending codes with one batch lookup per key.
+   *
+   * @param translationService the service used for the batch lookups
+   */
+  void resolve(TranslationService translationService) {
+    for (Map.Entry<String, Set<String>> entry : pending.entrySet()) {
+      Map<String, String> result =
+          translationService.translateAll(entry.getKey(), entry.getValue());
+      Map<String, String> translations =
+          resolved.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+      for (String code : entry.getValue()) {
+        translations.put(code, result.get(code));
+      }
+    }
+    pending.clear();
+  }
+
+  /**
+   * Translates a code from the table, falling back to the service for codes not resolved yet.
+   *
+   * @param translationService the service used for codes missing from the table
+   * @param key the translation key
+   * @param code the source code, may be null
+   * @return the translation, or null if there is none
+   */
+  String translate(TranslationService translationService, String key, String code) {
+    if (code == null) {
+      return null;
+    }
+    Map<String, String> translations = resolved.get(key);
+    if (translations != null && translations.containsKey(code)) {
+      return translations.get(code);
+    }
+    return translationService.translate(key, code);
+  }
+
+  /**
+   * Translates a source value that may hold several codes from the table, falling back to the
+   * service unless all of its codes were resolved.
+   *
+   * @param translationService the service used for codes missing from the table
+   * @param key the translation key
+   * @param source the source value, may be null
+   * @param delimiter the delimiter of multi-code sources
+   * @return the translation, or null if there is none
+   */
+  String translate(
+      TranslationService translationService, String key, Object source, String delimiter) {
+    if (!TranslationCodes.isMultiple(source, delimiter)) {
+      return translate(translationService, key, TranslationCodes.toCode(source));
+    }
+    List<String> codes = TranslationCodes.toCodes(source, delimiter);
+    Map<String, String> translations = resolved.get(key);
+    if (translations != null && translations.keySet().containsAll(codes)) {
+      return TranslationCodes.join(codes, translations, delimiter);
+    }
+    return translationService.translateValue(key, source, delimiter);
+  }
+}
@@ -20,8 +20,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import io.github.oiltea.trans4j.core.BeanTranslator;
 import io.github.oiltea.trans4j.core.DefaultTranslationService;
+import io.github.oiltea.trans4j.core.Resolved;
 import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -96,4 +101,144 @@ class TranslationJackson3ModuleTest {
     verify(provider, times(1)).get("gender");
     verify(provider, times(1)).get("status");
   }
+
+  @Test
+  @DisplayName("Values of beans that were not resolved are translated again")
+  void should_translate_preset_values() throws Exception {
+    UserDto userDto = user("1", "1");
+    userDto.setGenderText("Stale");
+
+    JsonNode jsonNode = mapper.readTree(mapper.writeValueAsString(userDto));
+
+    assertEquals("Male", jsonNode.get("genderText").asString());
+    verify(provider, times(1)).get("gender");
+  }
+
+  @Test
+  @DisplayName("Values of resolved beans are written as is")
+  void should_write_resolved_values_as_is() throws Exception {
+    UserDto userDto = user("1", "1");
+    userDto.setGenderText("Resolved");
+
+    JsonNode jsonNode =
+        mapper.readTree(mapper.writeValueAsString(new Resolved<>(List.of(userDto))));
+
+    assertEquals("Resolved", jsonNode.get(0).get("genderText").asText());
+    assertEquals("", jsonNode.get(0).get("statusText").asText());
+    verify(provider, never()).get(anyString());
+
+    jsonNode = mapper.readTree(mapper.writeValueAsString(userDto));
+    assertEquals("Male", jsonNode.get("genderText").asText());
+  }
+
+  @Test
+  @DisplayName("List elements are translated with one provider call per key")
+  void should_prefetch_translations_for_list() {
+    List<UserDto> users = List.of(user("1", "1"), user("2", "2"), user("1", null));
+
+    String json = mapper.writeValueAsString(users);
+    JsonNode jsonNode = mapper.readTree(json);
+
+    assertEquals("Male", jsonNode.get(0).get("genderText").asString());
+    assertEquals("Female", jsonNode.get(1).get("genderText").asString());
+    assertEquals("Inactive", jsonNode.get(1).get("statusText").asString());
+    assertEquals("", jsonNode.get(2).get("statusText").asString());
+    verify(provider, times(1)).get("gender");
+    verify(provider, times(1)).get("status");
+  }
+
+  @Test
+  @DisplayName("Array elements are translated with one provider call per key")
+  void should_prefetch_translations_for_array() {
+    UserDto[] users = {user("1", "1"), user("2", "0")};
+
+    String json = mapper.writeValueAsString(users);
+    JsonNode jsonNode = mapper.readTree(json);
+
+    assertEquals("Female", jsonNode.get(1).get("genderText").asString());
+    assertEquals("", jsonNode.get(1).get("statusText").asString());
+    verify(provider, times(1)).get("gender");
+    verify(provider, times(1)).get("status");
+  }
+
+  @Test
+  @DisplayName("Beans with and without a generated translator are translated alike")
+  void should_translate_with_and_without_generated_translator() {
+    AdminDto admin = new AdminDto();
+    admin.setGender("1");
+    admin.setStatus("2");
+
+    JsonNode jsonNode = mapper.readTree(mapper.writeValueAsString(List.of(user("1", "2"), admin)));
+
+    assertNotNull(BeanTranslator.find(UserDto.class));
+    assertNull(BeanTranslator.find(AdminDto.class));
+    for (JsonNode node : jsonNode) {
+      assertEquals("Male", node.get("genderText").asText());
+      assertEquals("Inactive", node.get("statusText").asText());
+    }
+    verify(provider, times(1)).get("gender");
+  }
+
+  @Test
+  @DisplayName("Multi-code sources are translated with one provider call per key")
+  void should_translate_multiple_codes() {
+    List<AccountDto> accounts =
+        List.of(account(List.of("2", "1"), "1|2"), account(List.of("1"), "9"));
+
+    JsonNode jsonNode = mapper.readTree(mapper.writeValueAsString(accounts));
+
+    assertEquals("Female,Male", jsonNode.get(0).get("genderText").asString());
+    assertEquals("Active|Inactive", jsonNode.get(0).get("statusText").asString());
+    assertEquals("Male", jsonNode.get(1).get("genderText").asString());
+    assertEquals("", jsonNode.get(1).get("statusText").asString());
+    verify(provider, times(1)).get("gender");
+    verify(provider, times(1)).get("status");
+
+    jsonNode = mapper.readTree(mapper.writeValueAsString(accounts.get(0)));
+    assertEquals("Female,Male", jsonNode.get("genderText").asString());
+    verify(provider, times(2)).get("gender");
+  }
+
+  @Test
+  @DisplayName("genderText -> Homme when the locale attribute is French")
+  void should_translate_with_locale_attribute() throws Exception {
+    TranslationService service = spy(new DefaultTranslationService(provider));
+    doReturn(new DefaultTranslationService(key -> Map.of("1", "Homme")))
+        .when(service)
+        .forLocale(Locale.FRENCH);
+    ObjectMapper localized =
+        JsonMapper.builder().addModule(new TranslationJackson3Module(service)).build();
+
+    String json =
+        localized
+            .writer()
+            .withAttribute(TranslationJackson3Module.LOCALE_ATTRIBUTE, Locale.FRENCH)
+            .writeValueAsString(List.of(user("1", null)));
+    JsonNode jsonNode = localized.readTree(json);
+
+    assertEquals("Homme", jsonNode.get(0).get("genderText").asString());
+    assertEquals(
+        "Male",
+        localized
+            .readTree(localized.writeValueAsString(user("1", null)))
+            .get("genderText")
+            .asString());
+  }
+
+  private static AccountDto account(List<String> genders, String statuses) {
+    AccountDto accountDto = new AccountDto();
+    accountDto.setGenders(genders);
+    accountDto.setStatuses(statuses);
+    return accountDto;
+  }
+
+  private static UserDto user(String gender, String status) {
+    UserDto userDto = new UserDto();
+    userDto.setGender(gender);
+    userDto.setStatus(status);
+    return userDto;
+  }
+
+  /** Subclass without annotated fields of its own, so no translator is generated for it. */
+  static class AdminDto extends UserDto {}
 }
@@ -0,0 +1,553 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code BeanTranslator} for every class declaring {@code @Translate} fields.
+ *
+ * <p>The generated translator reads and writes the annotated fields and their source fields with
+ * direct getter and setter calls, falling back to direct field access for non-private fields, and
+ * holds the translation keys and null policy values as constants. It is named after the binary name
+ * of the bean class, with {@code $} replaced by {@code _} and the {@code _Trans4jTranslator}
+ * suffix, in the package of the bean, which is where {@code BeanTranslator.find} looks for it.
+ *
+ * <p>Accessors generated by Lombok are used when Lombok runs before this processor, or when the
+ * class or field carries {@code @Data}, {@code @Value}, {@code @Getter} or {@code @Setter}. Private
+ * classes are skipped, since no other class can refer to them.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class TranslateProcessor extends AbstractProcessor {
+
+  static final String TRANSLATE = "io.github.oiltea.trans4j.core.Translate";
+
+  /** Suffix of the generated classes, mirroring {@code BeanTranslator.SUFFIX}. */
+  static final String SUFFIX = "_Trans4jTranslator";
+
+  /** Directory of the GraalVM reachability metadata written for the generated classes. */
+  static final String NATIVE_IMAGE_DIRECTORY = "META-INF/native-image/trans4j-translators/";
+
+  private static final String CORE = "io.github.oiltea.trans4j.core.";
+  private static final String LOMBOK = "lombok.";
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(TRANSLATE);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    TypeElement translate = processingEnv.getElementUtils().getTypeElement(TRANSLATE);
+    if (annotations.isEmpty() || translate == null) {
+      return false;
+    }
+    Set<TypeElement> beans = new LinkedHashSet<>();
+    for (Element field : roundEnv.getElementsAnnotatedWith(translate)) {
+      if (field.getKind() == ElementKind.FIELD
+          && field.getEnclosingElement() instanceof TypeElement bean) {
+        beans.add(bean);
+      }
+    }
+    for (TypeElement bean : beans) {
+      if (!isReferable(bean)) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.WARNING,
+                "No translator generated for " + bean + ", which is not accessible",
+                bean);
+        continue;
+      }
+      List<Property> properties = collect(bean, translate);
+      if (properties != null) {
+        write(bean, properties);
+      }
+    }
+    return false;
+  }
+
+  /** Returns the annotated properties of the bean, or null after reporting an error. */
+  private List<Property> collect(TypeElement bean, TypeElement translate) {
+    List<Property> properties = new ArrayList<>();
+    boolean valid = true;
+    for (TypeElement type = bean; type != null; type = superclass(type)) {
+      for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+        AnnotationMirror mirror = findAnnotation(field, translate);
+        if (mirror == null || field.getModifiers().contains(Modifier.STATIC)) {
+          continue;
+        }
+        Property property = property(bean, field, mirror);
+        if (property == null) {
+          valid = false;
+        } else {
+          properties.add(property);
+        }
+      }
+    }
+    return valid ? properties : null;
+  }
+
+  private Property property(TypeElement bean, VariableElement field, AnnotationMirror mirror) {
+    String key = null;
+    String from = null;
+    String nullPolicy = null;
+    String delimiter = "";
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+      Object value = entry.getValue().getValue();
+      String name = entry.getKey().getSimpleName().toString();
+      if (name.equals("key")) {
+        key = (String) value;
+      } else if (name.equals("from")) {
+        from = (String) value;
+      } else if (name.equals("nullPolicy")) {
+        nullPolicy = ((VariableElement) value).getSimpleName().toString();
+      } else if (name.equals("delimiter")) {
+        delimiter = (String) value;
+      }
+    }
+    if (!processingEnv
+        .getTypeUtils()
+        .isSameType(field.asType(), typeOf(String.class.getCanonicalName()))) {
+      return error(field, "@Translate field must be a String: " + field);
+    }
+    VariableElement source = findField(bean, from);
+    if (source == null) {
+      return error(field, "Source field '" + from + "' of " + field + " not found");
+    }
+    String target = field.getSimpleName().toString();
+    String getTarget = reader(bean, field);
+    String getSource = reader(bean, source);
+    if (getTarget == null || getSource == null) {
+      return error(field, "Cannot read " + (getTarget == null ? field : source) + ": add a getter");
+    }
+    String setTarget = writer(bean, field);
+    if (setTarget == null && bean.getKind() != ElementKind.RECORD) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.NOTE,
+              field + " has no setter and is not assignable: it is written through field access",
+              field);
+    }
+    return new Property(
+        target,
+        key,
+        from,
+        nullPolicy,
+        delimiter,
+        !delimiter.isEmpty() || mayHoldCodes(source.asType()),
+        getTarget,
+        getSource,
+        setTarget);
+  }
+
+  /** Returns the expression reading the field from {@code bean}, or null if it is unreadable. */
+  private String reader(TypeElement bean, VariableElement field) {
+    String name = field.getSimpleName().toString();
+    if (bean.getKind() == ElementKind.RECORD) {
+      return "bean." + name + "()";
+    }
+    boolean bool = field.asType().getKind() == TypeKind.BOOLEAN;
+    String getter = (bool ? "is" : "get") + capitalize(name);
+    if (findMethod(bean, getter, 0) || hasLombok(field, "Getter", "Data", "Value")) {
+      return "bean." + getter + "()";
+    }
+    if (isAccessible(bean, field)) {
+      return "bean." + name;
+    }
+    return null;
+  }
+
+  /** Returns the statement writing {@code value} to the field, or null if it is read-only. */
+  private String writer(TypeElement bean, VariableElement field) {
+    if (bean.getKind() == ElementKind.RECORD || field.getModifiers().contains(Modifier.FINAL)) {
+      return null;
+    }
+    String name = field.getSimpleName().toString();
+    String setter = "set" + capitalize(name);
+    if (findMethod(bean, setter, 1) || hasLombok(field, "Setter", "Data")) {
+      return "bean." + setter + "(value);";
+    }
+    if (isAccessible(bean, field)) {
+      return "bean." + name + " = value;";
+    }
+    return null;
+  }
+
+  private void write(TypeElement bean, List<Property> properties) {
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(bean);
+    String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(bean).toString();
+    final String simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_')
+            + SUFFIX;
+    final String type = processingEnv.getTypeUtils().erasure(bean.asType()).toString();
+
+    StringBuilder out = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("@javax.annotation.processing.Generated(\"")
+        .append(TranslateProcessor.class.getName())
+        .append("\")\n");
+    if (!bean.getTypeParameters().isEmpty()) {
+      out.append("@SuppressWarnings(\"rawtypes\")\n");
+    }
+    out.append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(CORE)
+        .append("BeanTranslator<")
+        .append(type)
+        .append("> {\n\n");
+
+    for (int i = 0; i < properties.size(); i++) {
+      out.append("  private static final String NULL_VALUE_")
+          .append(i)
+          .append(" =\n      ")
+          .append(CORE)
+          .append("Translate.NullPolicy.")
+          .append(properties.get(i).nullPolicy())
+          .append(".getHandler().apply(null);\n\n");
+    }
+    out.append("  private static final java.util.List<")
+        .append(CORE)
+        .append("BeanTranslator.Property> PROPERTIES =\n      java.util.List.of(");
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      out.append(i == 0 ? "\n" : ",\n")
+          .append("          new ")
+          .append(CORE)
+          .append("BeanTranslator.Property(")
+          .append(literal(property.name()))
+          .append(", ")
+          .append(literal(property.key()))
+          .append(", ")
+          .append(literal(property.from()))
+          .append(", NULL_VALUE_")
+          .append(i)
+          .append(", ")
+          .append(literal(property.delimiter()))
+          .append(')');
+    }
+    out.append(");\n\n");
+
+    out.append("  @Override\n  public Class<")
+        .append(type)
+        .append("> type() {\n    return ")
+        .append(type)
+        .append(".class;\n  }\n\n");
+    out.append("  @Override\n  public java.util.List<")
+        .append(CORE)
+        .append("BeanTranslator.Property> properties() {\n    return PROPERTIES;\n  }\n\n");
+
+    out.append("  @Override\n  public Object getSource(")
+        .append(type)
+        .append(" bean, int index) {\n    switch (index) {\n");
+    for (int i = 0; i < properties.size(); i++) {
+      out.append("      case ")
+          .append(i)
+          .append(":\n        return ")
+          .append(properties.get(i).getSource())
+          .append(";\n");
+    }
+    appendDefault(out);
+
+    out.append("  @Override\n  public String getTarget(")
+        .append(type)
+        .append(" bean, int index) {\n    switch (index) {\n");
+    for (int i = 0; i < properties.size(); i++) {
+      out.append("      case ")
+          .append(i)
+          .append(":\n        return ")
+          .append(properties.get(i).getTarget())
+          .append(";\n");
+    }
+    appendDefault(out);
+
+    out.append("  @Override\n  public void setTarget(")
+        .append(type)
+        .append(" bean, int index, String value) {\n    switch (index) {\n");
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      out.append("      case ").append(i).append(":\n");
+      if (property.setTarget() == null) {
+        out.append("        throw new UnsupportedOperationException(")
+            .append(literal(type + "." + property.name() + " is read-only"))
+            .append(");\n");
+      } else {
+        out.append("        ").append(property.setTarget()).append("\n        return;\n");
+      }
+    }
+    appendDefault(out);
+
+    out.append("  @Override\n  public boolean isWritable(int index) {\n    switch (index) {\n");
+    for (int i = 0; i < properties.size(); i++) {
+      out.append("      case ")
+          .append(i)
+          .append(":\n        return ")
+          .append(properties.get(i).setTarget() != null)
+          .append(";\n");
+    }
+    appendDefault(out);
+
+    out.append("  @Override\n  public void translate(")
+        .append(type)
+        .append(" bean, ")
+        .append(CORE)
+        .append("TranslationService translationService) {\n");
+    for (int i = 0; i < properties.size(); i++) {
+      Property property = properties.get(i);
+      if (property.setTarget() == null) {
+        continue;
+      }
+      out.append("    if (")
+          .append(property.getTarget())
+          .append(" == null) {\n      Object source = ")
+          .append(property.getSource())
+          .append(";\n      String value =\n          source == null ? null : ")
+          .append("translationService.translateValue(")
+          .append(literal(property.key()))
+          .append(", source")
+          .append(property.multiple() ? ", " + literal(property.delimiter()) : "")
+          .append(");\n      if (value == null) {\n        value = NULL_VALUE_")
+          .append(i)
+          .append(";\n      }\n      ")
+          .append(property.setTarget())
+          .append("\n    }\n");
+    }
+    out.append("  }\n}\n");
+
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, bean).openWriter()) {
+      writer.write(out.toString());
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e, bean);
+    }
+    writeReflectConfig(qualifiedName, bean);
+  }
+
+  /**
+   * Writes the GraalVM reachability metadata of a generated translator.
+   *
+   * <p>{@code BeanTranslator.find} instantiates translators reflectively, so native images need
+   * their constructor to be registered. Each translator gets its own metadata directory, which
+   * keeps incremental compilations from overwriting the entries of other translators.
+   */
+  private void writeReflectConfig(String qualifiedName, TypeElement bean) {
+    String resource = NATIVE_IMAGE_DIRECTORY + qualifiedName + "/reflect-config.json";
+    try (Writer writer =
+        processingEnv
+            .getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", resource, bean)
+            .openWriter()) {
+      writer.write(
+          "[\n  {\n    \"name\": \""
+              + qualifiedName
+              + "\",\n    \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]\n  }\n]\n");
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write " + resource + ": " + e, bean);
+    }
+  }
+
+  private static void appendDefault(StringBuilder out) {
+    out.append(
+        "      default:\n        throw new IndexOutOfBoundsException(index);\n    }\n  }\n\n");
+  }
+
+  private TypeElement superclass(TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+  }
+
+  private VariableElement findField(TypeElement bean, String name) {
+    for (TypeElement type = bean; type != null; type = superclass(type)) {
+      for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+        if (field.getSimpleName().contentEquals(name)
+            && !field.getModifiers().contains(Modifier.STATIC)) {
+          return field;
+        }
+      }
+    }
+    return null;
+  }
+
+  private boolean findMethod(TypeElement bean, String name, int parameters) {
+    for (ExecutableElement method :
+        ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(bean))) {
+      if (method.getSimpleName().contentEquals(name)
+          && method.getParameters().size() == parameters
+          && !method.getModifiers().contains(Modifier.STATIC)
+          && isAccessible(bean, method)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Checks whether the generated class, in the package of the bean, may use the member. */
+  private boolean isAccessible(TypeElement bean, Element member) {
+    Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    return !modifiers.contains(Modifier.PRIVATE)
+        && processingEnv
+            .getElementUtils()
+            .getPackageOf(member)
+            .equals(processingEnv.getElementUtils().getPackageOf(bean));
+  }
+
+  /** Checks whether the field or its class carries one of the given Lombok annotations. */
+  private boolean hasLombok(VariableElement field, String... names) {
+    for (Element element : List.of(field, field.getEnclosingElement())) {
+      for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+        String annotation =
+            ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+        for (String name : names) {
+          if (annotation.equals(LOMBOK + name)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isReferable(TypeElement bean) {
+    for (Element element = bean;
+        element instanceof TypeElement type;
+        element = element.getEnclosingElement()) {
+      if (type.getNestingKind() != NestingKind.TOP_LEVEL
+              && type.getNestingKind() != NestingKind.MEMBER
+          || type.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static AnnotationMirror findAnnotation(Element element, TypeElement annotation) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (mirror.getAnnotationType().asElement().equals(annotation)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  /** Returns whether values of the type may hold several codes, such as collections and arrays. */
+  private boolean mayHoldCodes(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return true;
+    }
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+    return processingEnv.getTypeUtils().isSameType(erasure, typeOf(Object.class.getName()))
+        || processingEnv
+            .getTypeUtils()
+            .isAssignable(
+                erasure, processingEnv.getTypeUtils().erasure(typeOf(Collection.class.getName())));
+  }
+
+  private TypeMirror typeOf(String name) {
+    return processingEnv.getElementUtils().getTypeElement(name).asType();
+  }
+
+  private Property error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    return null;
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String literal(String value) {
+    StringBuilder literal = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        literal.append('\\').append(c);
+      } else if (c < 0x20 || c > 0x7e) {
+        literal.append(String.format("\\u%04x", (int) c));
+      } else {
+        literal.append(c);
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  /** An annotated field with the code reading and writing it. */
+  private record Property(
+      String name,
+      String key,
+      String from,
+      String nullPolicy,
+      String delimiter,
+      boolean multiple,
+      String getTarget,
+      String getSource,
+      String setTarget) {}
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.BeanTranslator;
+import io.github.oiltea.trans4j.core.ReactiveTranslationResolver;
+import io.github.oiltea.trans4j.core.ReactiveTranslationService;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TranslateProcessorTest {
+
+  @TempDir Path directory;
+
+  private TranslationService translationService;
+
+  @BeforeEach
+  void setUp() {
+    translationService = mock(TranslationService.class);
+    when(translationService.translateValue("gender", 1)).thenReturn("Male");
+    when(translationService.translateValue("status", "A")).thenReturn("Active");
+  }
+
+  @Test
+  @DisplayName("Should generate a translator using getters and setters")
+  void should_generate_translator_with_accessors() throws Exception {
+    ClassLoader classLoader =
+        compile(
+            Map.of(
+                "demo/User.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+                import io.github.oiltea.trans4j.core.Translate.NullPolicy;
+
+                public class User {
+                  private int gender;
+                  @Translate(key = "gender", from = "gender")
+                  private String genderName;
+                  private String status;
+                  @Translate(key = "status", from = "status", nullPolicy = NullPolicy.EMPTY)
+                  private String statusName;
+
+                  public int getGender() { return gender; }
+                  public void setGender(int gender) { this.gender = gender; }
+                  public String getGenderName() { return genderName; }
+                  public void setGenderName(String genderName) { this.genderName = genderName; }
+                  public String getStatus() { return status; }
+                  public void setStatus(String status) { this.status = status; }
+                  public String getStatusName() { return statusName; }
+                  public void setStatusName(String statusName) { this.statusName = statusName; }
+                }
+                """));
+    Class<Object> type = load(classLoader, "demo.User");
+    BeanTranslator<Object> translator = BeanTranslator.find(type);
+
+    assertNotNull(translator);
+    assertEquals("demo.User" + BeanTranslator.SUFFIX, translator.getClass().getName());
+    assertEquals(
+        List.of(
+            new BeanTranslator.Property("genderName", "gender", "gender", null, ""),
+            new BeanTranslator.Property("statusName", "status", "status", "", "")),
+        translator.properties());
+    assertEquals(1, translator.indexOf("statusName"));
+    assertTrue(
+        Files.readString(
+                directory.resolve(
+                    "classes/"
+                        + TranslateProcessor.NATIVE_IMAGE_DIRECTORY
+                        + "demo.User_Trans4jTranslator/reflect-config.json"))
+            .contains("\"name\": \"demo.User_Trans4jTranslator\""));
+
+    Object bean = type.getConstructor().newInstance();
+    type.getMethod("setGender", int.class).invoke(bean, 1);
+    assertEquals(1, translator.getSource(bean, 0));
+    assertNull(translator.getSource(bean, 1));
+
+    translator.translate(bean, translationService);
+    assertEquals("Male", translator.getTarget(bean, 0));
+    assertEquals("", translator.getTarget(bean, 1));
+
+    translator.setTarget(bean, 0, "Preset");
+    translator.translate(bean, translationService);
+    assertEquals("Preset", type.getMethod("getGenderName").invoke(bean));
+    verify(translationService, times(1)).translateValue("gender", 1);
+  }
+
+  @Test
+  @DisplayName("Should use fields, inherited properties and nested class names")
+  void should_generate_translator_for_fields_and_nested_classes() throws Exception {
+    ClassLoader classLoader =
+        compile(
+            Map.of(
+                "demo/Base.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public class Base {
+                  String status;
+                  @Translate(key = "status", from = "status")
+                  String statusName;
+                }
+                """,
+                "demo/Outer.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public class Outer {
+                  public static class Item extends Base {
+                    Integer gender;
+                    @Translate(key = "gender", from = "gender")
+                    String genderName;
+                  }
+                }
+                """));
+    Class<Object> type = load(classLoader, "demo.Outer$Item");
+    BeanTranslator<Object> translator = BeanTranslator.find(type);
+
+    assertNotNull(translator);
+    assertEquals("demo.Outer_Item" + BeanTranslator.SUFFIX, translator.getClass().getName());
+    assertEquals(2, translator.properties().size());
+
+    Object bean = type.getConstructor().newInstance();
+    Field gender = type.getDeclaredField("gender");
+    Field status = type.getSuperclass().getDeclaredField("status");
+    gender.setAccessible(true);
+    status.setAccessible(true);
+    gender.set(bean, 1);
+    status.set(bean, "A");
+    translator.translate(bean, translationService);
+
+    assertEquals("Male", translator.getTarget(bean, translator.indexOf("genderName")));
+    assertEquals("Active", translator.getTarget(bean, translator.indexOf("statusName")));
+  }
+
+  @Test
+  @DisplayName("Should translate collection and delimited sources in one batch")
+  void should_translate_multiple_codes() throws Exception {
+    ClassLoader classLoader =
+        compile(
+            Map.of(
+                "demo/Account.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+                import java.util.List;
+
+                public class Account {
+                  List<String> roles;
+                  @Translate(key = "role", from = "roles")
+                  String roleNames;
+                  String tags;
+                  @Translate(key = "tag", from = "tags", delimiter = "|")
+                  String tagNames;
+                }
+                """));
+    Class<Object> type = load(classLoader, "demo.Account");
+    BeanTranslator<Object> translator = BeanTranslator.find(type);
+    when(translationService.translateValue(eq("role"), any(), eq(""))).thenReturn("Admin,Editor");
+    when(translationService.translateValue(eq("tag"), any(), eq("|"))).thenReturn("New|Hot");
+
+    assertNotNull(translator);
+    assertEquals("|", translator.properties().get(1).delimiter());
+    Object bean = type.getDeclaredConstructor().newInstance();
+    Field roles = type.getDeclaredField("roles");
+    roles.setAccessible(true);
+    roles.set(bean, List.of("A", "E"));
+    Field tags = type.getDeclaredField("tags");
+    tags.setAccessible(true);
+    tags.set(bean, "N|H");
+
+    translator.translate(bean, translationService);
+    assertEquals("Admin,Editor", translator.getTarget(bean, 0));
+    assertEquals("New|Hot", translator.getTarget(bean, 1));
+    verify(translationService).translateValue("role", List.of("A", "E"), "");
+    verify(translationService).translateValue("tag", "N|H", "|");
+  }
+
+  @Test
+  @DisplayName("Should generate a read-only translator for records")
+  void should_generate_read_only_translator_for_records() throws Exception {
+    ClassLoader classLoader =
+        compile(
+            Map.of(
+                "demo/Order.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public record Order(
+                    String status, @Translate(key = "status", from = "status") String statusName) {}
+                """));
+    Class<Object> type = load(classLoader, "demo.Order");
+    BeanTranslator<Object> translator = BeanTranslator.find(type);
+
+    assertNotNull(translator);
+    Object bean = type.getConstructor(String.class, String.class).newInstance("A", null);
+    assertEquals("A", translator.getSource(bean, 0));
+    assertFalse(translator.isWritable(0));
+    assertThrows(UnsupportedOperationException.class, () -> translator.setTarget(bean, 0, "x"));
+    translator.translate(bean, translationService);
+    assertNull(translator.getTarget(bean, 0));
+  }
+
+  @Test
+  @DisplayName("Should write read-only properties through field access when resolving")
+  void should_resolve_read_only_properties() throws Exception {
+    ClassLoader classLoader =
+        compile(
+            Map.of(
+                "demo/Product.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public class Product {
+                  private final String status;
+                  @Translate(key = "status", from = "status")
+                  private String statusName;
+                  @Translate(key = "status", from = "status")
+                  private final String statusLabel = null;
+                  @Translate(key = "status", from = "status")
+                  private String statusText;
+
+                  public Product(String status) { this.status = status; }
+                  public String getStatus() { return status; }
+                  public String getStatusName() { return statusName; }
+                  public String getStatusLabel() { return statusLabel; }
+                  public String getStatusText() { return statusText; }
+                  public void setStatusText(String statusText) { this.statusText = statusText; }
+                }
+                """));
+    Class<Object> type = load(classLoader, "demo.Product");
+    BeanTranslator<Object> translator = BeanTranslator.find(type);
+    assertNotNull(translator);
+    assertFalse(translator.isWritable(0));
+    assertFalse(translator.isWritable(1));
+    assertTrue(translator.isWritable(2));
+    when(translationService.translateAll("status", Set.of("A"))).thenReturn(Map.of("A", "Active"));
+    ReactiveTranslationResolver resolver =
+        new ReactiveTranslationResolver(
+            ReactiveTranslationService.fromBlocking(translationService));
+
+    Object bean =
+        resolver.resolve(type.getConstructor(String.class).newInstance("A")).block().value();
+
+    assertEquals("Active", translator.getTarget(bean, 0));
+    assertEquals("Active", translator.getTarget(bean, 1));
+    assertEquals("Active", translator.getTarget(bean, 2));
+  }
+
+  @Test
+  @DisplayName("Should report a missing source field")
+  void should_report_missing_source_field() throws IOException {
+    List<String> errors =
+        compileErrors(
+            Map.of(
+                "demo/Broken.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public class Broken {
+                  @Translate(key = "gender", from = "sex")
+                  public String genderName;
+                }
+                """));
+
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0).contains("Source field 'sex'"), errors.get(0));
+  }
+
+  @Test
+  @DisplayName("Should report an annotated field that is not a String")
+  void should_report_non_string_field() throws IOException {
+    List<String> errors =
+        compileErrors(
+            Map.of(
+                "demo/Broken.java",
+                """
+                package demo;
+
+                import io.github.oiltea.trans4j.core.Translate;
+
+                public class Broken {
+                  public int gender;
+                  @Translate(key = "gender", from = "gender")
+                  public Integer genderName;
+                }
+                """));
+
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0).contains("must be a String"), errors.get(0));
+  }
+
+  @Test
+  @DisplayName("Should not find a translator for classes compiled without the processor")
+  void should_not_find_translator_without_processor() {
+    assertNull(BeanTranslator.find(String.class));
+    assertNull(BeanTranslator.find(TranslateProcessorTest.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Class<Object> load(ClassLoader classLoader, String name) throws Exception {
+    return (Class<Object>) classLoader.loadClass(name);
+  }
+
+  private ClassLoader compile(Map<String, String> sources) throws IOException {
+    List<String> errors = compileErrors(sources);
+    assertEquals(List.of(), errors);
+    return new URLClassLoader(
+        new URL[] {directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  private List<String> compileErrors(Map<String, String> sources) throws IOException {
+    Path sourceDirectory = directory.resolve("src");
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    List<Path> files = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path file = sourceDirectory.resolve(source.getKey());
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+      files.add(file);
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-d", classes.toString(), "-classpath", System.getProperty("java.class.path")),
+              null,
+              fileManager.getJavaFileObjectsFromPaths(files));
+      task.setProcessors(List.of(new TranslateProcessor()));
+      task.call();
+    }
+    List<String> errors = new ArrayList<>();
+    for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+        errors.add(diagnostic.getMessage(null));
+      }
+    }
+    return errors;
+  }
+}
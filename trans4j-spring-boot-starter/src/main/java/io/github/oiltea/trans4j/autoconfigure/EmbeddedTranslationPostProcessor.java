@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.EmbeddedTranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Serves the dictionaries exported at build time in front of every {@link TranslationProvider}
+ * bean.
+ *
+ * <p>Each provider is wrapped in an {@link EmbeddedTranslationProvider} falling back to it, so the
+ * translation services only call the provider for keys that were not exported. Providers must
+ * therefore be injected by their {@link TranslationProvider} interface.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class EmbeddedTranslationPostProcessor implements BeanPostProcessor {
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof TranslationProvider provider
+        && !(bean instanceof EmbeddedTranslationProvider)) {
+      log.debug("Serve embedded dictionaries in front of translation provider '{}'", beanName);
+      return new EmbeddedTranslationProvider(provider);
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.TranslationListener;
+import io.github.oiltea.trans4j.core.TranslationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link TranslationListener} recording translation activity as Micrometer meters.
+ *
+ * <p>The following meters are registered once the listener is bound to a registry:
+ *
+ * <ul>
+ *   <li>{@code trans4j.cache.gets}: counter of dictionary lookups, tagged with the translation
+ *       {@code key} and {@code result} ({@code hit} or {@code miss})
+ *   <li>{@code trans4j.translations.missing}: counter of values without a translation, tagged with
+ *       the translation {@code key}
+ *   <li>{@code trans4j.provider.calls}: timer of provider calls, tagged with the translation {@code
+ *       key} ({@code *} for bulk calls) and {@code outcome} ({@code success} or {@code failure})
+ *   <li>{@code trans4j.remote.calls}: timer of remote cache round trips, tagged with the {@code
+ *       command}
+ *   <li>{@code trans4j.cache.size}: gauge of the number of dictionaries held in memory
+ *   <li>{@code trans4j.cache.weight}: gauge of the total number of entries of those dictionaries
+ * </ul>
+ *
+ * <p>Meters are cached per tag value, so recording a hit costs a map lookup and an increment.
+ * Notifications received before the listener is bound are dropped.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class MicrometerTranslationListener implements TranslationListener, MeterBinder {
+
+  private static final String BULK_KEY = "*";
+
+  private final Supplier<@Nullable TranslationService> translationService;
+
+  private volatile @Nullable MeterRegistry registry;
+
+  private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+  private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+  private final Map<String, Counter> missingTranslations = new ConcurrentHashMap<>();
+  private final Map<String, Timer> providerSuccesses = new ConcurrentHashMap<>();
+  private final Map<String, Timer> providerFailures = new ConcurrentHashMap<>();
+  private final Map<String, Timer> remoteCalls = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a listener reporting the size of the given translation service.
+   *
+   * @param translationService supplies the service whose {@link TranslationService#estimatedSize()}
+   *     is reported, resolved lazily because the service itself depends on this listener
+   */
+  public MicrometerTranslationListener(Supplier<@Nullable TranslationService> translationService) {
+    this.translationService = translationService;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("trans4j.cache.size", this::cacheSize)
+        .description("Number of translation dictionaries held in memory")
+        .register(registry);
+    Gauge.builder("trans4j.cache.weight", this::cacheWeight)
+        .description("Total number of entries of the translation dictionaries held in memory")
+        .register(registry);
+    this.registry = registry;
+  }
+
+  @Override
+  public void onHit(String key) {
+    countGet(hits, key, "hit");
+  }
+
+  @Override
+  public void onMiss(String key) {
+    countGet(misses, key, "miss");
+  }
+
+  @Override
+  public void onMissingTranslation(String key) {
+    MeterRegistry current = registry;
+    if (current != null) {
+      missingTranslations
+          .computeIfAbsent(
+              key,
+              k ->
+                  Counter.builder("trans4j.translations.missing")
+                      .description("Values without a translation")
+                      .tag("key", k)
+                      .register(current))
+          .increment();
+    }
+  }
+
+  @Override
+  public void onProviderCall(@Nullable String key, long nanos, boolean success) {
+    MeterRegistry current = registry;
+    if (current != null) {
+      String outcome = success ? "success" : "failure";
+      (success ? providerSuccesses : providerFailures)
+          .computeIfAbsent(
+              key == null ? BULK_KEY : key,
+              k ->
+                  Timer.builder("trans4j.provider.calls")
+                      .description("Calls to the translation provider")
+                      .tag("key", k)
+                      .tag("outcome", outcome)
+                      .register(current))
+          .record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void onRemoteCall(String command, long nanos) {
+    MeterRegistry current = registry;
+    if (current != null) {
+      remoteCalls
+          .computeIfAbsent(
+              command,
+              c ->
+                  Timer.builder("trans4j.remote.calls")
+                      .description("Round trips to the remote translation cache")
+                      .tag("command", c)
+                      .register(current))
+          .record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void countGet(Map<String, Counter> counters, String key, String result) {
+    MeterRegistry current = registry;
+    if (current != null) {
+      counters
+          .computeIfAbsent(
+              key,
+              k ->
+                  Counter.builder("trans4j.cache.gets")
+                      .description("Translation dictionary lookups")
+                      .tag("key", k)
+                      .tag("result", result)
+                      .register(current))
+          .increment();
+    }
+  }
+
+  private double cacheWeight() {
+    TranslationService service = translationService.get();
+    long weight = service == null ? -1 : service.estimatedWeight();
+    return weight < 0 ? Double.NaN : weight;
+  }
+
+  private double cacheSize() {
+    TranslationService service = translationService.get();
+    long size = service == null ? -1 : service.estimatedSize();
+    return size < 0 ? Double.NaN : size;
+  }
+}
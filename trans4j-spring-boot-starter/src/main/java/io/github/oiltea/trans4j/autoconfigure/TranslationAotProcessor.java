@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.BeanTranslator;
+import io.github.oiltea.trans4j.core.Translate;
+import java.util.Collection;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+
+/**
+ * Registers the reflection hints of the classes using {@link Translate} for GraalVM native images.
+ *
+ * <p>The auto-configuration packages are scanned while the application is processed ahead of time.
+ * Every class found is registered for JSON binding and field access, and the {@link BeanTranslator}
+ * generated for it, if any, for instantiation by {@link BeanTranslator#find(Class)}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class TranslationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+  @Override
+  public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+      ConfigurableListableBeanFactory beanFactory) {
+    if (!AutoConfigurationPackages.has(beanFactory)) {
+      return null;
+    }
+    Set<Class<?>> types =
+        TranslationWarmUp.scanTypes(
+            AutoConfigurationPackages.get(beanFactory), beanFactory.getBeanClassLoader());
+    if (types.isEmpty()) {
+      return null;
+    }
+    return (context, code) -> registerHints(context.getRuntimeHints().reflection(), types);
+  }
+
+  /**
+   * Registers the reflection hints of translated classes.
+   *
+   * @param reflection the reflection hints to add to
+   * @param types the classes declaring {@link Translate} fields
+   */
+  public static void registerHints(ReflectionHints reflection, Collection<Class<?>> types) {
+    BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+    for (Class<?> type : types) {
+      binding.registerReflectionHints(reflection, type);
+      reflection.registerType(type, MemberCategory.ACCESS_DECLARED_FIELDS);
+      BeanTranslator<?> translator = BeanTranslator.find(type);
+      if (translator != null) {
+        reflection.registerType(translator.getClass(), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+      }
+    }
+  }
+}
@@ -17,19 +17,38 @@
 package io.github.oiltea.trans4j.autoconfigure;
 
 import io.github.oiltea.trans4j.core.DefaultTranslationService;
+import io.github.oiltea.trans4j.core.LocalizedTranslationService;
+import io.github.oiltea.trans4j.core.NegativeCache;
+import io.github.oiltea.trans4j.core.OffHeapTranslationService;
+import io.github.oiltea.trans4j.core.ReactiveTranslationResolver;
+import io.github.oiltea.trans4j.core.ReactiveTranslationService;
 import io.github.oiltea.trans4j.core.SimpleTranslationService;
 import io.github.oiltea.trans4j.core.TranslationCacheProperties;
+import io.github.oiltea.trans4j.core.TranslationListener;
+import io.github.oiltea.trans4j.core.TranslationLoader;
 import io.github.oiltea.trans4j.core.TranslationProvider;
 import io.github.oiltea.trans4j.core.TranslationService;
 import io.github.oiltea.trans4j.jackson.TranslationJackson2Module;
 import io.github.oiltea.trans4j.jackson.TranslationJackson3Module;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 /**
  * Auto-configuration class for translation functionality in Spring Boot applications.
@@ -49,6 +68,7 @@ import org.springframework.context.annotation.Configuration;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(TranslationProvider.class)
 @EnableConfigurationProperties(TranslationCacheProperties.class)
+@ImportRuntimeHints(TranslationRuntimeHints.class)
 public class TranslationAutoConfiguration {
 
   /**
@@ -58,14 +78,23 @@ public class TranslationAutoConfiguration {
    * caching capabilities.
    *
    * @param provider the translation provider used by the service
+   * @param props the cache properties providing the locale settings
+   * @param listener the optional listener timing provider calls
    * @return a new instance of DefaultTranslationService configured with the given provider
    * @since 1.0.0
    */
   @Bean
   @ConditionalOnProperty(prefix = "trans4j.cache", name = "type", havingValue = "none")
-  public TranslationService defaultTranslationService(TranslationProvider provider) {
+  public TranslationService defaultTranslationService(
+      TranslationProvider provider,
+      TranslationCacheProperties props,
+      ObjectProvider<TranslationListener> listener) {
     log.debug("Register DefaultTranslationService");
-    return new DefaultTranslationService(provider);
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        TranslationListener.observe(provider, listener.getIfUnique(() -> TranslationListener.NOOP)),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> new DefaultTranslationService(partitionProvider));
   }
 
   /**
@@ -74,7 +103,9 @@ public class TranslationAutoConfiguration {
    * property. The SimpleTranslationService provides basic translation functionality with caching
    * support.
    *
-   * @param provider the translation provider used by the service
+   * @param loader the loader calling the translation provider
+   * @param props the cache properties providing the refresh interval and maximum weight
+   * @param listener the optional listener notified of cache activity
    * @return a configured instance of SimpleTranslationService
    * @since 1.0.0
    */
@@ -84,9 +115,197 @@ public class TranslationAutoConfiguration {
       name = "type",
       havingValue = "simple",
       matchIfMissing = true)
-  public TranslationService simpleTranslationService(TranslationProvider provider) {
+  public TranslationService simpleTranslationService(
+      TranslationLoader loader,
+      TranslationCacheProperties props,
+      ObjectProvider<TranslationListener> listener) {
     log.debug("Register SimpleTranslationService");
-    return new SimpleTranslationService(provider);
+    TranslationListener translationListener = listener.getIfUnique(() -> TranslationListener.NOOP);
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        loader.getProvider(),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> {
+          SimpleTranslationService service =
+              new SimpleTranslationService(
+                  locale == null ? loader : loader.withProvider(partitionProvider),
+                  props.getSimple().getRefreshInterval());
+          service.setListener(translationListener);
+          service.setMaximumWeight(props.getSimple().getMaximumWeight());
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
+  }
+
+  /**
+   * Creates an OffHeapTranslationService bean when the cache type is set to "off-heap". The
+   * dictionaries are kept in direct memory, which suits very large dictionaries. They are loaded
+   * through the shared TranslationLoader. Snapshots are written and refreshed on the executor bean
+   * named {@value TranslationLoader#EXECUTOR_BEAN_NAME} if one is defined, and on the common pool
+   * otherwise.
+   *
+   * @param loader the loader calling the translation provider
+   * @param props the cache properties providing the snapshot and negative cache settings
+   * @param executor the optional executor writing and refreshing snapshots
+   * @param listener the optional listener notified of cache activity
+   * @return a configured instance of OffHeapTranslationService
+   * @since 1.1.0
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "trans4j.cache", name = "type", havingValue = "off-heap")
+  public TranslationService offHeapTranslationService(
+      TranslationLoader loader,
+      TranslationCacheProperties props,
+      @Qualifier(TranslationLoader.EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor,
+      ObjectProvider<TranslationListener> listener) {
+    log.debug("Register OffHeapTranslationService");
+    TranslationListener translationListener = listener.getIfUnique(() -> TranslationListener.NOOP);
+    TranslationCacheProperties.Negative negative = props.getNegative();
+    Path snapshotDirectory = props.getOffHeap().getSnapshotDirectory();
+    return LocalizedTranslationService.of(
+        props.getLocales(),
+        loader.getProvider(),
+        LocaleContextHolder::getLocale,
+        (locale, partitionProvider) -> {
+          OffHeapTranslationService service =
+              new OffHeapTranslationService(
+                  locale == null ? loader : loader.withProvider(partitionProvider),
+                  snapshotDirectory == null || locale == null
+                      ? snapshotDirectory
+                      : snapshotDirectory.resolve(locale.toLanguageTag()),
+                  executor.getIfAvailable(ForkJoinPool::commonPool));
+          service.setListener(translationListener);
+          service.setNegativeCache(
+              new NegativeCache(negative.getTimeToLive(), negative.getMaximumSize()));
+          return service;
+        });
+  }
+
+  /**
+   * Creates the TranslationLoader calling the provider outside of any cache lock. Provider calls
+   * run on the executor bean named {@value TranslationLoader#EXECUTOR_BEAN_NAME} if one is defined,
+   * and on virtual threads otherwise when available and enabled.
+   *
+   * @param provider the translation provider
+   * @param props the cache properties providing the loader settings
+   * @param executor the optional executor running provider calls
+   * @param listener the optional listener timing provider calls
+   * @return a configured instance of TranslationLoader
+   * @since 1.1.0
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public TranslationLoader translationLoader(
+      TranslationProvider provider,
+      TranslationCacheProperties props,
+      @Qualifier(TranslationLoader.EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor,
+      ObjectProvider<TranslationListener> listener) {
+    log.debug("Register TranslationLoader");
+    TranslationCacheProperties.Loader loader = props.getLoader();
+    return new TranslationLoader(
+        TranslationListener.observe(provider, listener.getIfUnique(() -> TranslationListener.NOOP)),
+        executor.getIfAvailable(
+            () -> loader.isVirtualThreads() ? TranslationLoader.newVirtualThreadExecutor() : null),
+        loader.getMaxConcurrency());
+  }
+
+  /**
+   * Creates the TranslationWarmUp loading dictionaries into the active TranslationService before
+   * the application reports that it is ready. The keys are taken from {@code
+   * trans4j.cache.warm-up.keys}, or found by scanning the auto-configuration packages for {@link
+   * io.github.oiltea.trans4j.core.Translate} fields when none are configured.
+   *
+   * @param translationService the active translation service
+   * @param props the cache properties providing the warm-up settings
+   * @param beanFactory the bean factory holding the auto-configuration packages
+   * @return a configured instance of TranslationWarmUp
+   * @since 1.1.0
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "trans4j.cache.warm-up", name = "enabled", havingValue = "true")
+  public TranslationWarmUp translationWarmUp(
+      TranslationService translationService,
+      TranslationCacheProperties props,
+      ConfigurableListableBeanFactory beanFactory) {
+    log.debug("Register TranslationWarmUp");
+    TranslationCacheProperties.WarmUp warmUp = props.getWarmUp();
+    Collection<String> keys = warmUp.getKeys();
+    if (keys.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+      keys =
+          TranslationWarmUp.scanKeys(
+              AutoConfigurationPackages.get(beanFactory), beanFactory.getBeanClassLoader());
+    }
+    return new TranslationWarmUp(
+        translationService, keys, warmUp.getParallelism(), warmUp.getTimeout());
+  }
+
+  /**
+   * Creates the EmbeddedTranslationPostProcessor serving the dictionaries exported at build time in
+   * front of the translation provider. This bean is only registered when the configuration property
+   * "trans4j.cache.embedded.enabled" is true.
+   *
+   * @return a new instance of EmbeddedTranslationPostProcessor
+   * @since 1.1.0
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "trans4j.cache.embedded", name = "enabled", havingValue = "true")
+  public static EmbeddedTranslationPostProcessor embeddedTranslationPostProcessor() {
+    log.debug("Register EmbeddedTranslationPostProcessor");
+    return new EmbeddedTranslationPostProcessor();
+  }
+
+  /**
+   * Creates the TranslationInvalidationListener applying {@link TranslationInvalidationEvent
+   * TranslationInvalidationEvents} to the active TranslationService.
+   *
+   * @param translationService the active translation service
+   * @return a configured instance of TranslationInvalidationListener
+   * @since 1.1.0
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public TranslationInvalidationListener translationInvalidationListener(
+      TranslationService translationService) {
+    log.debug("Register TranslationInvalidationListener");
+    return new TranslationInvalidationListener(translationService);
+  }
+
+  /**
+   * Configuration class for Micrometer metrics of the translation services.
+   *
+   * <p>This configuration is conditionally loaded when Micrometer is available on the classpath and
+   * {@code trans4j.cache.metrics.enabled} is not set to {@code false}. The listener is a {@link
+   * io.micrometer.core.instrument.binder.MeterBinder}, so its meters are registered once Spring
+   * Boot binds it to the application's meter registry.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Slf4j
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  @ConditionalOnProperty(
+      prefix = "trans4j.cache.metrics",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  static class MetricsConfiguration {
+
+    /**
+     * Creates a {@link MicrometerTranslationListener} recording translation metrics.
+     *
+     * @param translationService the active translation service, whose size is reported
+     * @return a configured instance of {@link MicrometerTranslationListener}
+     */
+    @Bean
+    @ConditionalOnMissingBean(TranslationListener.class)
+    MicrometerTranslationListener micrometerTranslationListener(
+        ObjectProvider<TranslationService> translationService) {
+      log.debug("Register MicrometerTranslationListener");
+      return new MicrometerTranslationListener(translationService::getIfUnique);
+    }
   }
 
   /**
@@ -150,4 +369,49 @@ public class TranslationAutoConfiguration {
       return new TranslationJackson3Module(translationService);
     }
   }
+
+  /**
+   * Configuration class for reactive translation support.
+   *
+   * <p>This configuration is conditionally loaded when Project Reactor is available on the
+   * classpath. Unless a cache module provides a non-blocking implementation, the blocking {@link
+   * TranslationService} is adapted to run on the bounded elastic scheduler.
+   *
+   * @author Oiltea
+   * @since 1.1.0
+   */
+  @Slf4j
+  @Configuration(proxyBeanMethods = false)
+  @AutoConfigureAfter(
+      name = "io.github.oiltea.trans4j.cache.ReactiveRedisTranslationAutoConfiguration")
+  @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+  static class ReactiveConfiguration {
+
+    /**
+     * Creates a {@link ReactiveTranslationService} adapting the blocking translation service.
+     *
+     * @param translationService the blocking translation service
+     * @return a reactive view of the translation service
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReactiveTranslationService.class)
+    ReactiveTranslationService reactiveTranslationService(TranslationService translationService) {
+      log.debug("Register blocking ReactiveTranslationService adapter");
+      return ReactiveTranslationService.fromBlocking(translationService);
+    }
+
+    /**
+     * Creates a {@link ReactiveTranslationResolver} filling annotated fields before serialization.
+     *
+     * @param reactiveTranslationService the reactive translation service
+     * @return a configured instance of {@link ReactiveTranslationResolver}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    ReactiveTranslationResolver reactiveTranslationResolver(
+        ReactiveTranslationService reactiveTranslationService) {
+      log.debug("Register ReactiveTranslationResolver");
+      return new ReactiveTranslationResolver(reactiveTranslationService);
+    }
+  }
 }
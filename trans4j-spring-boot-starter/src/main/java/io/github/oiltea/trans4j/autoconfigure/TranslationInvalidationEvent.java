@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Application event asking the active {@link io.github.oiltea.trans4j.core.TranslationService} to
+ * drop or reload cached dictionaries.
+ *
+ * <p>Publish it with {@link org.springframework.context.ApplicationEventPublisher} after editing
+ * the labels of a dictionary, so that the change is visible without waiting for the cache to
+ * expire:
+ *
+ * <pre>{@code
+ * publisher.publishEvent(TranslationInvalidationEvent.reload(this, "gender"));
+ * }</pre>
+ *
+ * <p>The event is handled in the publishing application only. The tiered Redis cache forwards
+ * invalidations to the other nodes itself.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Getter
+public class TranslationInvalidationEvent extends ApplicationEvent {
+
+  /** The translation key, or {@code null} for all keys. */
+  private final @Nullable String key;
+
+  /** Whether to reload the dictionary rather than drop it. */
+  private final boolean reload;
+
+  private TranslationInvalidationEvent(Object source, @Nullable String key, boolean reload) {
+    super(source);
+    this.key = key;
+    this.reload = reload;
+  }
+
+  /**
+   * Creates an event dropping the cached dictionary of the given key.
+   *
+   * @param source the object publishing the event
+   * @param key the translation key
+   * @return the event
+   */
+  public static TranslationInvalidationEvent invalidate(Object source, String key) {
+    return new TranslationInvalidationEvent(source, key, false);
+  }
+
+  /**
+   * Creates an event dropping all cached dictionaries.
+   *
+   * @param source the object publishing the event
+   * @return the event
+   */
+  public static TranslationInvalidationEvent invalidateAll(Object source) {
+    return new TranslationInvalidationEvent(source, null, false);
+  }
+
+  /**
+   * Creates an event reloading the dictionary of the given key from the provider.
+   *
+   * @param source the object publishing the event
+   * @param key the translation key
+   * @return the event
+   */
+  public static TranslationInvalidationEvent reload(Object source, String key) {
+    return new TranslationInvalidationEvent(source, key, true);
+  }
+}
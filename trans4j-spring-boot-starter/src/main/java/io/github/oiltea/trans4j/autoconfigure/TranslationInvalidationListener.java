@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.TranslationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Applies {@link TranslationInvalidationEvent TranslationInvalidationEvents} to the active {@link
+ * TranslationService}.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class TranslationInvalidationListener
+    implements ApplicationListener<TranslationInvalidationEvent> {
+
+  private final TranslationService translationService;
+
+  /**
+   * Constructs a TranslationInvalidationListener.
+   *
+   * @param translationService the service whose dictionaries are invalidated
+   */
+  public TranslationInvalidationListener(TranslationService translationService) {
+    this.translationService = translationService;
+  }
+
+  @Override
+  public void onApplicationEvent(TranslationInvalidationEvent event) {
+    String key = event.getKey();
+    if (key == null) {
+      log.debug("Invalidate all translation dictionaries");
+      translationService.invalidateAll();
+    } else if (event.isReload()) {
+      log.debug("Reload translation dictionary '{}'", key);
+      translationService.reload(key);
+    } else {
+      log.debug("Invalidate translation dictionary '{}'", key);
+      translationService.invalidate(key);
+    }
+  }
+}
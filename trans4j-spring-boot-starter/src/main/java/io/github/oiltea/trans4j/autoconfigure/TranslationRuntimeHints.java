@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.EmbeddedTranslationProvider;
+import io.github.oiltea.trans4j.core.Translate;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Registers the runtime hints of the translation support for GraalVM native images.
+ *
+ * <p>The {@link Translate} annotation is read reflectively from the fields of the translated
+ * classes, whose own hints are registered by {@link TranslationAotProcessor}. The resource of the
+ * {@link EmbeddedTranslationProvider} is included for images that do not initialize it at build
+ * time.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+public class TranslationRuntimeHints implements RuntimeHintsRegistrar {
+
+  @Override
+  public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+    hints
+        .reflection()
+        .registerType(Translate.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+        .registerType(Translate.NullPolicy.class, MemberCategory.ACCESS_PUBLIC_FIELDS);
+    hints.resources().registerPattern(EmbeddedTranslationProvider.RESOURCE);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import io.github.oiltea.trans4j.core.Translate;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+/**
+ * Loads dictionaries into the active {@link TranslationService} at startup.
+ *
+ * <p>The keys are split into {@code parallelism} batches loaded concurrently, each with a single
+ * {@link TranslationService#preloadAll(Collection)} call, so a provider implementing {@link
+ * io.github.oiltea.trans4j.core.TranslationProvider#getAll(Collection)} is queried once per batch.
+ *
+ * <p>Spring Boot reports the application ready to accept traffic only once all application runners
+ * have completed, so pods are not routed traffic while their dictionaries are still cold. A failed
+ * or slow warm-up is logged and does not prevent the application from starting.
+ *
+ * @author Oiltea
+ * @since 1.1.0
+ */
+@Slf4j
+public class TranslationWarmUp implements ApplicationRunner {
+
+  private static final byte[] TRANSLATE_DESCRIPTOR =
+      Translate.class.descriptorString().getBytes(StandardCharsets.UTF_8);
+
+  private final TranslationService translationService;
+  private final Collection<String> keys;
+  private final int parallelism;
+  private final Duration timeout;
+
+  /**
+   * Constructs a TranslationWarmUp.
+   *
+   * @param translationService the service to load the dictionaries into
+   * @param keys the translation keys to load
+   * @param parallelism the number of batches loaded concurrently
+   * @param timeout the maximum time to wait for the warm-up
+   */
+  public TranslationWarmUp(
+      TranslationService translationService,
+      Collection<String> keys,
+      int parallelism,
+      Duration timeout) {
+    this.translationService = translationService;
+    this.keys = keys;
+    this.parallelism = Math.max(1, parallelism);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
+    AtomicInteger failures = new AtomicInteger();
+    List<List<String>> batches = partition(List.copyOf(keys), parallelism);
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            batches.size(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "trans4j-warm-up");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      CompletableFuture<?>[] loads =
+          batches.stream()
+              .map(batch -> CompletableFuture.runAsync(() -> preload(batch, failures), executor))
+              .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(loads).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      log.info(
+          "Loaded {} translation dictionaries in {} ms",
+          keys.size() - failures.get(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (TimeoutException e) {
+      log.warn("Translation warm-up did not complete within {}, continuing startup", timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      log.warn("Translation warm-up failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void preload(List<String> batch, AtomicInteger failures) {
+    try {
+      translationService.preloadAll(batch);
+    } catch (RuntimeException e) {
+      failures.addAndGet(batch.size());
+      log.warn("Failed to preload translations for keys {}", batch, e);
+    }
+  }
+
+  private static List<List<String>> partition(List<String> keys, int count) {
+    int size = (keys.size() + count - 1) / count;
+    List<List<String>> batches = new ArrayList<>(count);
+    for (int from = 0; from < keys.size(); from += size) {
+      batches.add(keys.subList(from, Math.min(keys.size(), from + size)));
+    }
+    return batches;
+  }
+
+  /**
+   * Finds the keys of all {@link Translate} fields declared by classes in the given packages.
+   *
+   * @param packages the packages to scan, including their sub-packages
+   * @param classLoader the class loader to scan and load classes with
+   * @return the translation keys in discovery order
+   */
+  public static Set<String> scanKeys(List<String> packages, ClassLoader classLoader) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (Class<?> type : scanTypes(packages, classLoader)) {
+      collectKeys(type, keys);
+    }
+    return keys;
+  }
+
+  /**
+   * Finds the classes in the given packages that reference the {@link Translate} annotation.
+   *
+   * <p>Class files are first checked for a reference to the annotation, so only the classes that
+   * use it are loaded. They are loaded without being initialized.
+   *
+   * @param packages the packages to scan, including their sub-packages
+   * @param classLoader the class loader to scan and load classes with
+   * @return the classes in discovery order
+   * @since 1.1.0
+   */
+  public static Set<Class<?>> scanTypes(List<String> packages, ClassLoader classLoader) {
+    Set<Class<?>> types = new LinkedHashSet<>();
+    PathMatchingResourcePatternResolver resolver =
+        new PathMatchingResourcePatternResolver(classLoader);
+    MetadataReaderFactory readerFactory = new SimpleMetadataReaderFactory(resolver);
+    for (String pkg : packages) {
+      Resource[] resources;
+      try {
+        resources = resolver.getResources("classpath*:" + pkg.replace('.', '/') + "/**/*.class");
+      } catch (IOException e) {
+        log.warn("Failed to scan package '{}' for translation keys", pkg, e);
+        continue;
+      }
+      for (Resource resource : resources) {
+        try {
+          if (contains(resource.getContentAsByteArray(), TRANSLATE_DESCRIPTOR)) {
+            String className =
+                readerFactory.getMetadataReader(resource).getClassMetadata().getClassName();
+            types.add(Class.forName(className, false, classLoader));
+          }
+        } catch (IOException | ClassNotFoundException | LinkageError e) {
+          // One unreadable or unloadable class must not hide the other classes of the package.
+          log.warn("Failed to scan {} for translation keys", resource, e);
+        }
+      }
+    }
+    return types;
+  }
+
+  private static void collectKeys(Class<?> type, Set<String> keys) {
+    for (Field field : type.getDeclaredFields()) {
+      Translate translate = field.getAnnotation(Translate.class);
+      if (translate != null) {
+        keys.add(translate.key());
+      }
+    }
+  }
+
+  private static boolean contains(byte[] bytes, byte[] pattern) {
+    outer:
+    for (int i = 0, last = bytes.length - pattern.length; i <= last; i++) {
+      for (int j = 0; j < pattern.length; j++) {
+        if (bytes[i + j] != pattern[j]) {
+          continue outer;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
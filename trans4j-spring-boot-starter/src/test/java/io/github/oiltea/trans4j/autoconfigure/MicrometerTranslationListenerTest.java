@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.TranslationListener;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class MicrometerTranslationListenerTest {
+
+  private final TranslationProvider provider = mock(TranslationProvider.class);
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TranslationAutoConfiguration.class))
+          .withBean(TranslationProvider.class, () -> provider);
+
+  @Test
+  @DisplayName("Should record lookups, missing translations and provider calls")
+  void should_record_translation_metrics() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "Male", "2", "Female"));
+
+    runner.run(
+        context -> {
+          SimpleMeterRegistry registry = new SimpleMeterRegistry();
+          context.getBean(MicrometerTranslationListener.class).bindTo(registry);
+          TranslationService service = context.getBean(TranslationService.class);
+
+          service.translate("gender", "1");
+          service.translate("gender", "3");
+
+          assertEquals(
+              1, registry.get("trans4j.cache.gets").tag("result", "miss").counter().count());
+          assertEquals(
+              1, registry.get("trans4j.cache.gets").tag("result", "hit").counter().count());
+          assertEquals(
+              1,
+              registry.get("trans4j.translations.missing").tag("key", "gender").counter().count());
+          assertEquals(
+              1,
+              registry
+                  .get("trans4j.provider.calls")
+                  .tags("key", "gender", "outcome", "success")
+                  .timer()
+                  .count());
+          assertEquals(1, registry.get("trans4j.cache.size").gauge().value());
+          assertEquals(2, registry.get("trans4j.cache.weight").gauge().value());
+        });
+  }
+
+  @Test
+  @DisplayName("Should not register the listener when metrics are disabled")
+  void should_not_register_listener_when_disabled() {
+    runner
+        .withPropertyValues("trans4j.cache.metrics.enabled=false")
+        .run(
+            context ->
+                assertTrue(context.getBeansOfType(MicrometerTranslationListener.class).isEmpty()));
+  }
+
+  @Test
+  @DisplayName("Should back off when the application defines its own listener")
+  void should_back_off_for_custom_listener() {
+    runner
+        .withBean(TranslationListener.class, () -> TranslationListener.NOOP)
+        .run(
+            context ->
+                assertTrue(context.getBeansOfType(MicrometerTranslationListener.class).isEmpty()));
+  }
+}
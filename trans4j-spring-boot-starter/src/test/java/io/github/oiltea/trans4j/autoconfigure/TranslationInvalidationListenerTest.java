@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class TranslationInvalidationListenerTest {
+
+  private final TranslationProvider provider = mock(TranslationProvider.class);
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TranslationAutoConfiguration.class))
+          .withBean(TranslationProvider.class, () -> provider);
+
+  @Test
+  @DisplayName("Should drop the dictionary named by an invalidation event")
+  void should_invalidate_on_event() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "Male")).thenReturn(Map.of("1", "Man"));
+
+    runner.run(
+        context -> {
+          TranslationService service = context.getBean(TranslationService.class);
+          service.translate("gender", "1");
+
+          context.publishEvent(TranslationInvalidationEvent.invalidate(this, "gender"));
+
+          verify(provider, times(1)).get("gender");
+          assertEquals("Man", service.translate("gender", "1"));
+        });
+  }
+
+  @Test
+  @DisplayName("Should load the dictionary again on a reload event")
+  void should_reload_on_event() {
+    when(provider.get("gender")).thenReturn(Map.of("1", "Male")).thenReturn(Map.of("1", "Man"));
+
+    runner.run(
+        context -> {
+          TranslationService service = context.getBean(TranslationService.class);
+          service.translate("gender", "1");
+
+          context.publishEvent(TranslationInvalidationEvent.reload(this, "gender"));
+
+          verify(provider, times(2)).get("gender");
+          assertEquals("Man", service.translate("gender", "1"));
+        });
+  }
+
+  @Test
+  @DisplayName("Should drop every dictionary on an invalidate-all event")
+  void should_invalidate_all_on_event() {
+    when(provider.get(anyString())).thenReturn(Map.of("1", "x"));
+
+    runner.run(
+        context -> {
+          TranslationService service = context.getBean(TranslationService.class);
+          service.translate("gender", "1");
+          service.translate("status", "1");
+
+          context.publishEvent(TranslationInvalidationEvent.invalidateAll(this));
+
+          assertEquals(0, service.estimatedSize());
+        });
+  }
+
+  @Test
+  @DisplayName("Should back off when the application defines its own listener")
+  void should_back_off_for_custom_listener() {
+    TranslationInvalidationListener custom =
+        new TranslationInvalidationListener(mock(TranslationService.class));
+
+    runner
+        .withBean(TranslationInvalidationListener.class, () -> custom)
+        .run(context -> assertSame(custom, context.getBean(TranslationInvalidationListener.class)));
+  }
+}
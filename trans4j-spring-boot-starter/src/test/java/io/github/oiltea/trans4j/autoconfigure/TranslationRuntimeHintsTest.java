@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.EmbeddedTranslationProvider;
+import io.github.oiltea.trans4j.core.Translate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+
+class TranslationRuntimeHintsTest {
+
+  @Test
+  @DisplayName("Should register the annotation and the embedded dictionaries")
+  void should_register_static_hints() {
+    RuntimeHints hints = new RuntimeHints();
+
+    new TranslationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(Translate.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)
+            .test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.resource()
+            .forResource(EmbeddedTranslationProvider.RESOURCE)
+            .test(hints));
+  }
+
+  @Test
+  @DisplayName("Should register the fields of the annotated classes ahead of time")
+  void should_register_annotated_types() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    AutoConfigurationPackages.register(beanFactory, getClass().getPackageName());
+    RuntimeHints hints = new RuntimeHints();
+    GenerationContext context = mock(GenerationContext.class);
+    when(context.getRuntimeHints()).thenReturn(hints);
+
+    BeanFactoryInitializationAotContribution contribution =
+        new TranslationAotProcessor().processAheadOfTime(beanFactory);
+    assertNotNull(contribution);
+    contribution.applyTo(context, mock(BeanFactoryInitializationCode.class));
+
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onType(OrderDto.class)
+            .withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)
+            .test(hints));
+  }
+
+  @Test
+  @DisplayName("Should contribute nothing without auto-configuration packages")
+  void should_skip_without_packages() {
+    assertNull(new TranslationAotProcessor().processAheadOfTime(new DefaultListableBeanFactory()));
+  }
+
+  static class OrderDto {
+
+    String status;
+
+    @Translate(key = "status", from = "status")
+    String statusLabel;
+  }
+}
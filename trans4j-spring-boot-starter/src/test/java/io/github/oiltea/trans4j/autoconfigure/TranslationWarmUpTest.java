@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Oiltea
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.oiltea.trans4j.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.github.oiltea.trans4j.core.Translate;
+import io.github.oiltea.trans4j.core.TranslationProvider;
+import io.github.oiltea.trans4j.core.TranslationService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class TranslationWarmUpTest {
+
+  private final TranslationProvider provider = mock(TranslationProvider.class);
+
+  private final ApplicationContextRunner runner =
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(TranslationAutoConfiguration.class))
+          .withBean(TranslationProvider.class, () -> provider);
+
+  @Test
+  @DisplayName("Should not register the warm-up unless enabled")
+  void should_not_register_warm_up_by_default() {
+    runner.run(context -> assertTrue(context.getBeansOfType(TranslationWarmUp.class).isEmpty()));
+  }
+
+  @Test
+  @DisplayName("Should preload the configured keys with one bulk provider call")
+  void should_preload_configured_keys() {
+    when(provider.getAll(anyCollection())).thenReturn(Map.of("gender", Map.of("1", "Male")));
+
+    runner
+        .withPropertyValues(
+            "trans4j.cache.warm-up.enabled=true", "trans4j.cache.warm-up.keys=gender,status")
+        .run(
+            context -> {
+              context.getBean(TranslationWarmUp.class).run(new DefaultApplicationArguments());
+
+              assertEquals(
+                  "Male", context.getBean(TranslationService.class).translate("gender", "1"));
+              verify(provider).getAll(List.of("gender", "status"));
+              verify(provider, never()).get(anyString());
+            });
+  }
+
+  @Test
+  @DisplayName("Should keep startup going when preloading fails")
+  void should_not_fail_when_preloading_fails() {
+    when(provider.getAll(anyCollection())).thenThrow(new IllegalStateException("down"));
+
+    runner
+        .withPropertyValues(
+            "trans4j.cache.warm-up.enabled=true", "trans4j.cache.warm-up.keys=gender")
+        .run(
+            context ->
+                assertDoesNotThrow(
+                    () ->
+                        context
+                            .getBean(TranslationWarmUp.class)
+                            .run(new DefaultApplicationArguments())));
+  }
+
+  @Test
+  @DisplayName("Should find the keys of the annotated classes in the scanned packages")
+  void should_scan_translate_keys() {
+    List<String> packages = List.of(TranslationWarmUpTest.class.getPackageName());
+    ClassLoader classLoader = TranslationWarmUpTest.class.getClassLoader();
+
+    assertTrue(TranslationWarmUp.scanTypes(packages, classLoader).contains(UserDto.class));
+    assertTrue(TranslationWarmUp.scanKeys(packages, classLoader).contains("gender"));
+  }
+
+  static class UserDto {
+
+    String gender;
+
+    @Translate(key = "gender", from = "gender")
+    String genderLabel;
+  }
+}